@@ -0,0 +1,81 @@
+package xyz.tozymc.reflect.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+import xyz.tozymc.reflect.accessor.Accessor.Type;
+import xyz.tozymc.reflect.accessor.AccessorBackend;
+import xyz.tozymc.reflect.accessor.Accessors;
+import xyz.tozymc.reflect.accessor.ConstructorAccessor;
+import xyz.tozymc.reflect.accessor.FieldAccessor;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+
+/**
+ * Compares the accessors created by each built-in backend, to check the order chosen by
+ * {@code BackendPolicy.calibrate()} on this JVM, with the tiered accessors of the default policy,
+ * promoted during the warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BackendBenchmark {
+
+  @Param({"TIERED", "REFLECTION", "METHOD_HANDLE", "GENERATED", "FIELD_OFFSET"})
+  private String backend;
+
+  private NmsEntity entity;
+  private int id;
+
+  private FieldAccessor ticksLived;
+  private MethodAccessor getId;
+  private ConstructorAccessor<NmsEntity> constructor;
+
+  @Setup
+  public void setup() throws ReflectiveOperationException {
+    entity = new NmsEntity(42);
+    id = 7;
+
+    // No backend on the query, so the accessors follow the default policy.
+    AccessorBackend accessorBackend = backend.equals("TIERED") ? null
+        : (AccessorBackend) AccessorBackend.class.getField(backend).get(null);
+    ticksLived = Accessors.accessField(QueryBuilder.builder(NmsEntity.class).type(Type.FIELD)
+        .name("ticksLived").backend(accessorBackend).build());
+    getId = Accessors.accessMethod(QueryBuilder.builder(NmsEntity.class).type(Type.METHOD)
+        .name("getId").backend(accessorBackend).build());
+    constructor = Accessors.accessConstructor(QueryBuilder.builder(NmsEntity.class)
+        .type(Type.METHOD).paramTypes(int.class).backend(accessorBackend).build());
+  }
+
+  @Benchmark
+  public int getIntField() {
+    return ticksLived.getInt(entity);
+  }
+
+  @Benchmark
+  public void setIntField() {
+    ticksLived.setInt(entity, id);
+  }
+
+  @Benchmark
+  public Object invokeMethod() {
+    return getId.invoke0(entity);
+  }
+
+  @Benchmark
+  public NmsEntity newInstance() {
+    return constructor.newInstance1(id);
+  }
+}
@@ -0,0 +1,106 @@
+package xyz.tozymc.reflect.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.reflect.accessor.Accessors;
+import xyz.tozymc.reflect.accessor.FieldAccessor;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+
+/**
+ * Compares sweeps over a batch of entities through one accessor call per entity with the bulk
+ * operations of accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkBenchmark {
+
+  @Param({"100", "10000"})
+  private int size;
+
+  private NmsEntity[] entities;
+  private int[] ints;
+  private double[] doubles;
+  private Object[] objects;
+
+  private FieldAccessor ticksLived;
+  private FieldAccessor locX;
+  private MethodAccessor getId;
+
+  @Setup
+  public void setup() {
+    entities = new NmsEntity[size];
+    for (int i = 0; i < size; i++) {
+      entities[i] = new NmsEntity(i);
+    }
+    ints = new int[size];
+    doubles = new double[size];
+    objects = new Object[size];
+
+    ticksLived = Accessors.accessField(NmsEntity.class, "ticksLived");
+    locX = Accessors.accessField(NmsEntity.class, "locX");
+    getId = Accessors.accessMethod(NmsEntity.class, "getId");
+  }
+
+  @Benchmark
+  public int[] loopGetIntField() {
+    for (int i = 0; i < entities.length; i++) {
+      ints[i] = ticksLived.getInt(entities[i]);
+    }
+    return ints;
+  }
+
+  @Benchmark
+  public int[] bulkGetIntField() {
+    ticksLived.getAllInt(entities, ints);
+    return ints;
+  }
+
+  @Benchmark
+  public int[] parallelBulkGetIntField() {
+    ticksLived.getAllInt(entities, ints, ForkJoinPool.commonPool());
+    return ints;
+  }
+
+  @Benchmark
+  public double[] loopGetPrivateDoubleField() {
+    for (int i = 0; i < entities.length; i++) {
+      doubles[i] = locX.getDouble(entities[i]);
+    }
+    return doubles;
+  }
+
+  @Benchmark
+  public double[] bulkGetPrivateDoubleField() {
+    locX.getAllDouble(entities, doubles);
+    return doubles;
+  }
+
+  @Benchmark
+  public Object[] loopInvokeMethod() {
+    for (int i = 0; i < entities.length; i++) {
+      objects[i] = getId.invoke0(entities[i]);
+    }
+    return objects;
+  }
+
+  @Benchmark
+  public Object[] bulkInvokeMethod() {
+    getId.invokeAll(entities, objects);
+    return objects;
+  }
+}
@@ -0,0 +1,198 @@
+package xyz.tozymc.reflect.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+import xyz.tozymc.reflect.accessor.Accessor.Type;
+import xyz.tozymc.reflect.accessor.Accessors;
+import xyz.tozymc.reflect.accessor.ConstructorAccessor;
+import xyz.tozymc.reflect.accessor.FieldAccessor;
+import xyz.tozymc.reflect.accessor.LazyConstructorAccessor;
+import xyz.tozymc.reflect.accessor.LazyFieldAccessor;
+import xyz.tozymc.reflect.accessor.LazyMethodAccessor;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+
+/**
+ * Compares direct calls with invocations through accessors that are already looked up, and through
+ * lazy accessors that are resolved by the first invocation of the warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InvocationBenchmark {
+
+  private NmsEntity entity;
+  private int id;
+  private double x;
+  private double y;
+  private double z;
+
+  private Method reflectedGetId;
+  private MethodAccessor getId;
+  private MethodAccessor setPosition;
+  private MethodAccessor isAlive;
+  private FieldAccessor ticksLived;
+  private FieldAccessor locX;
+  private ConstructorAccessor<NmsEntity> constructor;
+  private LazyMethodAccessor lazyGetId;
+  private LazyFieldAccessor lazyTicksLived;
+  private LazyConstructorAccessor<NmsEntity> lazyConstructor;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+    entity = new NmsEntity(42);
+    id = 7;
+    x = 1;
+    y = 2;
+    z = 3;
+
+    reflectedGetId = NmsEntity.class.getMethod("getId");
+    getId = Accessors.accessMethod(NmsEntity.class, "getId");
+    setPosition = Accessors.accessMethod(NmsEntity.class, "setPosition", double.class,
+        double.class, double.class);
+    isAlive = Accessors.accessMethod(NmsEntity.class, "isAlive");
+    ticksLived = Accessors.accessField(NmsEntity.class, "ticksLived");
+    locX = Accessors.accessField(NmsEntity.class, "locX");
+    constructor = Accessors.accessConstructor(NmsEntity.class, int.class);
+    lazyGetId = Accessors.lazyMethod(
+        QueryBuilder.builder(NmsEntity.class).type(Type.METHOD).name("getId").build());
+    lazyTicksLived = Accessors.lazyField(
+        QueryBuilder.builder(NmsEntity.class).type(Type.FIELD).name("ticksLived").build());
+    lazyConstructor = Accessors.lazyConstructor(
+        QueryBuilder.builder(NmsEntity.class).type(Type.METHOD).paramTypes(int.class).build());
+  }
+
+  @Benchmark
+  public int directMethod() {
+    return entity.getId();
+  }
+
+  @Benchmark
+  public Object reflectionMethod() throws InvocationTargetException, IllegalAccessException {
+    return reflectedGetId.invoke(entity);
+  }
+
+  @Benchmark
+  public Object accessorMethod() {
+    return getId.invoke(entity);
+  }
+
+  @Benchmark
+  public Object accessorMethodFixedArity() {
+    return getId.invoke0(entity);
+  }
+
+  @Benchmark
+  public Object lazyAccessorMethodFixedArity() {
+    return lazyGetId.invoke0(entity);
+  }
+
+  @Benchmark
+  public Object accessorPrivateMethod() {
+    return isAlive.invoke(entity);
+  }
+
+  @Benchmark
+  public void directMethodWithParams() {
+    entity.setPosition(x, y, z);
+  }
+
+  @Benchmark
+  public Object accessorMethodWithParams() {
+    return setPosition.invoke(entity, x, y, z);
+  }
+
+  @Benchmark
+  public Object accessorMethodWithPrimitiveParams() {
+    return setPosition.invoke3(entity, x, y, z);
+  }
+
+  @Benchmark
+  public int directGetField() {
+    return entity.ticksLived;
+  }
+
+  @Benchmark
+  public Object accessorGetField() {
+    return ticksLived.get(entity);
+  }
+
+  @Benchmark
+  public int accessorGetIntField() {
+    return ticksLived.getInt(entity);
+  }
+
+  @Benchmark
+  public int lazyAccessorGetIntField() {
+    return lazyTicksLived.getInt(entity);
+  }
+
+  @Benchmark
+  public double accessorGetPrivateDoubleField() {
+    return locX.getDouble(entity);
+  }
+
+  @Benchmark
+  public void directSetField() {
+    entity.ticksLived = id;
+  }
+
+  @Benchmark
+  public void accessorSetField() {
+    ticksLived.set(entity, id);
+  }
+
+  @Benchmark
+  public void accessorSetIntField() {
+    ticksLived.setInt(entity, id);
+  }
+
+  @Benchmark
+  public int accessorGetAndAddIntField() {
+    return ticksLived.getAndAddInt(entity, 1);
+  }
+
+  @Benchmark
+  public boolean accessorCompareAndSetIntField() {
+    return ticksLived.compareAndSetInt(entity, id, id);
+  }
+
+  @Benchmark
+  public void accessorSetReleaseField() {
+    locX.setRelease(entity, x);
+  }
+
+  @Benchmark
+  public NmsEntity directConstructor() {
+    return new NmsEntity(id);
+  }
+
+  @Benchmark
+  public NmsEntity accessorConstructor() {
+    return constructor.newInstance(id);
+  }
+
+  @Benchmark
+  public NmsEntity accessorConstructorFixedArity() {
+    return constructor.newInstance1(id);
+  }
+
+  @Benchmark
+  public NmsEntity lazyAccessorConstructorFixedArity() {
+    return lazyConstructor.newInstance1(id);
+  }
+}
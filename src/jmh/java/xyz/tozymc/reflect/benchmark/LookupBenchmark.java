@@ -0,0 +1,146 @@
+package xyz.tozymc.reflect.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.tozymc.reflect.accessor.Accessor.Query;
+import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+import xyz.tozymc.reflect.accessor.Accessor.Type;
+import xyz.tozymc.reflect.accessor.Accessors;
+import xyz.tozymc.reflect.accessor.FieldAccessor;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+import xyz.tozymc.reflect.resolver.wrapper.ClassWrapper;
+import xyz.tozymc.reflect.util.Constructors;
+import xyz.tozymc.reflect.util.Fields;
+import xyz.tozymc.reflect.util.Methods;
+
+/**
+ * Measures looking up members that were looked up before, which is what code does when it does not
+ * store the accessors, and the static helpers which look up the member on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LookupBenchmark {
+
+  private static final Class<?>[] NO_PARAM_TYPES = new Class<?>[0];
+  private static final Object[] NO_PARAMS = new Object[0];
+  private static final Class<?>[] POSITION_TYPES = {double.class, double.class, double.class};
+  private static final Class<?>[] CONSTRUCTOR_TYPES = {int.class};
+
+  private NmsEntity entity;
+  private Integer id;
+  private Query methodQuery;
+  private Query[] methodQueries;
+  private Query fieldQuery;
+  private ClassWrapper<NmsEntity> wrapper;
+
+  @Setup
+  public void setup() {
+    entity = new NmsEntity(42);
+    id = 7;
+    methodQuery = QueryBuilder.builder(NmsEntity.class)
+        .type(Type.METHOD)
+        .name("setPosition")
+        .paramTypes(POSITION_TYPES)
+        .build();
+    methodQueries = new Query[]{
+        QueryBuilder.builder(NmsEntity.class).type(Type.METHOD).name("a").build(),
+        methodQuery
+    };
+    fieldQuery = QueryBuilder.builder(NmsEntity.class).type(Type.FIELD).name("ticksLived").build();
+    wrapper = new ClassWrapper<>(NmsEntity.class);
+
+    // Warm the caches, so every benchmark measures a hit.
+    accessMethodByQuery();
+    accessMethodByQueries();
+    accessFieldByQuery();
+    accessMethodByName();
+    accessFieldByName();
+  }
+
+  @Benchmark
+  public MethodAccessor accessMethodByQuery() {
+    return Accessors.accessMethod(methodQuery);
+  }
+
+  @Benchmark
+  public MethodAccessor accessMethodByQueries() {
+    return Accessors.accessMethod(methodQueries);
+  }
+
+  @Benchmark
+  public FieldAccessor accessFieldByQuery() {
+    return Accessors.accessField(fieldQuery);
+  }
+
+  @Benchmark
+  public MethodAccessor accessMethodByName() {
+    return Accessors.accessMethod(NmsEntity.class, "setPosition", POSITION_TYPES);
+  }
+
+  @Benchmark
+  public FieldAccessor accessFieldByName() {
+    return Accessors.accessField(NmsEntity.class, "ticksLived");
+  }
+
+  @Benchmark
+  public MethodAccessor classWrapperGetMethod() {
+    return wrapper.getMethod("setPosition", POSITION_TYPES);
+  }
+
+  @Benchmark
+  public FieldAccessor classWrapperGetField() {
+    return wrapper.getField("ticksLived");
+  }
+
+  @Benchmark
+  public Method methodsGetMethod() {
+    return Methods.getMethod(NmsEntity.class, "setPosition", POSITION_TYPES);
+  }
+
+  @Benchmark
+  public Object methodsInvokeMethod() throws InvocationTargetException, IllegalAccessException {
+    return Methods.invokeMethod(entity, "getId", NO_PARAM_TYPES, NO_PARAMS);
+  }
+
+  @Benchmark
+  public Field fieldsGetField() {
+    return Fields.getField(NmsEntity.class, "ticksLived");
+  }
+
+  @Benchmark
+  public Object fieldsReadField() throws IllegalAccessException {
+    return Fields.readField(entity, "ticksLived");
+  }
+
+  @Benchmark
+  public void fieldsWriteField() throws IllegalAccessException {
+    Fields.writeField(entity, "ticksLived", id);
+  }
+
+  @Benchmark
+  public Constructor<?> constructorsGetConstructor() {
+    return Constructors.getConstructor(NmsEntity.class, CONSTRUCTOR_TYPES);
+  }
+
+  @Benchmark
+  public Object constructorsNewInstance() throws ReflectiveOperationException {
+    return Constructors.newInstance(NmsEntity.class, CONSTRUCTOR_TYPES, id);
+  }
+}
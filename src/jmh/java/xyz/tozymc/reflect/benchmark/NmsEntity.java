@@ -0,0 +1,42 @@
+package xyz.tozymc.reflect.benchmark;
+
+/**
+ * Stand-in for a Minecraft server class, with the kind of members plugins access by reflection.
+ *
+ * <p>Public members are accessed through generated accessor classes, private members through
+ * method handles.
+ */
+public class NmsEntity {
+
+  public int ticksLived;
+  private double locX;
+  private double locY;
+  private double locZ;
+  private final int id;
+
+  public NmsEntity() {
+    this(0);
+  }
+
+  public NmsEntity(int id) {
+    this.id = id;
+  }
+
+  private NmsEntity(Object world, int id) {
+    this(id);
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public void setPosition(double x, double y, double z) {
+    this.locX = x;
+    this.locY = y;
+    this.locZ = z;
+  }
+
+  private boolean isAlive() {
+    return ticksLived >= 0;
+  }
+}
@@ -0,0 +1,114 @@
+package xyz.tozymc.reflect.benchmark.startup;
+
+import static xyz.tozymc.reflect.benchmark.startup.ServerLayout.METHOD_PARAM_TYPES;
+import static xyz.tozymc.reflect.benchmark.startup.ServerLayout.NMS_CLASSES;
+import static xyz.tozymc.reflect.benchmark.startup.ServerLayout.OCB_CLASSES;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+import xyz.tozymc.reflect.accessor.Accessor.Query;
+import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+import xyz.tozymc.reflect.accessor.Accessor.Type;
+import xyz.tozymc.reflect.accessor.Accessors;
+import xyz.tozymc.reflect.resolver.minecraft.NmsClassResolver;
+import xyz.tozymc.reflect.resolver.minecraft.OcbClassResolver;
+
+/**
+ * Resolves the classes and members a plugin typically needs when it is enabled.
+ *
+ * <p>Every server class is resolved by a name that works in both layouts, some of them after a
+ * missing name as code supporting several versions does. Then two fields, three methods and a
+ * constructor are accessed, public and private alike, and some methods through a {@code Query[]}
+ * whose first query does not match. CraftBukkit classes are resolved with their {@code getHandle}
+ * method and a field.
+ *
+ * <p>This class is loaded by a {@link ServerClassLoader}, so it runs against the library and
+ * classes of that loader.
+ */
+public final class PluginEnable implements IntSupplier {
+
+  private static final int MEMBERS_PER_NMS_CLASS = 7;
+  private static final int MEMBERS_PER_OCB_CLASS = 3;
+
+  private final ExecutorService executor;
+  private final int parallelism;
+
+  public PluginEnable(ExecutorService executor, int parallelism) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Resolves every class and member, split between {@code parallelism} tasks.
+   *
+   * @return The number of classes and members resolved.
+   */
+  @Override
+  public int getAsInt() {
+    if (parallelism <= 1) {
+      return enable(0, 1);
+    }
+    List<Future<Integer>> tasks = new ArrayList<>(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      int offset = i;
+      tasks.add(executor.submit(() -> enable(offset, parallelism)));
+    }
+    int resolved = 0;
+    try {
+      for (Future<Integer> task : tasks) {
+        resolved += task.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
+    return resolved;
+  }
+
+  private static int enable(int offset, int stride) {
+    int resolved = 0;
+    for (int i = offset; i < NMS_CLASSES.length; i += stride) {
+      resolved += resolveNmsClass(i);
+    }
+    for (int i = offset; i < OCB_CLASSES.length; i += stride) {
+      resolved += resolveOcbClass(i);
+    }
+    return resolved;
+  }
+
+  private static int resolveNmsClass(int index) {
+    String name = NMS_CLASSES[index];
+    NmsClassResolver resolver = NmsClassResolver.resolver();
+    Class<?> clazz = index % 4 == 0 ? resolver.resolve(name + "Legacy", name)
+        : resolver.resolve(name);
+
+    Accessors.accessField(clazz, "f0");
+    Accessors.accessField(clazz, "f1");
+    Accessors.accessMethod(clazz, "m1", METHOD_PARAM_TYPES[1]);
+    Accessors.accessMethod(clazz, "m2", METHOD_PARAM_TYPES[2]);
+    if (index % 3 == 0) {
+      Query[] queries = {
+          QueryBuilder.builder(clazz).type(Type.METHOD).name("a").paramTypes(Object.class).build(),
+          QueryBuilder.builder(clazz).type(Type.METHOD).name("m4").paramTypes(Object.class).build()
+      };
+      Accessors.accessMethod(queries);
+    } else {
+      Accessors.accessMethod(clazz, "m3", METHOD_PARAM_TYPES[3]);
+    }
+    Accessors.accessConstructor(clazz, int.class);
+    return MEMBERS_PER_NMS_CLASS;
+  }
+
+  private static int resolveOcbClass(int index) {
+    Class<?> clazz = OcbClassResolver.resolver().resolve(OCB_CLASSES[index]);
+    Accessors.accessMethod(clazz, "getHandle");
+    Accessors.accessField(clazz, "f0");
+    return MEMBERS_PER_OCB_CLASS;
+  }
+}
@@ -0,0 +1,97 @@
+package xyz.tozymc.reflect.benchmark.startup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class loader of one simulated server start.
+ *
+ * <p>The synthetic server classes, Bukkit and this library are defined again by every loader, so
+ * each server starts with cold library caches, an undetected server version and classes which were
+ * never loaded or reflected before.
+ */
+final class ServerClassLoader extends ClassLoader {
+
+  private static final String[] ISOLATED_PACKAGES = {"xyz.tozymc.", "org.bukkit."};
+  private static final Map<String, byte[]> classpathClasses = new ConcurrentHashMap<>();
+
+  static {
+    registerAsParallelCapable();
+  }
+
+  private final Map<String, byte[]> serverClasses;
+
+  ServerClassLoader(Map<String, byte[]> serverClasses) {
+    super(ServerClassLoader.class.getClassLoader());
+    this.serverClasses = serverClasses;
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> clazz = findLoadedClass(name);
+      if (clazz == null) {
+        byte[] bytes = serverClasses.get(name);
+        if (bytes == null && isIsolated(name)) {
+          bytes = classpathClasses.computeIfAbsent(name, this::readClasspathClass);
+        }
+        if (bytes == null) {
+          return super.loadClass(name, resolve);
+        }
+        clazz = define(name, bytes);
+      }
+      if (resolve) {
+        resolveClass(clazz);
+      }
+      return clazz;
+    }
+  }
+
+  private Class<?> define(String name, byte[] bytes) {
+    int lastDot = name.lastIndexOf('.');
+    if (lastDot > 0) {
+      String packageName = name.substring(0, lastDot);
+      // Class#getPackage() of classes defined by this loader is null on Java 8 without this.
+      if (getPackage(packageName) == null) {
+        try {
+          definePackage(packageName, null, null, null, null, null, null, null);
+        } catch (IllegalArgumentException ignored) {
+          // Defined concurrently.
+        }
+      }
+    }
+    return defineClass(name, bytes, 0, bytes.length);
+  }
+
+  private byte[] readClasspathClass(String name) {
+    InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class");
+    if (in == null) {
+      // ConcurrentHashMap#computeIfAbsent does not store null, the parent reports the error.
+      return null;
+    }
+    try (InputStream stream = in) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        bytes.write(buffer, 0, read);
+      }
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static boolean isIsolated(String name) {
+    for (String isolatedPackage : ISOLATED_PACKAGES) {
+      if (name.startsWith(isolatedPackage)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
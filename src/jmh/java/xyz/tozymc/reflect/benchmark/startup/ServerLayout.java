@@ -0,0 +1,154 @@
+package xyz.tozymc.reflect.benchmark.startup;
+
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Package layouts of the Minecraft server classes.
+ *
+ * <p>Before 1.17, every server class is in the versioned {@code net.minecraft.server.vX_Y_RZ}
+ * package. Since 1.17, server classes are in the sub packages of {@code net.minecraft}. CraftBukkit
+ * classes are in the versioned {@code org.bukkit.craftbukkit.vX_Y_RZ} package in both layouts.
+ *
+ * <p>The versions are plain strings, loading {@code MinecraftVersion} outside a server would fail
+ * to detect the server version.
+ */
+public enum ServerLayout {
+  LEGACY("v1_16_R3", true),
+  MODERN("v1_17_R1", false);
+
+  /**
+   * Server classes, relative to {@code net.minecraft} as in the 1.17 layout.
+   */
+  static final String[] NMS_CLASSES = {
+      "server.MinecraftServer", "server.dedicated.DedicatedServer", "server.level.EntityPlayer",
+      "server.level.WorldServer", "server.network.PlayerConnection", "network.NetworkManager",
+      "network.chat.IChatBaseComponent", "network.chat.ChatComponentText",
+      "network.protocol.Packet", "network.protocol.game.PacketPlayOutChat",
+      "network.protocol.game.PacketPlayOutEntityTeleport",
+      "network.protocol.game.PacketPlayOutSpawnEntity",
+      "network.protocol.game.PacketPlayOutEntityMetadata",
+      "network.protocol.game.PacketPlayOutEntityDestroy",
+      "network.protocol.game.PacketPlayOutPlayerInfo",
+      "network.protocol.game.PacketPlayOutNamedEntitySpawn",
+      "network.protocol.game.PacketPlayOutEntityEquipment",
+      "network.protocol.game.PacketPlayOutScoreboardTeam",
+      "network.protocol.game.PacketPlayOutBlockChange", "network.protocol.game.PacketPlayInUseEntity",
+      "network.syncher.DataWatcher", "network.syncher.DataWatcherObject",
+      "network.syncher.DataWatcherRegistry", "world.entity.Entity", "world.entity.EntityLiving",
+      "world.entity.EntityTypes", "world.entity.decoration.EntityArmorStand",
+      "world.entity.player.EntityHuman", "world.item.Item", "world.item.ItemStack",
+      "world.level.World", "world.level.block.Block", "world.level.block.state.IBlockData",
+      "world.level.chunk.Chunk", "core.BlockPosition", "core.IRegistry", "nbt.NBTTagCompound",
+      "nbt.NBTTagList", "nbt.NBTCompressedStreamTools", "resources.MinecraftKey",
+      "sounds.SoundEffect", "util.MathHelper"
+  };
+
+  /**
+   * CraftBukkit classes, relative to the versioned CraftBukkit package.
+   */
+  static final String[] OCB_CLASSES = {
+      "CraftWorld", "CraftChunk", "entity.CraftEntity", "entity.CraftLivingEntity",
+      "entity.CraftPlayer", "entity.CraftArmorStand", "inventory.CraftItemStack",
+      "block.CraftBlock", "util.CraftMagicNumbers", "util.CraftChatMessage"
+  };
+
+  static final int FIELD_COUNT = 40;
+  static final int METHOD_COUNT = 80;
+
+  /**
+   * Field {@code f<i>} has type {@code FIELD_TYPES[i % FIELD_TYPES.length]}.
+   */
+  static final Class<?>[] FIELD_TYPES = {
+      int.class, double.class, Object.class, String.class, boolean.class, long.class
+  };
+
+  /**
+   * Method {@code m<i>} has parameter types {@code METHOD_PARAM_TYPES[i % METHOD_PARAM_TYPES
+   * .length]} and returns {@code FIELD_TYPES[i % FIELD_TYPES.length]}.
+   */
+  static final Class<?>[][] METHOD_PARAM_TYPES = {
+      {}, {int.class}, {double.class, double.class, double.class}, {Object.class, int.class},
+      {Object.class}
+  };
+
+  static final Class<?>[][] CONSTRUCTOR_PARAM_TYPES = {
+      {}, {int.class}, {Object.class, int.class}
+  };
+
+  private final String version;
+  private final boolean nmsPackage;
+
+  ServerLayout(String version, boolean nmsPackage) {
+    this.version = version;
+    this.nmsPackage = nmsPackage;
+  }
+
+  /**
+   * Generates the class files of the server.
+   *
+   * @return Class files by binary class name.
+   */
+  Map<String, byte[]> generateClasses() {
+    Map<String, byte[]> classes = new HashMap<>();
+    for (String name : NMS_CLASSES) {
+      String binaryName = nmsName(name);
+      classes.put(binaryName, writeServerClass(binaryName, false));
+    }
+    for (String name : OCB_CLASSES) {
+      String binaryName = ocbName(name);
+      classes.put(binaryName, writeServerClass(binaryName, true));
+    }
+    String craftServer = craftServerName();
+    classes.put(craftServer,
+        new SyntheticClassWriter(craftServer, "org.bukkit.Server").constructor("()V", 1)
+            .toByteArray());
+    return classes;
+  }
+
+  String craftServerName() {
+    return ocbName("CraftServer");
+  }
+
+  private String nmsName(String name) {
+    if (!nmsPackage) {
+      return "net.minecraft." + name;
+    }
+    return "net.minecraft.server." + version + '.' + name.substring(name.lastIndexOf('.') + 1);
+  }
+
+  private String ocbName(String name) {
+    return "org.bukkit.craftbukkit." + version + '.' + name;
+  }
+
+  private static byte[] writeServerClass(String binaryName, boolean craftBukkit) {
+    SyntheticClassWriter writer = new SyntheticClassWriter(binaryName);
+    for (int i = 0; i < FIELD_COUNT; i++) {
+      writer.field(access(i), "f" + i, descriptor(FIELD_TYPES[i % FIELD_TYPES.length]));
+    }
+    for (int i = 0; i < METHOD_COUNT; i++) {
+      Class<?>[] paramTypes = METHOD_PARAM_TYPES[i % METHOD_PARAM_TYPES.length];
+      Class<?> returnType = FIELD_TYPES[i % FIELD_TYPES.length];
+      writer.nativeMethod(access(i), "m" + i,
+          MethodType.methodType(returnType, paramTypes).toMethodDescriptorString());
+    }
+    for (Class<?>[] paramTypes : CONSTRUCTOR_PARAM_TYPES) {
+      MethodType type = MethodType.methodType(void.class, paramTypes);
+      writer.constructor(type.toMethodDescriptorString(), 1 + paramTypes.length);
+    }
+    if (craftBukkit) {
+      writer.nativeMethod(SyntheticClassWriter.ACC_PUBLIC, "getHandle", "()Ljava/lang/Object;");
+    }
+    return writer.toByteArray();
+  }
+
+  private static int access(int index) {
+    // Public members are generated, private members go through method handles.
+    return index % 2 == 0 ? SyntheticClassWriter.ACC_PUBLIC : SyntheticClassWriter.ACC_PRIVATE;
+  }
+
+  private static String descriptor(Class<?> type) {
+    return MethodType.methodType(type).toMethodDescriptorString().substring(2);
+  }
+}
@@ -0,0 +1,83 @@
+package xyz.tozymc.reflect.benchmark.startup;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of the first resolution of the classes and members a plugin needs, as on
+ * plugin enable.
+ *
+ * <p>Every iteration starts a new simulated server in its own {@link ServerClassLoader}, with
+ * synthetic classes in the {@link ServerLayout} under test, then runs {@link PluginEnable} once.
+ * With {@code parallelism} above 1, the classes are resolved by that many threads at the same time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+public class StartupBenchmark {
+
+  @Param({"LEGACY", "MODERN"})
+  public ServerLayout layout;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  private Map<String, byte[]> serverClasses;
+  private ExecutorService executor;
+  private IntSupplier pluginEnable;
+
+  @Setup(Level.Trial)
+  public void generateServer() {
+    serverClasses = layout.generateClasses();
+    if (parallelism > 1) {
+      executor = Executors.newFixedThreadPool(parallelism);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void startServer() throws ReflectiveOperationException {
+    ServerClassLoader loader = new ServerClassLoader(serverClasses);
+
+    // What the server does before enabling plugins, the library detects the version from it.
+    Object server = loader.loadClass(layout.craftServerName()).getConstructor().newInstance();
+    Field serverField = loader.loadClass("org.bukkit.Bukkit").getDeclaredField("server");
+    serverField.setAccessible(true);
+    serverField.set(null, server);
+
+    pluginEnable = (IntSupplier) loader.loadClass(PluginEnable.class.getName())
+        .getConstructor(ExecutorService.class, int.class)
+        .newInstance(executor, parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void stopExecutor() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Benchmark
+  public int enable() {
+    return pluginEnable.getAsInt();
+  }
+}
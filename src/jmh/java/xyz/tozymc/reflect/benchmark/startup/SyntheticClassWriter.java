@@ -0,0 +1,189 @@
+package xyz.tozymc.reflect.benchmark.startup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the class files of synthetic server classes.
+ *
+ * <p>Constructors only call {@code Object()}, methods are native so they need no code. The classes
+ * can be loaded, reflected and unreflected like real server classes, but their methods are never
+ * invoked by the benchmark.
+ */
+final class SyntheticClassWriter {
+
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_PRIVATE = 0x0002;
+  private static final int ACC_SUPER = 0x0020;
+  private static final int ACC_NATIVE = 0x0100;
+
+  private static final int CLASS_VERSION = 52;
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+  private static final String OBJECT = "java/lang/Object";
+
+  private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+  private final DataOutputStream pool = new DataOutputStream(poolBytes);
+  private final Map<String, Integer> constants = new HashMap<>();
+  private final List<byte[]> fields = new ArrayList<>();
+  private final List<byte[]> methods = new ArrayList<>();
+  private int poolCount = 1;
+
+  private final String name;
+  private final String[] interfaces;
+
+  SyntheticClassWriter(String binaryName, String... interfaces) {
+    this.name = binaryName.replace('.', '/');
+    this.interfaces = interfaces;
+  }
+
+  SyntheticClassWriter field(int access, String name, String descriptor) {
+    fields.add(member(access, name, descriptor, null));
+    return this;
+  }
+
+  SyntheticClassWriter nativeMethod(int access, String name, String descriptor) {
+    methods.add(member(access | ACC_NATIVE, name, descriptor, null));
+    return this;
+  }
+
+  SyntheticClassWriter constructor(String descriptor, int maxLocals) {
+    int superConstructor = methodRef(OBJECT, "<init>", "()V");
+    int codeName = utf8("Code");
+    methods.add(member(ACC_PUBLIC, "<init>", descriptor, out -> {
+      out.writeShort(1); // attributes
+      out.writeShort(codeName);
+      out.writeInt(12 + 5); // Code attribute length
+      out.writeShort(1); // max stack
+      out.writeShort(maxLocals);
+      out.writeInt(5); // code length
+      out.writeByte(0x2a); // aload_0
+      out.writeByte(0xb7); // invokespecial
+      out.writeShort(superConstructor);
+      out.writeByte(0xb1); // return
+      out.writeShort(0); // exception table
+      out.writeShort(0); // attributes
+    }));
+    return this;
+  }
+
+  byte[] toByteArray() {
+    int thisClass = classRef(name);
+    int superClass = classRef(OBJECT);
+    int[] interfaceIndexes = new int[interfaces.length];
+    for (int i = 0; i < interfaces.length; i++) {
+      interfaceIndexes[i] = classRef(interfaces[i].replace('.', '/'));
+    }
+    return write(out -> {
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0);
+      out.writeShort(CLASS_VERSION);
+      out.writeShort(poolCount);
+      pool.flush();
+      poolBytes.writeTo(out);
+      out.writeShort(ACC_PUBLIC | ACC_SUPER);
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(interfaceIndexes.length);
+      for (int index : interfaceIndexes) {
+        out.writeShort(index);
+      }
+      out.writeShort(fields.size());
+      for (byte[] field : fields) {
+        out.write(field);
+      }
+      out.writeShort(methods.size());
+      for (byte[] method : methods) {
+        out.write(method);
+      }
+      out.writeShort(0); // attributes
+    });
+  }
+
+  private byte[] member(int access, String name, String descriptor, Writer attributes) {
+    int nameIndex = utf8(name);
+    int descriptorIndex = utf8(descriptor);
+    return write(out -> {
+      out.writeShort(access);
+      out.writeShort(nameIndex);
+      out.writeShort(descriptorIndex);
+      if (attributes == null) {
+        out.writeShort(0);
+      } else {
+        attributes.write(out);
+      }
+    });
+  }
+
+  private int utf8(String value) {
+    return constant("U" + value, out -> {
+      out.writeByte(CONSTANT_UTF8);
+      out.writeUTF(value);
+    });
+  }
+
+  private int classRef(String internalName) {
+    int nameIndex = utf8(internalName);
+    return constant("C" + internalName, out -> {
+      out.writeByte(CONSTANT_CLASS);
+      out.writeShort(nameIndex);
+    });
+  }
+
+  private int methodRef(String owner, String name, String descriptor) {
+    int ownerIndex = classRef(owner);
+    int nameIndex = utf8(name);
+    int descriptorIndex = utf8(descriptor);
+    int nameAndType = constant("N" + name + ':' + descriptor, out -> {
+      out.writeByte(CONSTANT_NAME_AND_TYPE);
+      out.writeShort(nameIndex);
+      out.writeShort(descriptorIndex);
+    });
+    return constant("M" + owner + '.' + name + ':' + descriptor, out -> {
+      out.writeByte(CONSTANT_METHODREF);
+      out.writeShort(ownerIndex);
+      out.writeShort(nameAndType);
+    });
+  }
+
+  private int constant(String key, Writer writer) {
+    Integer index = constants.get(key);
+    if (index != null) {
+      return index;
+    }
+    try {
+      writer.write(pool);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    constants.put(key, poolCount);
+    return poolCount++;
+  }
+
+  private static byte[] write(Writer writer) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      writer.write(out);
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+
+    void write(DataOutputStream out) throws IOException;
+  }
+}
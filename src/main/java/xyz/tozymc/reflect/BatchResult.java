@@ -0,0 +1,183 @@
+package xyz.tozymc.reflect;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * The result of resolving a batch of keys, with every value resolved and every failure.
+ *
+ * <p>A batch does not stop at the first failure, every key is resolved and the failures are
+ * aggregated, so a plugin can report all missing classes and members of a version at once.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the resolved values.
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class BatchResult<K, V> {
+
+  private final Map<K, V> values;
+  private final Map<K, RuntimeException> failures;
+
+  private BatchResult(Map<K, V> values, Map<K, RuntimeException> failures) {
+    this.values = Collections.unmodifiableMap(values);
+    this.failures = Collections.unmodifiableMap(failures);
+  }
+
+  /**
+   * Resolves every key in parallel on the fork-join pool.
+   *
+   * <p>Keys are split recursively between the workers of the pool. A key whose resolution throws
+   * a {@link RuntimeException} or a {@link LinkageError} is a failure of the batch, other keys are
+   * still resolved.
+   *
+   * @param keys     Keys to resolve.
+   * @param resolver Function resolving one key.
+   * @param pool     Pool running the resolutions.
+   * @param <K>      Type of the keys.
+   * @param <V>      Type of the resolved values.
+   * @return The result of the batch, in the order of the keys.
+   */
+  public static <K, V> @NotNull BatchResult<K, V> resolve(@NotNull Collection<? extends K> keys,
+      @NotNull Function<? super K, ? extends V> resolver, @NotNull ForkJoinPool pool) {
+    Preconditions.checkNotNull(keys, "Keys cannot be null");
+    Preconditions.checkNotNull(resolver, "Resolver cannot be null");
+    Preconditions.checkNotNull(pool, "Pool cannot be null");
+
+    List<K> keyList = new ArrayList<>(keys);
+    Object[] values = new Object[keyList.size()];
+    RuntimeException[] failures = new RuntimeException[keyList.size()];
+    if (!keyList.isEmpty()) {
+      pool.invoke(new ResolveTask<>(keyList, resolver, values, failures, 0, keyList.size()));
+    }
+
+    Map<K, V> valueMap = new LinkedHashMap<>();
+    Map<K, RuntimeException> failureMap = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      if (failures[i] != null) {
+        failureMap.put(keyList.get(i), failures[i]);
+      } else {
+        @SuppressWarnings("unchecked")
+        V value = (V) values[i];
+        valueMap.put(keyList.get(i), value);
+      }
+    }
+    return new BatchResult<>(valueMap, failureMap);
+  }
+
+  /**
+   * Checks if every key was resolved.
+   *
+   * @return True if no key failed.
+   */
+  @Contract(pure = true)
+  public boolean isSuccess() {
+    return failures.isEmpty();
+  }
+
+  /**
+   * Gets the value resolved for the key.
+   *
+   * @param key The key.
+   * @return The value, or {@code null} if the key failed or is not in the batch.
+   */
+  public @Nullable V get(K key) {
+    return values.get(key);
+  }
+
+  /**
+   * Gets the resolved values.
+   *
+   * @return An unmodifiable map of the resolved values, in the order of the keys.
+   */
+  @Contract(pure = true)
+  public @NotNull Map<K, V> values() {
+    return values;
+  }
+
+  /**
+   * Gets the failures.
+   *
+   * @return An unmodifiable map of the exception of every key that failed, in the order of the
+   *     keys.
+   */
+  @Contract(pure = true)
+  public @NotNull Map<K, RuntimeException> failures() {
+    return failures;
+  }
+
+  /**
+   * Gets the resolved values, or throws if any key failed.
+   *
+   * @return An unmodifiable map of the resolved values, in the order of the keys.
+   * @throws RuntimeException If any key failed, with the exception of every failure suppressed.
+   */
+  public @NotNull Map<K, V> getOrThrow() {
+    if (failures.isEmpty()) {
+      return values;
+    }
+    RuntimeException exception = new RuntimeException(
+        "Cannot resolve " + failures.size() + " of " + (values.size() + failures.size()) + ": "
+            + failures.keySet());
+    failures.values().forEach(exception::addSuppressed);
+    throw exception;
+  }
+
+  @Override
+  public String toString() {
+    return "BatchResult{" +
+        "values=" + values.size() +
+        ", failures=" + failures.keySet() +
+        '}';
+  }
+
+  private static final class ResolveTask<K, V> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<K> keys;
+    private final Function<? super K, ? extends V> resolver;
+    private final Object[] values;
+    private final RuntimeException[] failures;
+    private final int start;
+    private final int end;
+
+    private ResolveTask(List<K> keys, Function<? super K, ? extends V> resolver, Object[] values,
+        RuntimeException[] failures, int start, int end) {
+      this.keys = keys;
+      this.resolver = resolver;
+      this.values = values;
+      this.failures = failures;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start > 1) {
+        int middle = (start + end) >>> 1;
+        invokeAll(new ResolveTask<>(keys, resolver, values, failures, start, middle),
+            new ResolveTask<>(keys, resolver, values, failures, middle, end));
+        return;
+      }
+      try {
+        values[start] = resolver.apply(keys.get(start));
+      } catch (RuntimeException e) {
+        failures[start] = e;
+      } catch (LinkageError e) {
+        failures[start] = new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -5,6 +5,7 @@ import java.util.Objects;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Interface to mark accessor classes.
@@ -22,6 +23,17 @@ public interface Accessor {
     FIELD, METHOD
   }
 
+  /**
+   * Gets the backend that created this accessor for {@link Accessors}, see {@link BackendPolicy}.
+   *
+   * @return The backend, or {@code null} if the accessor was not created for {@code Accessors},
+   *     such as an accessor constructed directly or a lazy accessor.
+   * @since 1.1
+   */
+  default @Nullable AccessorBackend backend() {
+    return null;
+  }
+
   /**
    * The class that stores the query for the accessor.
    *
@@ -34,12 +46,17 @@ public interface Accessor {
     private final Type type;
     private final String name;
     private final Class<?>[] paramTypes;
+    private final AccessorBackend backend;
+    private final int hash;
 
-    private Query(Class<?> clazz, @NotNull Type type, String name, Class<?>[] paramTypes) {
+    private Query(Class<?> clazz, @NotNull Type type, String name, Class<?>[] paramTypes,
+        @Nullable AccessorBackend backend) {
       this.clazz = clazz;
       this.type = type;
       this.name = name;
       this.paramTypes = paramTypes;
+      this.backend = backend;
+      this.hash = computeHash();
     }
 
     @NotNull
@@ -60,6 +77,15 @@ public interface Accessor {
       return paramTypes;
     }
 
+    /**
+     * Gets the backend that creates the accessor, tried before the {@link BackendPolicy} of {@link
+     * Accessors}.
+     *
+     * @return The backend, or {@code null} to follow the policy.
+     */
+    public @Nullable AccessorBackend backend() {
+      return backend;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -72,12 +98,16 @@ public interface Accessor {
       Query query = (Query) o;
       return Objects.equals(clazz, query.clazz) && type == query.type
           && Objects.equals(name, query.name) && Arrays.equals(paramTypes,
-          query.paramTypes);
+          query.paramTypes) && Objects.equals(backend, query.backend);
     }
 
     @Override
     public int hashCode() {
-      int result = Objects.hash(clazz, type, name);
+      return hash;
+    }
+
+    private int computeHash() {
+      int result = Objects.hash(clazz, type, name, backend);
       result = 31 * result + Arrays.hashCode(paramTypes);
       return result;
     }
@@ -89,6 +119,7 @@ public interface Accessor {
           ", type=" + type +
           (name.isEmpty() ? "" : ", name='" + name + '\'') +
           (paramTypes.length == 0 ? "" : ", paramTypes=" + Arrays.toString(paramTypes)) +
+          (backend == null ? "" : ", backend=" + backend.name()) +
           '}';
     }
   }
@@ -105,6 +136,7 @@ public interface Accessor {
     private Type type = null;
     private String name = "";
     private Class<?>[] paramTypes = new Class[0];
+    private AccessorBackend backend = null;
 
     QueryBuilder(@NotNull Class<?> clazz) {
       this.clazz = clazz;
@@ -130,7 +162,8 @@ public interface Accessor {
     public static @NotNull QueryBuilder builder(@NotNull Query query) {
       return builder(query.clazz).type(query.type)
           .name(query.name)
-          .paramTypes(query.paramTypes);
+          .paramTypes(query.paramTypes)
+          .backend(query.backend);
     }
 
     /**
@@ -172,6 +205,21 @@ public interface Accessor {
       return this;
     }
 
+    /**
+     * Set the backend that creates the accessor, instead of the first backend of the {@link
+     * BackendPolicy} of {@link Accessors} that supports the member.
+     *
+     * <p>If the backend does not support the member, the policy is followed. Queries with
+     * different backends are cached separately.
+     *
+     * @param backend The backend, or {@code null} to follow the policy.
+     * @return This object, for chaining.
+     */
+    public QueryBuilder backend(@Nullable AccessorBackend backend) {
+      this.backend = backend;
+      return this;
+    }
+
     /**
      * Creates new query for the accessor.
      *
@@ -185,7 +233,8 @@ public interface Accessor {
         }
         type = Type.METHOD;
       }
-      return new Query(clazz, type, name, paramTypes);
+      // Copy the parameter types, the query hash must not change after it is built.
+      return new Query(clazz, type, name, paramTypes.clone(), backend);
     }
   }
 }
@@ -0,0 +1,88 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A strategy that creates accessors of members, consulted by {@link Accessors} through its
+ * {@link BackendPolicy}.
+ *
+ * <p>A backend returns {@code null} for members it does not support, the policy then tries the
+ * next backend. The built-in backends are {@link #REFLECTION}, {@link #METHOD_HANDLE},
+ * {@link #GENERATED} and {@link #FIELD_OFFSET}, other backends can be implemented and put in a
+ * policy or in a query, see {@link Accessor.QueryBuilder#backend(AccessorBackend)}.
+ *
+ * <p>Backends are used from multiple threads, so implementations must be thread safe.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public interface AccessorBackend {
+
+  /**
+   * Accesses members through core reflection, {@link Field#get(Object)}, {@link
+   * Method#invoke(Object, Object...)} and {@link Constructor#newInstance(Object...)}.
+   *
+   * <p>Accessors are the cheapest to create, the JVM inflates hot members to generated code by
+   * itself.
+   */
+  AccessorBackend REFLECTION = BuiltinBackend.REFLECTION;
+
+  /**
+   * Accesses members through method handles, the accessors of the public constructors of {@link
+   * FieldAccessor}, {@link MethodAccessor} and {@link ConstructorAccessor}. Supports every member.
+   */
+  AccessorBackend METHOD_HANDLE = BuiltinBackend.METHOD_HANDLE;
+
+  /**
+   * Accesses members through classes generated by {@link
+   * xyz.tozymc.reflect.accessor.generator.AccessorGenerator}, which access the member directly.
+   * Does not support members that are not accessible from another package.
+   */
+  AccessorBackend GENERATED = BuiltinBackend.GENERATED;
+
+  /**
+   * Accesses fields through their offset with {@code sun.misc.Unsafe}. Does not support final and
+   * volatile fields, methods and constructors.
+   *
+   * <p>Unlike the accessors of the other backends, its accessors are plain {@link
+   * FieldAccessor}s for every field type, not specialized ones such as {@link IntFieldAccessor}.
+   * They still read and write {@code int}, {@code long} and {@code double} fields without boxing.
+   */
+  AccessorBackend FIELD_OFFSET = BuiltinBackend.FIELD_OFFSET;
+
+  /**
+   * Gets the name of this backend, used in {@link BackendPolicy#toString()}.
+   *
+   * @return The name of this backend.
+   */
+  @NotNull String name();
+
+  /**
+   * Creates the accessor of the field.
+   *
+   * @param field The field to access.
+   * @return The accessor, or {@code null} if this backend does not support the field.
+   */
+  @Nullable FieldAccessor field(@NotNull Field field);
+
+  /**
+   * Creates the accessor of the method.
+   *
+   * @param method The method to access.
+   * @return The accessor, or {@code null} if this backend does not support the method.
+   */
+  @Nullable MethodAccessor method(@NotNull Method method);
+
+  /**
+   * Creates the accessor of the constructor.
+   *
+   * @param constructor The constructor to access.
+   * @param <T>         Type of constructor.
+   * @return The accessor, or {@code null} if this backend does not support the constructor.
+   */
+  <T> @Nullable ConstructorAccessor<T> constructor(@NotNull Constructor<T> constructor);
+}
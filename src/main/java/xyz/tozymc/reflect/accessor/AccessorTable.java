@@ -0,0 +1,65 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The table of accessors of one class, looked up by member name and parameter types.
+ *
+ * <p>Lookups use the name and the parameter types array passed by the caller as they are, so a
+ * lookup of a cached accessor does not allocate. Entries are only added, in arrays that are
+ * replaced on write, so lookups do not lock.
+ *
+ * @param <A> Type of accessors.
+ * @author TozyMC
+ * @since 1.1
+ */
+final class AccessorTable<A extends Accessor> {
+
+  private final Map<String, Entry<A>[]> entries = new ConcurrentHashMap<>();
+
+  @Nullable A get(@NotNull String name, Class<?> @NotNull [] paramTypes) {
+    Entry<A>[] overloads = entries.get(name);
+    if (overloads == null) {
+      return null;
+    }
+    for (Entry<A> entry : overloads) {
+      if (Arrays.equals(entry.paramTypes, paramTypes)) {
+        return entry.accessor;
+      }
+    }
+    return null;
+  }
+
+  void put(@NotNull String name, Class<?> @NotNull [] paramTypes, @NotNull A accessor) {
+    Entry<A> entry = new Entry<>(paramTypes.clone(), accessor);
+    entries.merge(name, of(entry), AccessorTable::concat);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <A extends Accessor> Entry<A>[] of(Entry<A> entry) {
+    Entry<A>[] entries = (Entry<A>[]) new Entry<?>[1];
+    entries[0] = entry;
+    return entries;
+  }
+
+  private static <A extends Accessor> Entry<A>[] concat(Entry<A>[] first, Entry<A>[] second) {
+    Entry<A>[] entries = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, entries, first.length, second.length);
+    return entries;
+  }
+
+  private static final class Entry<A> {
+
+    private final Class<?>[] paramTypes;
+    private final A accessor;
+
+    private Entry(Class<?>[] paramTypes, A accessor) {
+      this.paramTypes = paramTypes;
+      this.accessor = accessor;
+    }
+  }
+}
@@ -2,14 +2,27 @@ package xyz.tozymc.reflect.accessor;
 
 import static xyz.tozymc.reflect.accessor.Accessor.Type.FIELD;
 import static xyz.tozymc.reflect.accessor.Accessor.Type.METHOD;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.ACCESSOR_FAILURES;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.ACCESSOR_FALLBACKS;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.ACCESSOR_HITS;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.ACCESSOR_MISSES;
 import static xyz.tozymc.reflect.util.NotFoundMessages.constructorNotFound;
 import static xyz.tozymc.reflect.util.NotFoundMessages.fieldNotFound;
 import static xyz.tozymc.reflect.util.NotFoundMessages.methodNotFound;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.BatchResult;
 import xyz.tozymc.reflect.accessor.Accessor.Query;
 import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+import xyz.tozymc.reflect.accessor.Accessor.Type;
+import xyz.tozymc.reflect.accessor.generator.AccessorGenerator;
+import xyz.tozymc.reflect.cache.ResolutionCache;
+import xyz.tozymc.reflect.mapping.MappingIndex;
+import xyz.tozymc.reflect.metrics.Events;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.metrics.Metrics.Resolution;
 import xyz.tozymc.reflect.util.Constructors;
 import xyz.tozymc.reflect.util.Fields;
 import xyz.tozymc.reflect.util.Methods;
@@ -19,32 +32,93 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Utilities to access class members.
  *
- * <p>Accessed members will be cached to optimize performance.
+ * <p>Accessed members will be cached to optimize performance. The cache is safe to use from
+ * multiple threads: cached accessors are read without locking, and each query is resolved only
+ * once even if several threads access it at the same time. Queries are resolved outside the locks
+ * of the cache, so a class initializer run by a resolution can access members too.
+ *
+ * <p>Lookups by class, name and parameter types are cached per class as well, so looking up an
+ * accessed member again does not allocate.
+ *
+ * <p>Fields and methods are found among the members declared by the class of the query, then
+ * among the members it inherits from superclasses and interfaces, the nearest one first.
+ *
+ * <p>For an array of queries, the first accessor found is cached for the whole array, so later
+ * calls with equal queries skip the queries that were not found.
+ *
+ * <p>Lazy accessors, for example kept in {@code static final} fields, resolve their queries on
+ * first use instead, see {@link #lazyMethod(Query)}.
+ *
+ * <p>Many queries, for example every member a plugin needs, can be resolved at once in parallel
+ * with {@link #accessAll(Collection, ForkJoinPool)}, which reports every query that failed.
+ *
+ * <p>Accessors found by query are created by the {@link AccessorBackend}s of the {@link
+ * BackendPolicy}, see {@link #setBackendPolicy(BackendPolicy)}, or by the backend of the query. By
+ * default, they start on core reflection and are promoted in place once they are hot, unless the
+ * {@link BackendPolicy#promotionThreshold()} is {@code 0}. Promoted accessors are generated by
+ * {@link AccessorGenerator} when the member is supported, so they access the member directly.
+ * Otherwise, they access the member through method handles.
+ *
+ * <p>If a {@link ResolutionCache} is open, members known to be missing from the server jar are
+ * not looked up, fallback queries start from the query found on the last start, and the members
+ * and queries found are recorded for the next start.
+ *
+ * <p>If a {@link MappingIndex} is open, names of fields and methods in queries are translated from
+ * Mojang names to the names of the running server before the members are looked up.
+ *
+ * <p>If {@link Metrics} are enabled, cache hits, misses, failed queries and fallback queries are
+ * counted, and the time of every resolution is recorded. On Java 11 and later, every resolution is
+ * also emitted as a Flight Recorder event, see {@link Events}.
  *
  * @author TozyMC
  * @since 1.0
  */
 public final class Accessors {
 
-  private static final Map<Query, Accessor> accessedObjects = new HashMap<>();
+  private static final Map<Query, Accessor> accessedObjects = new ConcurrentHashMap<>();
+  private static final Map<QueryGroup, Accessor> accessedGroups = new ConcurrentHashMap<>();
+  // Resolutions in progress, which other threads resolving the same key wait for.
+  private static final Map<Query, Resolving> resolvingObjects = new ConcurrentHashMap<>();
+  private static final Map<QueryGroup, Resolving> resolvingGroups = new ConcurrentHashMap<>();
+
+  // Per-class tables in front of accessedObjects, so repeated lookups by class, name and parameter
+  // types do not build a query.
+  private static final Class<?>[] NO_PARAM_TYPES = new Class<?>[0];
+  private static final ClassValue<AccessorTable<FieldAccessor>> fieldTables = tables();
+  private static final ClassValue<AccessorTable<MethodAccessor>> methodTables = tables();
+  private static final ClassValue<AccessorTable<ConstructorAccessor<?>>> constructorTables =
+      tables();
+
+  private static volatile BackendPolicy backendPolicy =
+      Boolean.getBoolean(BackendPolicy.CALIBRATE_PROPERTY) ? BackendPolicy.calibrate()
+          : BackendPolicy.defaultPolicy();
 
   /**
    * Creates new field accessor with field is accessible.
    *
    * <p><b>Notes: </b>This field will not be cached.
    *
+   * <p>If the field type is primitive, the accessor is specialized for the type, see {@link
+   * FieldAccessor#of(Field)}.
+   *
    * @param field Field to access.
    * @return Field accessor with field is accessible.
    */
   @Contract("_ -> new")
   public static @NotNull FieldAccessor accessField(@NotNull Field field) {
-    return new FieldAccessor(field);
+    return FieldAccessor.of(field);
   }
 
   /**
@@ -84,7 +158,18 @@ public final class Accessors {
    * @see #accessField(Query)
    */
   public static FieldAccessor accessField(@NotNull Class<?> clazz, @NotNull String name) {
-    return accessField(QueryBuilder.builder(clazz).type(FIELD).name(name).build());
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+    Preconditions.checkNotNull(name, "Name cannot be null");
+
+    AccessorTable<FieldAccessor> table = fieldTables.get(clazz);
+    FieldAccessor accessed = table.get(name, NO_PARAM_TYPES);
+    if (accessed != null) {
+      Metrics.increment(ACCESSOR_HITS);
+      return accessed;
+    }
+    accessed = accessField(QueryBuilder.builder(clazz).type(FIELD).name(name).build());
+    table.put(name, NO_PARAM_TYPES, accessed);
+    return accessed;
   }
 
   /**
@@ -96,10 +181,21 @@ public final class Accessors {
    * @return Constructor accessor with constructor found.
    * @see #accessConstructor(Query)
    */
+  @SuppressWarnings("unchecked")
   public static <T> ConstructorAccessor<T> accessConstructor(@NotNull Class<?> clazz,
       @NotNull Class<?>... paramTypes) {
-    return accessConstructor(
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+
+    AccessorTable<ConstructorAccessor<?>> table = constructorTables.get(clazz);
+    ConstructorAccessor<?> accessed = table.get("", paramTypes);
+    if (accessed != null) {
+      Metrics.increment(ACCESSOR_HITS);
+      return (ConstructorAccessor<T>) accessed;
+    }
+    accessed = accessConstructor(
         QueryBuilder.builder(clazz).type(METHOD).paramTypes(paramTypes).build());
+    table.put("", paramTypes, accessed);
+    return (ConstructorAccessor<T>) accessed;
   }
 
   /**
@@ -113,71 +209,64 @@ public final class Accessors {
    */
   public static MethodAccessor accessMethod(@NotNull Class<?> clazz, @NotNull String name,
       @NotNull Class<?>... paramTypes) {
-    return accessMethod(
+    Preconditions.checkNotNull(clazz, "Clazz cannot be null");
+    Preconditions.checkNotNull(name, "Name cannot be null");
+
+    AccessorTable<MethodAccessor> table = methodTables.get(clazz);
+    MethodAccessor accessed = table.get(name, paramTypes);
+    if (accessed != null) {
+      Metrics.increment(ACCESSOR_HITS);
+      return accessed;
+    }
+    accessed = accessMethod(
         QueryBuilder.builder(clazz).type(METHOD).name(name).paramTypes(paramTypes).build());
+    table.put(name, paramTypes, accessed);
+    return accessed;
   }
 
   /**
    * Finds and accesses which field is found first.
    *
+   * <p>The field found is cached for these queries, later calls with equal queries return it
+   * without trying the other queries again.
+   *
    * @param queries Queries for accessor.
    * @return The field accessor found first.
    * @throws RuntimeException If no fields are found among the passed queries.
    */
   public static @NotNull FieldAccessor accessField(Query @NotNull [] queries) {
-    for (Query query : queries) {
-      FieldAccessor accessed = null;
-      try {
-        accessed = accessField(query);
-      } catch (Exception ignored) {
-      }
-      if (accessed != null) {
-        return accessed;
-      }
-    }
-    throw new RuntimeException("Queries: " + Arrays.toString(queries), new NoSuchFieldException());
+    return (FieldAccessor) cachedGroup(FieldAccessor.class, queries, Accessors::findField,
+        NoSuchFieldException::new);
   }
 
   /**
    * Finds and accesses which constructor is found first.
    *
+   * <p>The constructor found is cached for these queries, later calls with equal queries return it
+   * without trying the other queries again.
+   *
    * @param queries Queries for accessor.
    * @return The constructor accessor found first.
    * @throws RuntimeException If no constructors are found among the passed queries.
    */
   public static @NotNull ConstructorAccessor<?> accessConstructor(Query @NotNull [] queries) {
-    for (Query query : queries) {
-      ConstructorAccessor<?> accessed = null;
-      try {
-        accessed = accessConstructor(query);
-      } catch (Exception ignored) {
-      }
-      if (accessed != null) {
-        return accessed;
-      }
-    }
-    throw new RuntimeException("Queries: " + Arrays.toString(queries), new NoSuchMethodException());
+    return (ConstructorAccessor<?>) cachedGroup(ConstructorAccessor.class, queries,
+        Accessors::findConstructor, NoSuchMethodException::new);
   }
 
   /**
    * Finds and accesses which method is found first.
    *
+   * <p>The method found is cached for these queries, later calls with equal queries return it
+   * without trying the other queries again.
+   *
    * @param queries Queries for accessor.
    * @return The method accessor found first.
    * @throws RuntimeException If no methods are found among the passed queries.
    */
   public static @NotNull MethodAccessor accessMethod(Query @NotNull [] queries) {
-    for (Query query : queries) {
-      MethodAccessor accessed = null;
-      try {
-        accessed = accessMethod(query);
-      } catch (Exception ignored) {
-      }
-      if (accessed != null) {
-        return accessed;
-      }
-    }
-    throw new RuntimeException("Queries: " + Arrays.toString(queries), new NoSuchMethodException());
+    return (MethodAccessor) cachedGroup(MethodAccessor.class, queries, Accessors::findMethod,
+        NoSuchMethodException::new);
   }
 
   /**
@@ -192,18 +281,13 @@ public final class Accessors {
     Preconditions.checkArgument(query.type().equals(FIELD), "Type must be FIELD");
     Preconditions.checkArgument(!query.name().isEmpty(), "Name cannot be empty");
 
-    if (accessedObjects.containsKey(query)) {
-      return (FieldAccessor) accessedObjects.get(query);
-    }
-
-    Field field = Fields.getField(query.clazz(), query.name());
-    if (field == null) {
-      throw new NullPointerException(fieldNotFound(query.name()));
-    }
-
-    FieldAccessor accessed = new FieldAccessor(field);
-    accessedObjects.put(query, accessed);
-    return accessed;
+    return (FieldAccessor) cached(query, q -> {
+      Field field = getField(q);
+      if (field == null) {
+        throw new NullPointerException(fieldNotFound(q.name()));
+      }
+      return newFieldAccessor(field, q);
+    });
   }
 
   /**
@@ -220,18 +304,13 @@ public final class Accessors {
   public static <T> ConstructorAccessor<T> accessConstructor(@NotNull Query query) {
     Preconditions.checkArgument(query.type().equals(METHOD), "Type must be METHOD");
 
-    if (accessedObjects.containsKey(query)) {
-      return (ConstructorAccessor<T>) accessedObjects.get(query);
-    }
-
-    Constructor<?> constructor = Constructors.getConstructor(query.clazz(), query.paramTypes());
-    if (constructor == null) {
-      throw new NullPointerException(constructorNotFound(query.clazz(), query.paramTypes()));
-    }
-
-    ConstructorAccessor<T> accessed = new ConstructorAccessor<>((Constructor<T>) constructor);
-    accessedObjects.put(query, accessed);
-    return accessed;
+    return (ConstructorAccessor<T>) cached(query, q -> {
+      Constructor<?> constructor = getConstructor(q);
+      if (constructor == null) {
+        throw new NullPointerException(constructorNotFound(q.clazz(), q.paramTypes()));
+      }
+      return newConstructorAccessor(constructor, q);
+    });
   }
 
   /**
@@ -247,17 +326,419 @@ public final class Accessors {
     Preconditions.checkArgument(query.type().equals(METHOD), "Type must be METHOD");
     Preconditions.checkArgument(!query.name().isEmpty(), "Name cannot be empty");
 
-    if (accessedObjects.containsKey(query)) {
-      return (MethodAccessor) accessedObjects.get(query);
+    return (MethodAccessor) cached(query, q -> {
+      Method method = getMethod(q);
+      if (method == null) {
+        throw new NullPointerException(methodNotFound(q.name(), q.paramTypes()));
+      }
+      return newMethodAccessor(method, q);
+    });
+  }
+
+  /**
+   * Creates a field accessor that finds and accesses the field on first use.
+   *
+   * @param query The query for accessor.
+   * @return Lazy field accessor of the query.
+   * @see #accessField(Query)
+   */
+  @Contract("_ -> new")
+  public static @NotNull LazyFieldAccessor lazyField(@NotNull Query query) {
+    Preconditions.checkNotNull(query, "Query cannot be null");
+
+    return new LazyFieldAccessor(() -> accessField(query));
+  }
+
+  /**
+   * Creates a field accessor that finds and accesses which field is found first on first use.
+   *
+   * @param queries Queries for accessor.
+   * @return Lazy field accessor of the queries.
+   * @see #accessField(Query[])
+   */
+  @Contract("_ -> new")
+  public static @NotNull LazyFieldAccessor lazyField(Query @NotNull [] queries) {
+    Preconditions.checkNotNull(queries, "Queries cannot be null");
+
+    Query[] copy = queries.clone();
+    return new LazyFieldAccessor(() -> accessField(copy));
+  }
+
+  /**
+   * Creates a constructor accessor that finds and accesses the constructor on first use.
+   *
+   * @param query The query for accessor.
+   * @param <T>   Type of constructor.
+   * @return Lazy constructor accessor of the query.
+   * @see #accessConstructor(Query)
+   */
+  @Contract("_ -> new")
+  public static <T> @NotNull LazyConstructorAccessor<T> lazyConstructor(@NotNull Query query) {
+    Preconditions.checkNotNull(query, "Query cannot be null");
+
+    return new LazyConstructorAccessor<>(() -> accessConstructor(query));
+  }
+
+  /**
+   * Creates a constructor accessor that finds and accesses which constructor is found first on
+   * first use.
+   *
+   * @param queries Queries for accessor.
+   * @return Lazy constructor accessor of the queries.
+   * @see #accessConstructor(Query[])
+   */
+  @Contract("_ -> new")
+  @SuppressWarnings("unchecked")
+  public static @NotNull LazyConstructorAccessor<?> lazyConstructor(Query @NotNull [] queries) {
+    Preconditions.checkNotNull(queries, "Queries cannot be null");
+
+    Query[] copy = queries.clone();
+    return new LazyConstructorAccessor<>(
+        () -> (ConstructorAccessor<Object>) accessConstructor(copy));
+  }
+
+  /**
+   * Creates a method accessor that finds and accesses the method on first use.
+   *
+   * @param query The query for accessor.
+   * @return Lazy method accessor of the query.
+   * @see #accessMethod(Query)
+   */
+  @Contract("_ -> new")
+  public static @NotNull LazyMethodAccessor lazyMethod(@NotNull Query query) {
+    Preconditions.checkNotNull(query, "Query cannot be null");
+
+    return new LazyMethodAccessor(() -> accessMethod(query));
+  }
+
+  /**
+   * Creates a method accessor that finds and accesses which method is found first on first use.
+   *
+   * @param queries Queries for accessor.
+   * @return Lazy method accessor of the queries.
+   * @see #accessMethod(Query[])
+   */
+  @Contract("_ -> new")
+  public static @NotNull LazyMethodAccessor lazyMethod(Query @NotNull [] queries) {
+    Preconditions.checkNotNull(queries, "Queries cannot be null");
+
+    Query[] copy = queries.clone();
+    return new LazyMethodAccessor(() -> accessMethod(copy));
+  }
+
+  /**
+   * Finds and accesses every query in parallel on the common fork-join pool.
+   *
+   * @param queries Queries for accessors.
+   * @return The accessors found and the queries that failed.
+   * @see #accessAll(Collection, ForkJoinPool)
+   */
+  public static @NotNull BatchResult<Query, Accessor> accessAll(
+      @NotNull Collection<Query> queries) {
+    return accessAll(queries, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Finds and accesses every query in parallel on the fork-join pool.
+   *
+   * <p>Queries of {@link Type#FIELD FIELD} type are accessed like {@link #accessField(Query)},
+   * queries of {@link Type#METHOD METHOD} type like {@link #accessMethod(Query)}, or like {@link
+   * #accessConstructor(Query)} if their name is empty. Every query is tried even if some fail, the
+   * accessors are cached as if the queries were accessed one by one.
+   *
+   * @param queries Queries for accessors.
+   * @param pool    The pool resolving the queries.
+   * @return The accessors found and the queries that failed.
+   */
+  public static @NotNull BatchResult<Query, Accessor> accessAll(@NotNull Collection<Query> queries,
+      @NotNull ForkJoinPool pool) {
+    Preconditions.checkNotNull(queries, "Queries cannot be null");
+
+    return BatchResult.resolve(queries, query -> {
+      Preconditions.checkNotNull(query, "Query cannot be null");
+      if (query.type().equals(FIELD)) {
+        return accessField(query);
+      }
+      return query.name().isEmpty() ? accessConstructor(query) : accessMethod(query);
+    }, pool);
+  }
+
+  /**
+   * Gets the policy that chooses the backends of accessors found by query.
+   *
+   * @return The backend policy.
+   */
+  public static @NotNull BackendPolicy backendPolicy() {
+    return backendPolicy;
+  }
+
+  /**
+   * Sets the policy that chooses the backends of accessors found by query, for example {@link
+   * BackendPolicy#calibrate()} at startup.
+   *
+   * <p>Accessors already cached keep their backend, only accessors created later follow the new
+   * policy.
+   *
+   * @param policy The backend policy.
+   */
+  public static void setBackendPolicy(@NotNull BackendPolicy policy) {
+    Preconditions.checkNotNull(policy, "Policy cannot be null");
+
+    backendPolicy = policy;
+  }
+
+  private static Accessor cached(Query query, Function<Query, Accessor> resolver) {
+    Accessor accessed = accessedObjects.get(query);
+    if (accessed != null) {
+      Metrics.increment(ACCESSOR_HITS);
+      return accessed;
+    }
+    Metrics.increment(ACCESSOR_MISSES);
+    long startTime = Metrics.startTime();
+    Object event = Events.beginAccessorResolution();
+    Accessor resolved = null;
+    try {
+      resolved = resolveOnce(accessedObjects, resolvingObjects, query, resolver);
+      return resolved;
+    } catch (RuntimeException e) {
+      Metrics.increment(ACCESSOR_FAILURES);
+      throw e;
+    } finally {
+      Metrics.recordResolution(Resolution.ACCESSOR, startTime);
+      Events.endAccessorResolution(event, query, resolved);
+    }
+  }
+
+  private static <A extends Accessor> ClassValue<AccessorTable<A>> tables() {
+    return new ClassValue<AccessorTable<A>>() {
+      @Override
+      protected AccessorTable<A> computeValue(Class<?> type) {
+        return new AccessorTable<>();
+      }
+    };
+  }
+
+  private static Accessor cachedGroup(Class<? extends Accessor> accessorType, Query[] queries,
+      Function<Query, Accessor> finder, Supplier<ReflectiveOperationException> notFound) {
+    Preconditions.checkNotNull(queries, "Queries cannot be null");
+
+    Accessor accessed = accessedGroups.get(new QueryGroup(accessorType, queries));
+    if (accessed != null) {
+      Metrics.increment(ACCESSOR_HITS);
+      return accessed;
+    }
+    Metrics.increment(ACCESSOR_MISSES);
+    long startTime = Metrics.startTime();
+    Object event = Events.beginAccessorResolution();
+    Accessor resolved = null;
+    try {
+      // Copy the queries, the caller may reuse the array after it is stored as key.
+      resolved = resolveOnce(accessedGroups, resolvingGroups,
+          new QueryGroup(accessorType, queries.clone()), group -> {
+            Accessor found = findGroup(group.queries, finder);
+            if (found == null) {
+              throw new RuntimeException("Queries: " + Arrays.toString(queries), notFound.get());
+            }
+            return found;
+          });
+      return resolved;
+    } catch (RuntimeException e) {
+      Metrics.increment(ACCESSOR_FAILURES);
+      throw e;
+    } finally {
+      Metrics.recordResolution(Resolution.ACCESSOR, startTime);
+      Events.endAccessorResolution(event, queries, resolved);
+    }
+  }
+
+  /**
+   * Finds the accessor of the first query found. If a {@link ResolutionCache} is open, the query
+   * that resolved the queries on the last start is tried first, and the query found is recorded.
+   */
+  private static @Nullable Accessor findGroup(Query[] queries, Function<Query, Accessor> finder) {
+    ResolutionCache cache = ResolutionCache.active();
+    String chain = cache != null ? Arrays.toString(queries) : null;
+    if (cache != null) {
+      int index = cache.fallbackIndex(chain);
+      if (index > 0 && index < queries.length && queries[index] != null) {
+        Accessor found = finder.apply(queries[index]);
+        if (found != null) {
+          return found;
+        }
+      }
+    }
+    for (int i = 0; i < queries.length; i++) {
+      if (i > 0) {
+        Metrics.increment(ACCESSOR_FALLBACKS);
+      }
+      Query query = queries[i];
+      Accessor found = query == null ? null : finder.apply(query);
+      if (found != null) {
+        if (cache != null && i > 0) {
+          cache.recordFallbackIndex(query.clazz(), chain, i);
+        }
+        return found;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Resolves the key, unless another thread is resolving it already, and caches the accessor.
+   *
+   * <p>Unlike {@link Map#computeIfAbsent(Object, Function)}, the resolver runs without holding a
+   * lock of the cache. It may run class initializers, which may access members again.
+   */
+  private static <K> Accessor resolveOnce(Map<K, Accessor> accessed, Map<K, Resolving> resolving,
+      K key, Function<K, Accessor> resolver) {
+    Resolving created = new Resolving();
+    Resolving running = resolving.putIfAbsent(key, created);
+    if (running != null) {
+      if (running.owner == Thread.currentThread()) {
+        // Accessed again by a class initializer that this resolution runs.
+        return resolver.apply(key);
+      }
+      try {
+        return running.join();
+      } catch (CompletionException e) {
+        throw Failures.propagate(e.getCause());
+      }
     }
+    try {
+      // The key may be cached between the miss of the caller and the start of this resolution.
+      Accessor result = accessed.get(key);
+      if (result == null) {
+        result = resolver.apply(key);
+        if (result != null) {
+          accessed.put(key, result);
+        }
+      }
+      created.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      resolving.remove(key, created);
+    }
+  }
 
-    Method method = Methods.getMethod(query.clazz(), query.name(), query.paramTypes());
+  private static @Nullable Accessor findField(Query query) {
+    if (!query.type().equals(FIELD) || query.name().isEmpty()) {
+      return null;
+    }
+    Accessor accessed = accessedObjects.get(query);
+    if (accessed != null) {
+      return accessed;
+    }
+    Field field = getField(query);
+    if (field == null) {
+      return null;
+    }
+    return resolveOnce(accessedObjects, resolvingObjects, query,
+        q -> newFieldAccessor(field, q));
+  }
+
+  private static @Nullable Accessor findConstructor(Query query) {
+    if (!query.type().equals(METHOD)) {
+      return null;
+    }
+    Accessor accessed = accessedObjects.get(query);
+    if (accessed != null) {
+      return accessed;
+    }
+    Constructor<?> constructor = getConstructor(query);
+    if (constructor == null) {
+      return null;
+    }
+    return resolveOnce(accessedObjects, resolvingObjects, query,
+        q -> newConstructorAccessor(constructor, q));
+  }
+
+  private static @Nullable Accessor findMethod(Query query) {
+    if (!query.type().equals(METHOD) || query.name().isEmpty()) {
+      return null;
+    }
+    Accessor accessed = accessedObjects.get(query);
+    if (accessed != null) {
+      return accessed;
+    }
+    Method method = getMethod(query);
     if (method == null) {
-      throw new NullPointerException(methodNotFound(query.name(), query.paramTypes()));
+      return null;
+    }
+    return resolveOnce(accessedObjects, resolvingObjects, query,
+        q -> newMethodAccessor(method, q));
+  }
+
+  private static @Nullable Field getField(Query query) {
+    MappingIndex mappings = MappingIndex.active();
+    String name = mappings != null ? mappings.mapField(query.clazz(), query.name()) : query.name();
+    ResolutionCache cache = ResolutionCache.active();
+    return cache != null ? cache.field(query.clazz(), name)
+        : Fields.getField(query.clazz(), name);
+  }
+
+  private static @Nullable Constructor<?> getConstructor(Query query) {
+    ResolutionCache cache = ResolutionCache.active();
+    return cache != null ? cache.constructor(query.clazz(), query.paramTypes())
+        : Constructors.getConstructor(query.clazz(), query.paramTypes());
+  }
+
+  private static @Nullable Method getMethod(Query query) {
+    MappingIndex mappings = MappingIndex.active();
+    String name = mappings != null
+        ? mappings.mapMethod(query.clazz(), query.name(), query.paramTypes()) : query.name();
+    ResolutionCache cache = ResolutionCache.active();
+    return cache != null ? cache.method(query.clazz(), name, query.paramTypes())
+        : Methods.getMethod(query.clazz(), name, query.paramTypes());
+  }
+
+  private static FieldAccessor newFieldAccessor(Field field, Query query) {
+    return backendPolicy.newField(field, query.backend());
+  }
+
+  private static <T> ConstructorAccessor<T> newConstructorAccessor(Constructor<T> constructor,
+      Query query) {
+    return backendPolicy.newConstructor(constructor, query.backend());
+  }
+
+  private static MethodAccessor newMethodAccessor(Method method, Query query) {
+    return backendPolicy.newMethod(method, query.backend());
+  }
+
+  private static final class Resolving extends CompletableFuture<Accessor> {
+
+    private final Thread owner = Thread.currentThread();
+  }
+
+  private static final class QueryGroup {
+
+    private final Class<? extends Accessor> accessorType;
+    private final Query[] queries;
+    private final int hash;
+
+    private QueryGroup(Class<? extends Accessor> accessorType, Query[] queries) {
+      this.accessorType = accessorType;
+      this.queries = queries;
+      this.hash = 31 * accessorType.hashCode() + Arrays.hashCode(queries);
     }
 
-    MethodAccessor accessed = new MethodAccessor(method);
-    accessedObjects.put(query, accessed);
-    return accessed;
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof QueryGroup)) {
+        return false;
+      }
+      QueryGroup group = (QueryGroup) o;
+      return accessorType == group.accessorType && Arrays.equals(queries, group.queries);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
   }
 }
@@ -0,0 +1,413 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * The order in which {@link Accessors} tries {@link AccessorBackend}s to create accessors of
+ * fields, methods and constructors.
+ *
+ * <p>The first backend that supports the member creates its accessor. If none does, the accessor
+ * is created by {@link AccessorBackend#METHOD_HANDLE}, which supports every member. A backend set
+ * on the query is tried before the policy.
+ *
+ * <p>Accessors are tiered by default. They start on {@link AccessorBackend#REFLECTION}, which is
+ * cheap to create, and are promoted to the backends of the policy once they are invoked more than
+ * {@link #promotionThreshold()} times, {@value #DEFAULT_PROMOTION_THRESHOLD} unless set by {@link
+ * Builder#promotionThreshold(int)} or the system property {@value #PROMOTION_THRESHOLD_PROPERTY}.
+ * This suits plugins that resolve many members but use few of them often, a threshold of {@code 0}
+ * creates accessors by the backends of the policy from the start. The accessor is swapped in place,
+ * so it can be kept in a field before it is promoted, and it is of the same type as the accessor of
+ * the backend, such as {@link IntFieldAccessor}. Every backend checks and converts arguments like
+ * core reflection, so invocations behave the same before and after the promotion. A backend set on
+ * the query is used from the start.
+ *
+ * <p>A promoted accessor delegates to the accessor of the backend, like {@link LazyMethodAccessor}
+ * does. When many members are hot, the JIT may not inline the delegate, which costs a few
+ * nanoseconds per invocation. Members on the hottest paths can be given a backend in their query.
+ *
+ * <p>The fastest backend differs between JVMs, {@link #calibrate()} times the backends on the
+ * running JVM and orders them by speed. Starting the JVM with the system property {@value
+ * #CALIBRATE_PROPERTY} set to {@code true} makes the calibrated policy the initial policy of
+ * {@code Accessors}.
+ *
+ * <p>Policies are immutable.
+ *
+ * @author TozyMC
+ * @see Accessors#setBackendPolicy(BackendPolicy)
+ * @since 1.1
+ */
+public final class BackendPolicy {
+
+  /**
+   * The system property that calibrates the initial policy of {@link Accessors}.
+   */
+  public static final String CALIBRATE_PROPERTY = "treflections.calibrate";
+
+  /**
+   * The system property that sets the default promotion threshold, {@value
+   * #DEFAULT_PROMOTION_THRESHOLD} if not set.
+   */
+  public static final String PROMOTION_THRESHOLD_PROPERTY = "treflections.promotionThreshold";
+
+  /**
+   * The default promotion threshold, {@code 15}, the inflation threshold of core reflection on Java
+   * 8, so members are promoted before the JVM would also compile them to accessor classes.
+   */
+  public static final int DEFAULT_PROMOTION_THRESHOLD = 15;
+
+  private static final int PROMOTION_THRESHOLD =
+      Math.max(0, Integer.getInteger(PROMOTION_THRESHOLD_PROPERTY, DEFAULT_PROMOTION_THRESHOLD));
+  private static final BackendPolicy DEFAULT =
+      of(AccessorBackend.GENERATED, AccessorBackend.METHOD_HANDLE);
+  // The backend creating accessors in this thread, read by their constructors so that the backend
+  // of an accessor is a final field.
+  private static final ThreadLocal<AccessorBackend> CREATING = new ThreadLocal<>();
+
+  private final AccessorBackend[] fields;
+  private final AccessorBackend[] methods;
+  private final AccessorBackend[] constructors;
+  private final int promotionThreshold;
+
+  private BackendPolicy(AccessorBackend[] fields, AccessorBackend[] methods,
+      AccessorBackend[] constructors, int promotionThreshold) {
+    this.fields = fields;
+    this.methods = methods;
+    this.constructors = constructors;
+    this.promotionThreshold = promotionThreshold;
+  }
+
+  /**
+   * Creates a policy that tries the backends in the passed order for every kind of member.
+   *
+   * @param backends The backends, the preferred one first.
+   * @return The policy.
+   */
+  @Contract("_ -> new")
+  public static @NotNull BackendPolicy of(@NotNull AccessorBackend... backends) {
+    AccessorBackend[] copy = copy(backends);
+    return new BackendPolicy(copy, copy, copy, PROMOTION_THRESHOLD);
+  }
+
+  /**
+   * Gets the default policy, which generates accessors and falls back to method handles.
+   *
+   * @return The default policy.
+   */
+  @Contract(pure = true)
+  public static @NotNull BackendPolicy defaultPolicy() {
+    return DEFAULT;
+  }
+
+  /**
+   * Creates new {@link Builder} instance, which starts from the default policy.
+   *
+   * @return An instance of {@code Builder}.
+   */
+  @Contract(value = "-> new", pure = true)
+  public static @NotNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Times the built-in backends on the running JVM and orders them by speed.
+   *
+   * @return The calibrated policy.
+   * @see #calibrate(AccessorBackend...)
+   */
+  public static @NotNull BackendPolicy calibrate() {
+    return calibrate(AccessorBackend.GENERATED, AccessorBackend.METHOD_HANDLE,
+        AccessorBackend.FIELD_OFFSET, AccessorBackend.REFLECTION);
+  }
+
+  /**
+   * Times the passed backends on the running JVM and orders them by speed, separately for fields,
+   * methods and constructors.
+   *
+   * <p>Each backend reads an {@code int} field, invokes a method and invokes a constructor of a
+   * probe class in loops, the fastest of several rounds counts. Backends that do not support a kind
+   * of member are tried after the others, in the passed order. Each backend runs in loops of its
+   * own, which the JIT compiles separately, so this takes about a hundred milliseconds per backend,
+   * call it once, at startup.
+   *
+   * @param backends The backends to time.
+   * @return The calibrated policy.
+   */
+  public static @NotNull BackendPolicy calibrate(@NotNull AccessorBackend... backends) {
+    AccessorBackend[] copy = copy(backends);
+    return new BackendPolicy(Calibration.rankFields(copy), Calibration.rankMethods(copy),
+        Calibration.rankConstructors(copy), PROMOTION_THRESHOLD);
+  }
+
+  /**
+   * Gets the backends tried for fields.
+   *
+   * @return The backends, the preferred one first.
+   */
+  public @NotNull List<AccessorBackend> fieldBackends() {
+    return Collections.unmodifiableList(Arrays.asList(fields));
+  }
+
+  /**
+   * Gets the backends tried for methods.
+   *
+   * @return The backends, the preferred one first.
+   */
+  public @NotNull List<AccessorBackend> methodBackends() {
+    return Collections.unmodifiableList(Arrays.asList(methods));
+  }
+
+  /**
+   * Gets the backends tried for constructors.
+   *
+   * @return The backends, the preferred one first.
+   */
+  public @NotNull List<AccessorBackend> constructorBackends() {
+    return Collections.unmodifiableList(Arrays.asList(constructors));
+  }
+
+  /**
+   * Gets the number of invocations of an accessor on {@link AccessorBackend#REFLECTION} before it
+   * is promoted to the backends of this policy.
+   *
+   * @return The promotion threshold, {@code 0} if accessors are created by the backends of this
+   *     policy from the start.
+   */
+  public int promotionThreshold() {
+    return promotionThreshold;
+  }
+
+  @NotNull FieldAccessor newField(@NotNull Field field, @Nullable AccessorBackend preferred) {
+    FieldAccessor accessor = preferred != null ? field(preferred, field) : null;
+    if (accessor != null) {
+      return accessor;
+    }
+    return promotionThreshold > 0 ? TieredFieldAccessor.of(field, this) : createField(field);
+  }
+
+  @NotNull MethodAccessor newMethod(@NotNull Method method, @Nullable AccessorBackend preferred) {
+    MethodAccessor accessor = preferred != null ? method(preferred, method) : null;
+    if (accessor != null) {
+      return accessor;
+    }
+    return promotionThreshold > 0 ? new TieredMethodAccessor(method, this) : createMethod(method);
+  }
+
+  <T> @NotNull ConstructorAccessor<T> newConstructor(@NotNull Constructor<T> constructor,
+      @Nullable AccessorBackend preferred) {
+    ConstructorAccessor<T> accessor =
+        preferred != null ? constructor(preferred, constructor) : null;
+    if (accessor != null) {
+      return accessor;
+    }
+    return promotionThreshold > 0 ? new TieredConstructorAccessor<>(constructor, this)
+        : createConstructor(constructor);
+  }
+
+  @NotNull FieldAccessor createField(@NotNull Field field) {
+    FieldAccessor accessor = null;
+    for (int i = 0; accessor == null && i < fields.length; i++) {
+      accessor = field(fields[i], field);
+    }
+    return accessor != null ? accessor : field(AccessorBackend.METHOD_HANDLE, field);
+  }
+
+  @NotNull MethodAccessor createMethod(@NotNull Method method) {
+    MethodAccessor accessor = null;
+    for (int i = 0; accessor == null && i < methods.length; i++) {
+      accessor = method(methods[i], method);
+    }
+    return accessor != null ? accessor : method(AccessorBackend.METHOD_HANDLE, method);
+  }
+
+  <T> @NotNull ConstructorAccessor<T> createConstructor(@NotNull Constructor<T> constructor) {
+    ConstructorAccessor<T> accessor = null;
+    for (int i = 0; accessor == null && i < constructors.length; i++) {
+      accessor = constructor(constructors[i], constructor);
+    }
+    return accessor != null ? accessor
+        : constructor(AccessorBackend.METHOD_HANDLE, constructor);
+  }
+
+  /**
+   * Creates the accessor of the field by the backend, and records the backend in the accessor.
+   *
+   * @param backend The backend.
+   * @param field   The field to access.
+   * @return The accessor, or {@code null} if the backend does not support the field.
+   */
+  static @Nullable FieldAccessor field(@NotNull AccessorBackend backend, @NotNull Field field) {
+    AccessorBackend previous = CREATING.get();
+    CREATING.set(backend);
+    try {
+      return backend.field(field);
+    } finally {
+      restoreCreating(previous);
+    }
+  }
+
+  /**
+   * Creates the accessor of the method by the backend, and records the backend in the accessor.
+   *
+   * @param backend The backend.
+   * @param method  The method to access.
+   * @return The accessor, or {@code null} if the backend does not support the method.
+   */
+  static @Nullable MethodAccessor method(@NotNull AccessorBackend backend,
+      @NotNull Method method) {
+    AccessorBackend previous = CREATING.get();
+    CREATING.set(backend);
+    try {
+      return backend.method(method);
+    } finally {
+      restoreCreating(previous);
+    }
+  }
+
+  /**
+   * Creates the accessor of the constructor by the backend, and records the backend in the
+   * accessor.
+   *
+   * @param backend     The backend.
+   * @param constructor The constructor to access.
+   * @param <T>         Type of constructor.
+   * @return The accessor, or {@code null} if the backend does not support the constructor.
+   */
+  static <T> @Nullable ConstructorAccessor<T> constructor(@NotNull AccessorBackend backend,
+      @NotNull Constructor<T> constructor) {
+    AccessorBackend previous = CREATING.get();
+    CREATING.set(backend);
+    try {
+      return backend.constructor(constructor);
+    } finally {
+      restoreCreating(previous);
+    }
+  }
+
+  /**
+   * Gets the backend creating accessors in the current thread, recorded by the accessors.
+   *
+   * @return The backend, or {@code null} if the accessor is not created for a policy.
+   */
+  static @Nullable AccessorBackend creatingBackend() {
+    return CREATING.get();
+  }
+
+  private static void restoreCreating(@Nullable AccessorBackend previous) {
+    if (previous == null) {
+      CREATING.remove();
+    } else {
+      CREATING.set(previous);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "BackendPolicy{" +
+        "fields=" + names(fields) +
+        ", methods=" + names(methods) +
+        ", constructors=" + names(constructors) +
+        ", promotionThreshold=" + promotionThreshold +
+        '}';
+  }
+
+  private static AccessorBackend[] copy(AccessorBackend[] backends) {
+    Preconditions.checkNotNull(backends, "Backends cannot be null");
+    AccessorBackend[] copy = backends.clone();
+    for (AccessorBackend backend : copy) {
+      Preconditions.checkNotNull(backend, "Backend cannot be null");
+    }
+    return copy;
+  }
+
+  private static String names(AccessorBackend[] backends) {
+    StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < backends.length; i++) {
+      builder.append(i == 0 ? "" : ", ").append(backends[i].name());
+    }
+    return builder.append(']').toString();
+  }
+
+  /**
+   * The class used to construct a policy with different backends per kind of member.
+   *
+   * @author TozyMC
+   * @since 1.1
+   */
+  public static final class Builder {
+
+    private AccessorBackend[] fields = DEFAULT.fields;
+    private AccessorBackend[] methods = DEFAULT.methods;
+    private AccessorBackend[] constructors = DEFAULT.constructors;
+    private int promotionThreshold = DEFAULT.promotionThreshold;
+
+    private Builder() {}
+
+    /**
+     * Set the backends to try for fields.
+     *
+     * @param backends The backends, the preferred one first.
+     * @return This object, for chaining.
+     */
+    public @NotNull Builder fields(@NotNull AccessorBackend... backends) {
+      this.fields = copy(backends);
+      return this;
+    }
+
+    /**
+     * Set the backends to try for methods.
+     *
+     * @param backends The backends, the preferred one first.
+     * @return This object, for chaining.
+     */
+    public @NotNull Builder methods(@NotNull AccessorBackend... backends) {
+      this.methods = copy(backends);
+      return this;
+    }
+
+    /**
+     * Set the backends to try for constructors.
+     *
+     * @param backends The backends, the preferred one first.
+     * @return This object, for chaining.
+     */
+    public @NotNull Builder constructors(@NotNull AccessorBackend... backends) {
+      this.constructors = copy(backends);
+      return this;
+    }
+
+    /**
+     * Set the number of invocations of an accessor on {@link AccessorBackend#REFLECTION} before it
+     * is promoted to the backends of the policy.
+     *
+     * @param promotionThreshold The promotion threshold, {@code 0} to create accessors by the
+     *                           backends of the policy from the start.
+     * @return This object, for chaining.
+     * @throws IllegalArgumentException If the threshold is negative.
+     */
+    public @NotNull Builder promotionThreshold(int promotionThreshold) {
+      Preconditions.checkArgument(promotionThreshold >= 0,
+          "Promotion threshold cannot be negative");
+      this.promotionThreshold = promotionThreshold;
+      return this;
+    }
+
+    /**
+     * Creates new policy.
+     *
+     * @return The policy.
+     */
+    @Contract("-> new")
+    public @NotNull BackendPolicy build() {
+      return new BackendPolicy(fields, methods, constructors, promotionThreshold);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code boolean} fields.
+ *
+ * <p>{@link #getBoolean(Object)} and {@link #setBoolean(Object, boolean)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class BooleanFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle booleanGetter;
+  private final MethodHandle booleanSetter;
+
+  /**
+   * Creates {@code BooleanFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code boolean} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code boolean}.
+   */
+  public BooleanFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code BooleanFieldAccessor} instance, without method handles for subclasses that
+   * access the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code boolean} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code boolean}.
+   */
+  protected BooleanFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, boolean.class), unreflect);
+    this.booleanGetter = unreflect ? Handles.unreflectGetter(getField(), boolean.class) : null;
+    this.booleanSetter = unreflect ? Handles.unreflectSetter(getField(), boolean.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code boolean} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  BooleanFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, boolean.class), promotion);
+    this.booleanGetter = null;
+    this.booleanSetter = null;
+  }
+
+  @Override
+  public boolean getBoolean(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetBoolean(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setBoolean(@Nullable Object instance, boolean value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetBoolean(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected boolean doGetBoolean(@Nullable Object instance) throws Throwable {
+    if (booleanGetter == null) {
+      return getField().getBoolean(instance);
+    }
+    return (boolean) booleanGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetBoolean(@Nullable Object instance, boolean value) throws Throwable {
+    if (booleanSetter == null) {
+      getField().setBoolean(instance, value);
+      return;
+    }
+    booleanSetter.invokeExact(instance, value);
+  }
+}
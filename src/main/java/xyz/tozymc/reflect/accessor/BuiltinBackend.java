@@ -0,0 +1,81 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.accessor.generator.AccessorGenerator;
+
+/**
+ * The built-in backends of {@link AccessorBackend}.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+enum BuiltinBackend implements AccessorBackend {
+  REFLECTION {
+    @Override
+    public @NotNull FieldAccessor field(@NotNull Field field) {
+      return FieldAccessor.of(field, false);
+    }
+
+    @Override
+    public @NotNull MethodAccessor method(@NotNull Method method) {
+      return new ReflectiveMethodAccessor(method);
+    }
+
+    @Override
+    public <T> @NotNull ConstructorAccessor<T> constructor(@NotNull Constructor<T> constructor) {
+      return new ReflectiveConstructorAccessor<>(constructor);
+    }
+  },
+  METHOD_HANDLE {
+    @Override
+    public @NotNull FieldAccessor field(@NotNull Field field) {
+      return FieldAccessor.of(field);
+    }
+
+    @Override
+    public @NotNull MethodAccessor method(@NotNull Method method) {
+      return new MethodAccessor(method);
+    }
+
+    @Override
+    public <T> @NotNull ConstructorAccessor<T> constructor(@NotNull Constructor<T> constructor) {
+      return new ConstructorAccessor<>(constructor);
+    }
+  },
+  GENERATED {
+    @Override
+    public @Nullable FieldAccessor field(@NotNull Field field) {
+      return AccessorGenerator.generate(field);
+    }
+
+    @Override
+    public @Nullable MethodAccessor method(@NotNull Method method) {
+      return AccessorGenerator.generate(method);
+    }
+
+    @Override
+    public <T> @Nullable ConstructorAccessor<T> constructor(@NotNull Constructor<T> constructor) {
+      return AccessorGenerator.generate(constructor);
+    }
+  },
+  FIELD_OFFSET {
+    @Override
+    public @Nullable FieldAccessor field(@NotNull Field field) {
+      return OffsetFieldAccessor.create(field);
+    }
+
+    @Override
+    public @Nullable MethodAccessor method(@NotNull Method method) {
+      return null;
+    }
+
+    @Override
+    public <T> @Nullable ConstructorAccessor<T> constructor(@NotNull Constructor<T> constructor) {
+      return null;
+    }
+  }
+}
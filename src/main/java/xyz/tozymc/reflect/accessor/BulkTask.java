@@ -0,0 +1,90 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * Runs a bulk operation of accessors over ranges of a batch of instances.
+ *
+ * <p>Batches up to {@value #THRESHOLD} instances, or without a pool, run in the calling thread.
+ * Larger batches are split recursively between the workers of the pool.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class BulkTask extends RecursiveAction {
+
+  static final int THRESHOLD = 1024;
+
+  private static final long serialVersionUID = 1L;
+
+  private final Body body;
+  private final int from;
+  private final int to;
+
+  private BulkTask(Body body, int from, int to) {
+    this.body = body;
+    this.from = from;
+    this.to = to;
+  }
+
+  static void run(int length, @Nullable ForkJoinPool pool, Body body) throws Throwable {
+    if (pool == null || length <= THRESHOLD) {
+      body.run(0, length);
+      return;
+    }
+    pool.invoke(new BulkTask(body, 0, length));
+  }
+
+  static void checkOutput(Object[] instances, int outLength) {
+    Preconditions.checkNotNull(instances, "Instances cannot be null");
+    Preconditions.checkArgument(outLength >= instances.length,
+        "Output length %s is shorter than %s instances", outLength, instances.length);
+  }
+
+  /**
+   * Checks the size of a collection of instances up front, other iterables are checked by {@link
+   * #checkIndex(int, int)} while they are iterated.
+   */
+  static void checkOutput(Iterable<?> instances, int outLength) {
+    Preconditions.checkNotNull(instances, "Instances cannot be null");
+    if (instances instanceof Collection) {
+      int size = ((Collection<?>) instances).size();
+      Preconditions.checkArgument(outLength >= size,
+          "Output length %s is shorter than %s instances", outLength, size);
+    }
+  }
+
+  static void checkIndex(int index, int outLength) {
+    Preconditions.checkArgument(index < outLength, "Output length %s is shorter than instances",
+        outLength);
+  }
+
+  @Override
+  protected void compute() {
+    if (to - from <= THRESHOLD) {
+      try {
+        body.run(from, to);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw Failures.propagate(e);
+      }
+      return;
+    }
+    int middle = (from + to) >>> 1;
+    invokeAll(new BulkTask(body, from, middle), new BulkTask(body, middle, to));
+  }
+
+  /**
+   * Operation over the instances from index {@code from} inclusive to {@code to} exclusive.
+   */
+  @FunctionalInterface
+  interface Body {
+
+    void run(int from, int to) throws Throwable;
+  }
+}
@@ -0,0 +1,119 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code byte} fields.
+ *
+ * <p>{@link #getByte(Object)} and {@link #setByte(Object, byte)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class ByteFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle byteGetter;
+  private final MethodHandle byteSetter;
+
+  /**
+   * Creates {@code ByteFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code byte} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code byte}.
+   */
+  public ByteFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code ByteFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code byte} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code byte}.
+   */
+  protected ByteFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, byte.class), unreflect);
+    this.byteGetter = unreflect ? Handles.unreflectGetter(getField(), byte.class) : null;
+    this.byteSetter = unreflect ? Handles.unreflectSetter(getField(), byte.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code byte} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  ByteFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, byte.class), promotion);
+    this.byteGetter = null;
+    this.byteSetter = null;
+  }
+
+  @Override
+  public byte getByte(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetByte(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setByte(@Nullable Object instance, byte value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetByte(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected byte doGetByte(@Nullable Object instance) throws Throwable {
+    if (byteGetter == null) {
+      return getField().getByte(instance);
+    }
+    return (byte) byteGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetByte(@Nullable Object instance, byte value) throws Throwable {
+    if (byteSetter == null) {
+      getField().setByte(instance, value);
+      return;
+    }
+    byteSetter.invokeExact(instance, value);
+  }
+}
@@ -0,0 +1,242 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Orders backends by the time they take to access the members of {@link Probe}, for {@link
+ * BackendPolicy#calibrate(AccessorBackend...)}.
+ *
+ * <p>The backends are timed in turns, round after round, and the fastest round of each backend is
+ * compared. Each backend is timed in its own copy of the loop class, so the JIT profiles and
+ * inlines its call sites as if the backend was the only one in use, instead of finding every
+ * backend at a shared, megamorphic call site. Backends that do not support the member, or fail on
+ * it, are ordered last.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class Calibration {
+
+  private static final int ROUNDS = 12;
+  private static final int OPERATIONS = 20_000;
+
+  // Read after the loops, so the JIT cannot drop the accesses.
+  private static volatile long sink;
+
+  private Calibration() {}
+
+  static AccessorBackend[] rankFields(AccessorBackend[] backends) {
+    Field field = member(() -> Probe.class.getField("value"));
+    return rank(backends, FieldLoop.class, backend -> backend.field(field));
+  }
+
+  static AccessorBackend[] rankMethods(AccessorBackend[] backends) {
+    Method method = member(() -> Probe.class.getMethod("value"));
+    return rank(backends, MethodLoop.class, backend -> backend.method(method));
+  }
+
+  static AccessorBackend[] rankConstructors(AccessorBackend[] backends) {
+    Constructor<Probe> constructor = member(() -> Probe.class.getConstructor());
+    return rank(backends, ConstructorLoop.class, backend -> backend.constructor(constructor));
+  }
+
+  private static AccessorBackend[] rank(AccessorBackend[] backends, Class<? extends Loop> loop,
+      Function<AccessorBackend, Accessor> accessors) {
+    Loop[] candidates = new Loop[backends.length];
+    long[] times = new long[backends.length];
+    Arrays.fill(times, Long.MAX_VALUE);
+    for (int i = 0; i < backends.length; i++) {
+      try {
+        Accessor accessor = accessors.apply(backends[i]);
+        candidates[i] = accessor == null ? null : newLoop(loop, accessor);
+      } catch (RuntimeException e) {
+        candidates[i] = null;
+      }
+    }
+
+    for (int round = 0; round < ROUNDS; round++) {
+      for (int i = 0; i < candidates.length; i++) {
+        if (candidates[i] == null) {
+          continue;
+        }
+        long startTime = System.nanoTime();
+        try {
+          sink += candidates[i].run();
+        } catch (RuntimeException e) {
+          candidates[i] = null;
+          times[i] = Long.MAX_VALUE;
+          continue;
+        }
+        times[i] = Math.min(times[i], System.nanoTime() - startTime);
+      }
+    }
+
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < backends.length; i++) {
+      order.add(i);
+    }
+    // Stable, so backends with equal times, and unsupported backends, keep the passed order.
+    order.sort(Comparator.comparingLong(i -> times[i]));
+    AccessorBackend[] ranked = new AccessorBackend[backends.length];
+    for (int i = 0; i < ranked.length; i++) {
+      ranked[i] = backends[order.get(i)];
+    }
+    return ranked;
+  }
+
+  /**
+   * Creates the loop of the accessor in its own copy of the loop class, so the call sites of the
+   * loop only see the classes of this accessor, as they would in code that uses it.
+   */
+  private static Loop newLoop(Class<? extends Loop> loop, Accessor accessor) {
+    Class<?> copy = new LoopLoader().copy(loop);
+    try {
+      return (Loop) copy.getConstructor(Accessor.class, Probe.class)
+          .newInstance(accessor, new Probe());
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static <M> M member(MemberLookup<M> lookup) {
+    try {
+      return lookup.find();
+    } catch (NoSuchFieldException | NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * A timed loop, public so it is visible to the copies of the loop classes, which are in another
+   * runtime package.
+   */
+  public interface Loop {
+
+    long run();
+  }
+
+  /**
+   * Reads the {@code int} field of the probe.
+   */
+  public static final class FieldLoop implements Loop {
+
+    private final FieldAccessor accessor;
+    private final Probe probe;
+
+    public FieldLoop(Accessor accessor, Probe probe) {
+      this.accessor = (FieldAccessor) accessor;
+      this.probe = probe;
+    }
+
+    @Override
+    public long run() {
+      long sum = 0;
+      for (int i = 0; i < OPERATIONS; i++) {
+        sum += accessor.getInt(probe);
+      }
+      return sum;
+    }
+  }
+
+  /**
+   * Invokes the method of the probe.
+   */
+  public static final class MethodLoop implements Loop {
+
+    private final MethodAccessor accessor;
+    private final Probe probe;
+
+    public MethodLoop(Accessor accessor, Probe probe) {
+      this.accessor = (MethodAccessor) accessor;
+      this.probe = probe;
+    }
+
+    @Override
+    public long run() {
+      long sum = 0;
+      for (int i = 0; i < OPERATIONS; i++) {
+        sum += accessor.<Integer>invoke0(probe);
+      }
+      return sum;
+    }
+  }
+
+  /**
+   * Invokes the constructor of the probe.
+   */
+  public static final class ConstructorLoop implements Loop {
+
+    private final ConstructorAccessor<Probe> accessor;
+
+    @SuppressWarnings("unchecked")
+    public ConstructorLoop(Accessor accessor, Probe probe) {
+      this.accessor = (ConstructorAccessor<Probe>) accessor;
+    }
+
+    @Override
+    public long run() {
+      long sum = 0;
+      for (int i = 0; i < OPERATIONS; i++) {
+        sum += accessor.newInstance0().value;
+      }
+      return sum;
+    }
+  }
+
+  /**
+   * Defines a copy of a loop class, linked against the classes of this library.
+   */
+  private static final class LoopLoader extends ClassLoader {
+
+    LoopLoader() {
+      super(Calibration.class.getClassLoader());
+    }
+
+    Class<?> copy(Class<?> loop) {
+      String name = loop.getName();
+      try (InputStream in = loop.getResourceAsStream(
+          name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+        if (in == null) {
+          // Not readable as a resource, time the shared class.
+          return loop;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        for (int read; (read = in.read(buffer)) != -1; ) {
+          bytes.write(buffer, 0, read);
+        }
+        return defineClass(name, bytes.toByteArray(), 0, bytes.size());
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface MemberLookup<M> {
+
+    M find() throws NoSuchFieldException, NoSuchMethodException;
+  }
+
+  /**
+   * The members timed by the calibration, public so every backend supports them.
+   */
+  public static final class Probe {
+
+    public int value = 1;
+
+    public int value() {
+      return value;
+    }
+  }
+}
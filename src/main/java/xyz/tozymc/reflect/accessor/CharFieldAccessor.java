@@ -0,0 +1,119 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code char} fields.
+ *
+ * <p>{@link #getChar(Object)} and {@link #setChar(Object, char)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class CharFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle charGetter;
+  private final MethodHandle charSetter;
+
+  /**
+   * Creates {@code CharFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code char} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code char}.
+   */
+  public CharFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code CharFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code char} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code char}.
+   */
+  protected CharFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, char.class), unreflect);
+    this.charGetter = unreflect ? Handles.unreflectGetter(getField(), char.class) : null;
+    this.charSetter = unreflect ? Handles.unreflectSetter(getField(), char.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code char} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  CharFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, char.class), promotion);
+    this.charGetter = null;
+    this.charSetter = null;
+  }
+
+  @Override
+  public char getChar(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetChar(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setChar(@Nullable Object instance, char value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetChar(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected char doGetChar(@Nullable Object instance) throws Throwable {
+    if (charGetter == null) {
+      return getField().getChar(instance);
+    }
+    return (char) charGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetChar(@Nullable Object instance, char value) throws Throwable {
+    if (charSetter == null) {
+      getField().setChar(instance, value);
+      return;
+    }
+    charSetter.invokeExact(instance, value);
+  }
+}
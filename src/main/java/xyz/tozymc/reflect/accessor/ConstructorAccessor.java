@@ -1,20 +1,58 @@
 package xyz.tozymc.reflect.accessor;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.InvocationCounter;
+import xyz.tozymc.reflect.metrics.Metrics;
 import xyz.tozymc.reflect.util.AccessUtil;
+import xyz.tozymc.reflect.util.Conversions;
+import xyz.tozymc.reflect.util.Handles;
+import xyz.tozymc.reflect.util.Lambdas;
 
 /**
  * The class that wraps an accessible {@code Constructor}.
  *
+ * <p>The constructor is unreflected once to a {@link MethodHandle}, which is used for every
+ * instantiation instead of {@link Constructor#newInstance(Object...)}.
+ *
+ * <p>The {@code newInstance0} to {@code newInstance6} methods take the parameters as separate
+ * arguments, so no parameter array is created per instantiation. Their {@code int} and {@code
+ * double} overloads pass primitive parameters without boxing. Accessors of {@link
+ * AccessorBackend#REFLECTION} are the exception, {@link Constructor#newInstance(Object...)} takes
+ * the parameters as an array.
+ *
+ * <p>As with {@link Constructor#newInstance(Object...)}, an exception thrown by the constructor is
+ * wrapped in an {@link InvocationTargetException}, which is wrapped in a {@link RuntimeException}.
+ * Arguments for primitive parameters are unboxed and widened as it does. A mismatched argument
+ * throws {@link IllegalArgumentException} unwrapped.
+ *
+ * <p>If {@link Metrics} are enabled, the instantiations are counted and timed per member.
+ *
  * @param <T> The class in which the constructor is declared.
  * @author TozyMC
  * @since 1.0
  */
 public class ConstructorAccessor<T> implements Accessor {
 
+  private static final Object[] EMPTY_PARAMS = new Object[0];
+
   private final Constructor<T> constructor;
+  private final MethodHandle handle;
+  private final MethodHandle fixedHandle;
+  // Null if the member cannot take the arguments, such invocations go through the handle.
+  private final MethodHandle intHandle;
+  private final MethodHandle objectIntHandle;
+  private final MethodHandle doubleHandle;
+  private final AccessorBackend backend;
+  // Set on the first invocation with metrics enabled. Racy, the counter only has final fields.
+  private InvocationCounter invocationCounter;
 
   /**
    * Creates {@code ConstructorAccessor<T>} instance and makes {@code Constructor} is accessible.
@@ -22,7 +60,37 @@ public class ConstructorAccessor<T> implements Accessor {
    * @param constructor The constructor to access.
    */
   public ConstructorAccessor(@NotNull Constructor<T> constructor) {
+    this(constructor, true);
+  }
+
+  /**
+   * Creates {@code ConstructorAccessor<T>} instance, without method handles for subclasses that
+   * implement the instantiation themselves.
+   *
+   * <p>The {@code doNewInstanceN} methods that such a subclass does not override delegate to
+   * {@link #doNewInstance(Object[])}, which invokes the constructor through reflection unless it
+   * is overridden too.
+   *
+   * @param constructor The constructor to access.
+   * @param unreflect   False to skip unreflecting the constructor.
+   */
+  protected ConstructorAccessor(@NotNull Constructor<T> constructor, boolean unreflect) {
     this.constructor = AccessUtil.forceAccess(constructor);
+    this.backend = BackendPolicy.creatingBackend();
+    if (!unreflect) {
+      this.handle = null;
+      this.fixedHandle = null;
+      this.intHandle = null;
+      this.objectIntHandle = null;
+      this.doubleHandle = null;
+      return;
+    }
+    this.handle = Handles.unreflectConstructor(this.constructor);
+    this.fixedHandle = Handles.unreflectFixed(this.constructor);
+    this.intHandle = Handles.unreflectAs(this.constructor, int.class);
+    this.objectIntHandle = Handles.unreflectAs(this.constructor, Object.class, int.class);
+    this.doubleHandle =
+        Handles.unreflectAs(this.constructor, double.class, double.class, double.class);
   }
 
   /**
@@ -33,7 +101,7 @@ public class ConstructorAccessor<T> implements Accessor {
    */
   @Nullable
   public T newInstance() {
-    return newInstance(new Object[0]);
+    return newInstance0();
   }
 
   /**
@@ -44,12 +112,459 @@ public class ConstructorAccessor<T> implements Accessor {
    * @throws RuntimeException If invoke constructor is failed.
    * @see Constructor#newInstance(Object...)
    */
+  @SuppressWarnings("unchecked")
   @Nullable
   public T newInstance(@Nullable Object... params) {
+    Object[] args = params == null ? EMPTY_PARAMS : params;
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance(args);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with no parameters, without creating
+   * a parameter array.
+   *
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance0() {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance0();
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with one parameter, without creating
+   * a parameter array.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance1(@Nullable Object arg1) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance1(arg1);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with two parameters, without creating
+   * a parameter array.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance2(@Nullable Object arg1, @Nullable Object arg2) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance2(arg1, arg2);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with three parameters, without
+   * creating a parameter array.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance3(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance3(arg1, arg2, arg3);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with four parameters, without
+   * creating a parameter array.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @param arg4 The fourth parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance4(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3,
+      @Nullable Object arg4) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance4(arg1, arg2, arg3, arg4);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with five parameters, without
+   * creating a parameter array.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @param arg4 The fourth parameter passed the constructor.
+   * @param arg5 The fifth parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance5(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3,
+      @Nullable Object arg4, @Nullable Object arg5) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance5(arg1, arg2, arg3, arg4, arg5);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with six parameters, without creating
+   * a parameter array.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @param arg4 The fourth parameter passed the constructor.
+   * @param arg5 The fifth parameter passed the constructor.
+   * @param arg6 The sixth parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance6(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3,
+      @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance6(arg1, arg2, arg3, arg4, arg5, arg6);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with (int) parameters, without boxing
+   * the primitive parameters or creating a parameter array.
+   *
+   * <p>The parameters are converted to the parameter types as by {@link
+   * MethodHandle#asType(MethodType)}.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance1(int arg1) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance1(arg1);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with (Object, int) parameters,
+   * without boxing the primitive parameters or creating a parameter array.
+   *
+   * <p>The parameters are converted to the parameter types as by {@link
+   * MethodHandle#asType(MethodType)}.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance2(@Nullable Object arg1, int arg2) {
+    long startTime = Metrics.startTime();
     try {
+      return (T) doNewInstance2(arg1, arg2);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Creates new instance of the constructor's declaring class with (double, double, double)
+   * parameters, without boxing the primitive parameters or creating a parameter array.
+   *
+   * <p>The parameters are converted to the parameter types as by {@link
+   * MethodHandle#asType(MethodType)}.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @return A new object created.
+   * @throws RuntimeException If invoke constructor is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public T newInstance3(double arg1, double arg2, double arg3) {
+    long startTime = Metrics.startTime();
+    try {
+      return (T) doNewInstance3(arg1, arg2, arg3);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the constructor without wrapping thrown exceptions in {@link RuntimeException}.
+   *
+   * <p>Subclasses may override this method to change how the constructor is invoked. Like {@link
+   * Constructor#newInstance(Object...)}, they throw an exception thrown by the constructor wrapped
+   * in an {@link InvocationTargetException}, and invalid arguments as unchecked exceptions.
+   *
+   * @param params Parameters passed to the constructor, never {@code null}.
+   * @return A new object created.
+   * @throws InvocationTargetException If the constructor throws an exception.
+   * @throws Throwable                 If the constructor cannot be invoked.
+   */
+  protected Object doNewInstance(Object @NotNull [] params) throws Throwable {
+    if (handle == null) {
       return constructor.newInstance(params);
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
+    }
+    return handle.invokeExact(params);
+  }
+
+  /**
+   * Creates new instance with no parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance0() throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 0) {
+      return newInstanceUnreflected();
+    }
+    return fixedHandle.invokeExact();
+  }
+
+  /**
+   * Creates new instance with one parameter without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance1(@Nullable Object arg1) throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 1) {
+      return newInstanceUnreflected(arg1);
+    }
+    return fixedHandle.invokeExact(arg1);
+  }
+
+  /**
+   * Creates new instance with two parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance2(@Nullable Object arg1, @Nullable Object arg2) throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 2) {
+      return newInstanceUnreflected(arg1, arg2);
+    }
+    return fixedHandle.invokeExact(arg1, arg2);
+  }
+
+  /**
+   * Creates new instance with three parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance3(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3) throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 3) {
+      return newInstanceUnreflected(arg1, arg2, arg3);
+    }
+    return fixedHandle.invokeExact(arg1, arg2, arg3);
+  }
+
+  /**
+   * Creates new instance with four parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance4(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4) throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 4) {
+      return newInstanceUnreflected(arg1, arg2, arg3, arg4);
+    }
+    return fixedHandle.invokeExact(arg1, arg2, arg3, arg4);
+  }
+
+  /**
+   * Creates new instance with five parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance5(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 5) {
+      return newInstanceUnreflected(arg1, arg2, arg3, arg4, arg5);
+    }
+    return fixedHandle.invokeExact(arg1, arg2, arg3, arg4, arg5);
+  }
+
+  /**
+   * Creates new instance with six parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance6(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5,
+      @Nullable Object arg6) throws Throwable {
+    if (fixedHandle == null || constructor.getParameterCount() != 6) {
+      return newInstanceUnreflected(arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+    return fixedHandle.invokeExact(arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  /**
+   * Creates new instance with (int) parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance1(int arg1) throws Throwable {
+    if (intHandle == null) {
+      return newInstanceUnreflected(arg1);
+    }
+    return intHandle.invokeExact(arg1);
+  }
+
+  /**
+   * Creates new instance with (Object, int) parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance2(@Nullable Object arg1, int arg2) throws Throwable {
+    if (objectIntHandle == null) {
+      return newInstanceUnreflected(arg1, arg2);
+    }
+    return objectIntHandle.invokeExact(arg1, arg2);
+  }
+
+  /**
+   * Creates new instance with (double, double, double) parameters without wrapping exceptions.
+   *
+   * @see #doNewInstance(Object[])
+   */
+  protected Object doNewInstance3(double arg1, double arg2, double arg3) throws Throwable {
+    if (doubleHandle == null) {
+      return newInstanceUnreflected(arg1, arg2, arg3);
+    }
+    return doubleHandle.invokeExact(arg1, arg2, arg3);
+  }
+
+  /**
+   * Implements {@link Supplier} with the constructor with no parameters.
+   *
+   * @return The supplier that creates new instances.
+   * @throws IllegalArgumentException If the constructor has parameters.
+   * @see #asInterface(Class)
+   */
+  public @NotNull Supplier<T> asSupplier() {
+    return Lambdas.supplier(Handles.unreflectDirect(constructor));
+  }
+
+  /**
+   * Implements {@link Function} with the constructor with only one parameter.
+   *
+   * @param <P> Type of the constructor parameter.
+   * @return The function that creates new instances.
+   * @throws IllegalArgumentException If the constructor has incompatible parameters.
+   * @see #asInterface(Class)
+   */
+  public <P> @NotNull Function<P, T> asFunction() {
+    return Lambdas.function(Handles.unreflectDirect(constructor));
+  }
+
+  /**
+   * Implements the functional interface with the constructor.
+   *
+   * <p>The interface method parameters are the constructor parameters.
+   *
+   * <p>If the constructor is accessible from this library, the implementation is spun through
+   * {@link LambdaMetafactory} and calls the constructor directly. Otherwise, the implementation
+   * invokes the method handle. Each call creates a new implementation, store the result instead of
+   * calling it repeatedly.
+   *
+   * @param functionalInterface The public functional interface to implement.
+   * @param <F>                 Type of the functional interface.
+   * @return The implementation of the functional interface that creates new instances.
+   * @throws IllegalArgumentException If the class is not a functional interface or the constructor
+   *                                  has incompatible parameters.
+   */
+  public <F> @NotNull F asInterface(@NotNull Class<F> functionalInterface) {
+    return Lambdas.implement(functionalInterface, Handles.unreflectDirect(constructor));
+  }
+
+  private Object newInstanceUnreflected(Object... params) throws Throwable {
+    Conversions.checkCount(params, constructor.getParameterCount());
+    return doNewInstance(params);
+  }
+
+  private void recordInvocation(long startTime) {
+    if (startTime != 0) {
+      InvocationCounter counter = invocationCounter;
+      if (counter == null) {
+        counter = Metrics.invocationCounter(constructor);
+        invocationCounter = counter;
+      }
+      counter.record(startTime, this);
     }
   }
 
@@ -62,4 +577,9 @@ public class ConstructorAccessor<T> implements Accessor {
   public Constructor<T> getConstructor() {
     return constructor;
   }
+
+  @Override
+  public @Nullable AccessorBackend backend() {
+    return backend;
+  }
 }
@@ -0,0 +1,126 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code double} fields.
+ *
+ * <p>{@link #getDouble(Object)} and {@link #setDouble(Object, double)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class DoubleFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle doubleGetter;
+  private final MethodHandle doubleSetter;
+
+  /**
+   * Creates {@code DoubleFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code double} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code double}.
+   */
+  public DoubleFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code DoubleFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code double} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code double}.
+   */
+  protected DoubleFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, double.class), unreflect);
+    this.doubleGetter = unreflect ? Handles.unreflectGetter(getField(), double.class) : null;
+    this.doubleSetter = unreflect ? Handles.unreflectSetter(getField(), double.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code double} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  DoubleFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, double.class), promotion);
+    this.doubleGetter = null;
+    this.doubleSetter = null;
+  }
+
+  @Override
+  public double getDouble(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetDouble(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setDouble(@Nullable Object instance, double value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetDouble(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  void doGetAllDouble(Object[] instances, double[] out, int from, int to) throws Throwable {
+    for (int i = from; i < to; i++) {
+      out[i] = doGetDouble(instances[i]);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected double doGetDouble(@Nullable Object instance) throws Throwable {
+    if (doubleGetter == null) {
+      return getField().getDouble(instance);
+    }
+    return (double) doubleGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetDouble(@Nullable Object instance, double value) throws Throwable {
+    if (doubleSetter == null) {
+      getField().setDouble(instance, value);
+      return;
+    }
+    doubleSetter.invokeExact(instance, value);
+  }
+}
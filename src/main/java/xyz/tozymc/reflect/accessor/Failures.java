@@ -0,0 +1,37 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.InvocationTargetException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Rethrows the failures of accessors as the core reflection accessors of version 1.0 did.
+ *
+ * <p>Unchecked exceptions, such as the {@link IllegalArgumentException} of a mismatched argument or
+ * the {@link NullPointerException} of a missing instance, are thrown as they are. Checked
+ * exceptions are wrapped in a {@link RuntimeException}, including the {@link
+ * InvocationTargetException} that wraps an exception thrown by a method or constructor.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class Failures {
+
+  private Failures() {}
+
+  /**
+   * Gets the exception to throw for the failure of an accessor.
+   *
+   * @param e The failure.
+   * @return The failure itself if unchecked, or a {@link RuntimeException} wrapping it.
+   * @throws Error If the failure is an error.
+   */
+  static @NotNull RuntimeException propagate(@NotNull Throwable e) {
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+    return new RuntimeException(e);
+  }
+}
@@ -1,19 +1,58 @@
 package xyz.tozymc.reflect.accessor;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.InvocationCounter;
+import xyz.tozymc.reflect.metrics.Metrics;
 import xyz.tozymc.reflect.util.AccessUtil;
+import xyz.tozymc.reflect.util.Handles;
+import xyz.tozymc.reflect.util.Lambdas;
+import xyz.tozymc.util.Preconditions;
 
 /**
  * The class that wraps an accessible {@code Field}.
  *
+ * <p>The field is unreflected once to getter and setter {@link MethodHandle}s, which are used for
+ * every access instead of {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ *
+ * <p>Fields of primitive types are wrapped by the subclass specialized for the type, such as {@link
+ * IntFieldAccessor}, which reads and writes the value with {@link #getInt(Object)} and {@link
+ * #setInt(Object, int)} (and so on) without boxing.
+ *
+ * <p>The value of the field can be read from a batch of instances at once, for example with {@link
+ * #getAllInt(Object[], int[])}, which checks the batch once and reads the values in a tight loop,
+ * optionally in parallel.
+ *
+ * <p>The field can also be accessed atomically or with the memory ordering of a {@code volatile}
+ * field, for example with {@link #compareAndSet(Object, Object, Object)} or {@link
+ * #getAndAddInt(Object, int)}, through a {@code VarHandle} on Java 11 and later and through the
+ * field offset on Java 8.
+ *
+ * <p>If {@link Metrics} are enabled, the reads and writes are counted and timed per member.
+ *
  * @author TozyMC
  * @since 1.0
  */
 public class FieldAccessor implements Accessor {
 
   private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+  private final AccessorBackend backend;
+  // Set for tiered accessors, which access the field through the accessor of the promotion.
+  private final Promotion<FieldAccessor> promotion;
+  // Set on the first invocation with metrics enabled. Racy, the counter only has final fields.
+  private InvocationCounter invocationCounter;
+  // Set on the first atomic access. Racy, the atomics only hold immutable state in final fields.
+  private FieldAtomics atomics;
 
   /**
    * Creates {@code FieldAccessor} instance and makes {@code Field} is accessible.
@@ -21,7 +60,39 @@ public class FieldAccessor implements Accessor {
    * @param field The field to access.
    */
   public FieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code FieldAccessor} instance, without method handles for subclasses that access the
+   * field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The field to access.
+   * @param unreflect False to skip unreflecting the field.
+   */
+  protected FieldAccessor(@NotNull Field field, boolean unreflect) {
+    this.field = AccessUtil.forceAccess(field);
+    this.backend = BackendPolicy.creatingBackend();
+    this.getter = unreflect ? Handles.unreflectGetter(this.field) : null;
+    this.setter = unreflect ? Handles.unreflectSetter(this.field) : null;
+    this.promotion = null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  FieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
     this.field = AccessUtil.forceAccess(field);
+    this.backend = null;
+    this.getter = null;
+    this.setter = null;
+    this.promotion = promotion;
   }
 
   /**
@@ -33,13 +104,16 @@ public class FieldAccessor implements Accessor {
    * @throws RuntimeException If getting the value of field is failed.
    * @see Field#get(Object)
    */
+  @SuppressWarnings("unchecked")
   @Nullable
   public <R> R get(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
     try {
-      //noinspection unchecked
-      return (R) field.get(instance);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      return (R) doGet(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
     }
   }
 
@@ -48,12 +122,944 @@ public class FieldAccessor implements Accessor {
    *
    * @param instance The object whose field should be modified.
    * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#set(Object, Object)
    */
   public void set(@Nullable Object instance, @Nullable Object value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSet(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code boolean}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link BooleanFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getBoolean(Object)
+   */
+  public boolean getBoolean(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getBoolean(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code boolean}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link BooleanFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setBoolean(Object, boolean)
+   */
+  public void setBoolean(@Nullable Object instance, boolean value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setBoolean(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code byte}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link ByteFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getByte(Object)
+   */
+  public byte getByte(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getByte(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code byte}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link ByteFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setByte(Object, byte)
+   */
+  public void setByte(@Nullable Object instance, byte value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setByte(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code char}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link CharFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getChar(Object)
+   */
+  public char getChar(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
     try {
-      field.set(instance, value);
+      return field.getChar(instance);
     } catch (IllegalAccessException e) {
       throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code char}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link CharFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setChar(Object, char)
+   */
+  public void setChar(@Nullable Object instance, char value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setChar(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code short}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link ShortFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getShort(Object)
+   */
+  public short getShort(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getShort(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code short}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link ShortFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setShort(Object, short)
+   */
+  public void setShort(@Nullable Object instance, short value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setShort(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code int}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link IntFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getInt(Object)
+   */
+  public int getInt(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getInt(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code int}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link IntFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setInt(Object, int)
+   */
+  public void setInt(@Nullable Object instance, int value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setInt(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code long}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link LongFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getLong(Object)
+   */
+  public long getLong(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getLong(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code long}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link LongFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setLong(Object, long)
+   */
+  public void setLong(@Nullable Object instance, long value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setLong(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code float}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link FloatFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getFloat(Object)
+   */
+  public float getFloat(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getFloat(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code float}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link FloatFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setFloat(Object, float)
+   */
+  public void setFloat(@Nullable Object instance, float value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setFloat(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code double}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link DoubleFieldAccessor}.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   * @see Field#getDouble(Object)
+   */
+  public double getDouble(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return field.getDouble(instance);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field from {@code double}, with a widening conversion if needed.
+   *
+   * <p>The value is not boxed if this accessor is a {@link DoubleFieldAccessor}.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed.
+   * @see Field#setDouble(Object, double)
+   */
+  public void setDouble(@Nullable Object instance, double value) {
+    long startTime = Metrics.startTime();
+    try {
+      field.setDouble(instance, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field with the memory semantics of a {@code volatile} read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @param <R>      Return type of field.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R getVolatile(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) atomics().getVolatile(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field with the memory semantics of a {@code volatile} write.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed, or the field is final.
+   */
+  public void setVolatile(@Nullable Object instance, @Nullable Object value) {
+    long startTime = Metrics.startTime();
+    try {
+      atomics().setVolatile(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field, no later reads or writes of this thread are reordered before the
+   * read.
+   *
+   * <p>Pairs with {@link #setRelease(Object, Object)}. The read is {@code volatile} on Java 8.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @param <R>      Return type of field.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws RuntimeException If getting the value of field is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R getAcquire(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) atomics().getAcquire(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Sets the value of the field, no earlier reads or writes of this thread are reordered after the
+   * write.
+   *
+   * <p>A thread reading the value with {@link #getAcquire(Object)} sees every write this thread
+   * made before, at a lower cost than a {@code volatile} write.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws RuntimeException If setting the value of field is failed, or the field is final.
+   */
+  public void setRelease(@Nullable Object instance, @Nullable Object value) {
+    long startTime = Metrics.startTime();
+    try {
+      atomics().setRelease(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically sets the value of the field if the current value is the expected value.
+   *
+   * <p>References are compared by identity, boxed values of primitive fields by value. On Java 8,
+   * only reference, {@code int} and {@code long} fields are supported.
+   *
+   * @param instance The object whose field should be modified.
+   * @param expected The expected current value.
+   * @param value    New value for the field.
+   * @return True if the value was set.
+   * @throws RuntimeException If setting the value of field is failed, or the field is final.
+   */
+  public boolean compareAndSet(@Nullable Object instance, @Nullable Object expected,
+      @Nullable Object value) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().compareAndSet(instance, expected, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically sets the value of the field and gets the previous value.
+   *
+   * <p>On Java 8, only reference, {@code int} and {@code long} fields are supported.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @param <R>      Return type of field.
+   * @return The previous value of the field.
+   * @throws RuntimeException If setting the value of field is failed, or the field is final.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R getAndSet(@Nullable Object instance, @Nullable Object value) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) atomics().getAndSet(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically sets the value of the {@code int} field if the current value is the expected
+   * value, without boxing.
+   *
+   * @param instance The object whose field should be modified.
+   * @param expected The expected current value.
+   * @param value    New value for the field.
+   * @return True if the value was set.
+   * @throws RuntimeException If the field type is not {@code int}, or the field is final.
+   * @see #compareAndSet(Object, Object, Object)
+   */
+  public boolean compareAndSetInt(@Nullable Object instance, int expected, int value) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().compareAndSetInt(instance, expected, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically adds to the value of the {@code int} field and gets the previous value.
+   *
+   * @param instance The object whose field should be modified.
+   * @param delta    The value to add.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field type is not {@code int}, or the field is final.
+   */
+  public int getAndAddInt(@Nullable Object instance, int delta) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().getAndAddInt(instance, delta);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically sets the value of the {@code int} field and gets the previous value, without
+   * boxing.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field type is not {@code int}, or the field is final.
+   * @see #getAndSet(Object, Object)
+   */
+  public int getAndSetInt(@Nullable Object instance, int value) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().getAndSetInt(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically sets the value of the {@code long} field if the current value is the expected
+   * value, without boxing.
+   *
+   * @param instance The object whose field should be modified.
+   * @param expected The expected current value.
+   * @param value    New value for the field.
+   * @return True if the value was set.
+   * @throws RuntimeException If the field type is not {@code long}, or the field is final.
+   * @see #compareAndSet(Object, Object, Object)
+   */
+  public boolean compareAndSetLong(@Nullable Object instance, long expected, long value) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().compareAndSetLong(instance, expected, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically adds to the value of the {@code long} field and gets the previous value.
+   *
+   * @param instance The object whose field should be modified.
+   * @param delta    The value to add.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field type is not {@code long}, or the field is final.
+   */
+  public long getAndAddLong(@Nullable Object instance, long delta) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().getAndAddLong(instance, delta);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Atomically sets the value of the {@code long} field and gets the previous value, without
+   * boxing.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field type is not {@code long}, or the field is final.
+   * @see #getAndSet(Object, Object)
+   */
+  public long getAndSetLong(@Nullable Object instance, long value) {
+    long startTime = Metrics.startTime();
+    try {
+      return atomics().getAndSetLong(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field from every instance, in iteration order.
+   *
+   * <p>The instances are checked once for the whole batch, and the batch is counted as one
+   * invocation by {@link Metrics}.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the values are written to, from index 0.
+   * @return The number of values written.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If getting the value of field is failed.
+   */
+  public int getAll(@NotNull Iterable<?> instances, Object @NotNull [] out) {
+    BulkTask.checkOutput(instances, out.length);
+
+    long startTime = Metrics.startTime();
+    Iterator<?> iterator = instances.iterator();
+    int i = 0;
+    try {
+      while (iterator.hasNext()) {
+        BulkTask.checkIndex(i, out.length);
+        out[i++] = doGet(iterator.next());
+      }
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+    return i;
+  }
+
+  /**
+   * Gets the value of the field from every instance.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If getting the value of field is failed.
+   * @see #getAll(Object[], Object[], ForkJoinPool)
+   */
+  public void getAll(Object @NotNull [] instances, Object @NotNull [] out) {
+    getAll(instances, out, null);
+  }
+
+  /**
+   * Gets the value of the field from every instance, in parallel for large batches.
+   *
+   * <p>The instances are checked once for the whole batch, and the batch is counted as one
+   * invocation by {@link Metrics}. Batches larger than a thousand instances are split between the
+   * workers of the pool, if any.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If getting the value of field is failed.
+   */
+  public void getAll(Object @NotNull [] instances, Object @NotNull [] out,
+      @Nullable ForkJoinPool pool) {
+    BulkTask.checkOutput(instances, out.length);
+
+    long startTime = Metrics.startTime();
+    try {
+      BulkTask.run(instances.length, pool, (from, to) -> {
+        for (int i = from; i < to; i++) {
+          out[i] = doGet(instances[i]);
+        }
+      });
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code int} from every instance.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If getting the value of field is failed.
+   * @see #getAllInt(Object[], int[], ForkJoinPool)
+   */
+  public void getAllInt(Object @NotNull [] instances, int @NotNull [] out) {
+    getAllInt(instances, out, null);
+  }
+
+  /**
+   * Gets the value of the field as {@code int} from every instance, in parallel for large
+   * batches.
+   *
+   * <p>The values are not boxed if this accessor is a {@link IntFieldAccessor}.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If getting the value of field is failed.
+   * @see #getAll(Object[], Object[], ForkJoinPool)
+   */
+  public void getAllInt(Object @NotNull [] instances, int @NotNull [] out,
+      @Nullable ForkJoinPool pool) {
+    BulkTask.checkOutput(instances, out.length);
+
+    long startTime = Metrics.startTime();
+    try {
+      BulkTask.run(instances.length, pool, (from, to) -> doGetAllInt(instances, out, from, to));
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field as {@code double} from every instance.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If getting the value of field is failed.
+   * @see #getAllDouble(Object[], double[], ForkJoinPool)
+   */
+  public void getAllDouble(Object @NotNull [] instances, double @NotNull [] out) {
+    getAllDouble(instances, out, null);
+  }
+
+  /**
+   * Gets the value of the field as {@code double} from every instance, in parallel for large
+   * batches.
+   *
+   * <p>The values are not boxed if this accessor is a {@link DoubleFieldAccessor}.
+   *
+   * @param instances Objects from which the represented field's value is to be extracted.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If getting the value of field is failed.
+   * @see #getAll(Object[], Object[], ForkJoinPool)
+   */
+  public void getAllDouble(Object @NotNull [] instances, double @NotNull [] out,
+      @Nullable ForkJoinPool pool) {
+    BulkTask.checkOutput(instances, out.length);
+
+    long startTime = Metrics.startTime();
+    try {
+      BulkTask.run(instances.length, pool,
+          (from, to) -> doGetAllDouble(instances, out, from, to));
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected Object doGet(@Nullable Object instance) throws Throwable {
+    if (getter == null) {
+      return promotion == null ? field.get(instance) : promotion.next().doGet(instance);
+    }
+    return getter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSet(@Nullable Object instance, @Nullable Object value) throws Throwable {
+    if (setter == null) {
+      if (promotion == null) {
+        field.set(instance, value);
+      } else {
+        promotion.next().doSet(instance, value);
+      }
+      return;
+    }
+    setter.invokeExact(instance, value);
+  }
+
+  void doGetAllInt(Object[] instances, int[] out, int from, int to) throws Throwable {
+    for (int i = from; i < to; i++) {
+      out[i] = field.getInt(instances[i]);
+    }
+  }
+
+  void doGetAllDouble(Object[] instances, double[] out, int from, int to) throws Throwable {
+    for (int i = from; i < to; i++) {
+      out[i] = field.getDouble(instances[i]);
+    }
+  }
+
+  /**
+   * Implements {@link Function} that gets the value of the field.
+   *
+   * <p>The function parameter is the instance, same as {@link #get(Object)}. Each call creates a
+   * new implementation, store the result instead of calling it repeatedly.
+   *
+   * @param <T> Type of the instance.
+   * @param <R> Type of the field.
+   * @return The function that gets the value of the field.
+   */
+  public <T, R> @NotNull Function<T, R> asGetter() {
+    return Lambdas.function(getter != null ? getter : Handles.unreflectGetter(field));
+  }
+
+  /**
+   * Implements {@link BiConsumer} that sets the value of the field.
+   *
+   * <p>The consumer parameters are the instance and the new value, same as {@link #set(Object,
+   * Object)}. Each call creates a new implementation, store the result instead of calling it
+   * repeatedly.
+   *
+   * @param <T> Type of the instance.
+   * @param <V> Type of the field.
+   * @return The consumer that sets the value of the field.
+   */
+  public <T, V> @NotNull BiConsumer<T, V> asSetter() {
+    return Lambdas.biConsumer(setter != null ? setter : Handles.unreflectSetter(field));
+  }
+
+  /**
+   * Implements {@link ToIntFunction} that gets the value of the {@code int} field without boxing.
+   *
+   * @param <T> Type of the instance.
+   * @return The function that gets the value of the field.
+   * @throws java.lang.invoke.WrongMethodTypeException If the field type cannot be converted to
+   *                                                   {@code int}.
+   * @see #asGetter()
+   */
+  public <T> @NotNull ToIntFunction<T> asIntGetter() {
+    return Lambdas.toIntFunction(Handles.unreflectGetter(field, int.class));
+  }
+
+  /**
+   * Implements {@link ObjIntConsumer} that sets the value of the {@code int} field without boxing.
+   *
+   * @param <T> Type of the instance.
+   * @return The consumer that sets the value of the field.
+   * @throws java.lang.invoke.WrongMethodTypeException If {@code int} cannot be converted to the
+   *                                                   field type.
+   * @see #asSetter()
+   */
+  public <T> @NotNull ObjIntConsumer<T> asIntSetter() {
+    return Lambdas.objIntConsumer(Handles.unreflectSetter(field, int.class));
+  }
+
+  /**
+   * Creates the field accessor specialized for the type of the field.
+   *
+   * @param field The field to access.
+   * @return The primitive field accessor such as {@link IntFieldAccessor} if the field type is
+   *     primitive, otherwise a plain {@code FieldAccessor}.
+   */
+  public static @NotNull FieldAccessor of(@NotNull Field field) {
+    return of(field, true);
+  }
+
+  /**
+   * Creates the field accessor specialized for the type of the field, without method handles if
+   * requested, so the accessor is cheap to create and accesses the field through reflection.
+   *
+   * @param field     The field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @return The primitive field accessor such as {@link IntFieldAccessor} if the field type is
+   *     primitive, otherwise a plain {@code FieldAccessor}.
+   */
+  static @NotNull FieldAccessor of(@NotNull Field field, boolean unreflect) {
+    Class<?> type = field.getType();
+    if (!type.isPrimitive()) {
+      return new FieldAccessor(field, unreflect);
+    }
+    if (type == boolean.class) {
+      return new BooleanFieldAccessor(field, unreflect);
+    }
+    if (type == byte.class) {
+      return new ByteFieldAccessor(field, unreflect);
+    }
+    if (type == char.class) {
+      return new CharFieldAccessor(field, unreflect);
+    }
+    if (type == short.class) {
+      return new ShortFieldAccessor(field, unreflect);
+    }
+    if (type == int.class) {
+      return new IntFieldAccessor(field, unreflect);
+    }
+    if (type == long.class) {
+      return new LongFieldAccessor(field, unreflect);
+    }
+    if (type == float.class) {
+      return new FloatFieldAccessor(field, unreflect);
+    }
+    return new DoubleFieldAccessor(field, unreflect);
+  }
+
+  static @NotNull Field checkType(@NotNull Field field, @NotNull Class<?> type) {
+    Preconditions.checkArgument(field.getType() == type, "Field type must be %s", type);
+    return field;
+  }
+
+  private FieldAtomics atomics() {
+    FieldAtomics atomics = this.atomics;
+    if (atomics == null) {
+      atomics = FieldAtomics.of(field);
+      this.atomics = atomics;
+    }
+    return atomics;
+  }
+
+  final void recordInvocation(long startTime) {
+    if (startTime != 0) {
+      InvocationCounter counter = invocationCounter;
+      if (counter == null) {
+        counter = Metrics.invocationCounter(field);
+        invocationCounter = counter;
+      }
+      counter.record(startTime, this);
     }
   }
 
@@ -66,4 +1072,24 @@ public class FieldAccessor implements Accessor {
   public Field getField() {
     return field;
   }
+
+  /**
+   * Gets the promotion of a tiered accessor.
+   *
+   * @return The promotion, or {@code null} if this accessor is not tiered.
+   */
+  final @Nullable Promotion<FieldAccessor> promotion() {
+    return promotion;
+  }
+
+  /**
+   * Gets the backend that created this accessor for {@link Accessors}. Tiered accessors return the
+   * backend of the accessor in use, {@link AccessorBackend#REFLECTION} until they are promoted.
+   *
+   * @return The backend, or {@code null} if the accessor was not created for {@code Accessors}.
+   */
+  @Override
+  public @Nullable AccessorBackend backend() {
+    return promotion == null ? backend : promotion.current().backend();
+  }
 }
@@ -0,0 +1,209 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import org.jetbrains.annotations.Nullable;
+import sun.misc.Unsafe;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * Atomic and memory-ordered access to a field, for {@link FieldAccessor}.
+ *
+ * <p>This is the implementation for Java 8, which accesses the field through its offset with
+ * {@link Unsafe}. Acquire reads are volatile reads, release writes of reference, {@code int} and
+ * {@code long} fields are ordered writes and volatile writes otherwise. Atomic updates are limited
+ * to reference, {@code int} and {@code long} fields. The multi-release jar replaces this class with
+ * the implementation based on {@code VarHandle} on Java 11 and later.
+ *
+ * <p>The instance is cast to the declaring class and the value to the field type before the field
+ * is accessed, final fields cannot be written.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class FieldAtomics {
+
+  private static final Unsafe UNSAFE = OffsetFieldAccessor.unsafe();
+
+  private final Class<?> declaringClass;
+  private final Class<?> type;
+  private final boolean isFinal;
+  private final Object staticBase;
+  private final long offset;
+
+  private FieldAtomics(Field field) {
+    this.declaringClass = field.getDeclaringClass();
+    this.type = field.getType();
+    this.isFinal = Modifier.isFinal(field.getModifiers());
+    if (Modifier.isStatic(field.getModifiers())) {
+      // The class may be resolved without being initialized, its static fields are not set yet.
+      UNSAFE.ensureClassInitialized(declaringClass);
+      this.staticBase = UNSAFE.staticFieldBase(field);
+      this.offset = UNSAFE.staticFieldOffset(field);
+    } else {
+      this.staticBase = null;
+      this.offset = UNSAFE.objectFieldOffset(field);
+    }
+  }
+
+  static FieldAtomics of(Field field) {
+    if (UNSAFE == null) {
+      throw new UnsupportedOperationException("Unsafe is not available");
+    }
+    return new FieldAtomics(field);
+  }
+
+  Object getVolatile(@Nullable Object instance) {
+    Object base = base(instance);
+    if (!type.isPrimitive()) {
+      return UNSAFE.getObjectVolatile(base, offset);
+    }
+    if (type == int.class) {
+      return UNSAFE.getIntVolatile(base, offset);
+    }
+    if (type == long.class) {
+      return UNSAFE.getLongVolatile(base, offset);
+    }
+    if (type == double.class) {
+      return UNSAFE.getDoubleVolatile(base, offset);
+    }
+    if (type == float.class) {
+      return UNSAFE.getFloatVolatile(base, offset);
+    }
+    if (type == boolean.class) {
+      return UNSAFE.getBooleanVolatile(base, offset);
+    }
+    if (type == byte.class) {
+      return UNSAFE.getByteVolatile(base, offset);
+    }
+    if (type == short.class) {
+      return UNSAFE.getShortVolatile(base, offset);
+    }
+    return UNSAFE.getCharVolatile(base, offset);
+  }
+
+  void setVolatile(@Nullable Object instance, @Nullable Object value) {
+    Object base = writableBase(instance);
+    if (!type.isPrimitive()) {
+      UNSAFE.putObjectVolatile(base, offset, type.cast(value));
+    } else if (type == int.class) {
+      UNSAFE.putIntVolatile(base, offset, (Integer) value);
+    } else if (type == long.class) {
+      UNSAFE.putLongVolatile(base, offset, (Long) value);
+    } else if (type == double.class) {
+      UNSAFE.putDoubleVolatile(base, offset, (Double) value);
+    } else if (type == float.class) {
+      UNSAFE.putFloatVolatile(base, offset, (Float) value);
+    } else if (type == boolean.class) {
+      UNSAFE.putBooleanVolatile(base, offset, (Boolean) value);
+    } else if (type == byte.class) {
+      UNSAFE.putByteVolatile(base, offset, (Byte) value);
+    } else if (type == short.class) {
+      UNSAFE.putShortVolatile(base, offset, (Short) value);
+    } else {
+      UNSAFE.putCharVolatile(base, offset, (Character) value);
+    }
+  }
+
+  Object getAcquire(@Nullable Object instance) {
+    return getVolatile(instance);
+  }
+
+  void setRelease(@Nullable Object instance, @Nullable Object value) {
+    Object base = writableBase(instance);
+    if (!type.isPrimitive()) {
+      UNSAFE.putOrderedObject(base, offset, type.cast(value));
+    } else if (type == int.class) {
+      UNSAFE.putOrderedInt(base, offset, (Integer) value);
+    } else if (type == long.class) {
+      UNSAFE.putOrderedLong(base, offset, (Long) value);
+    } else {
+      setVolatile(instance, value);
+    }
+  }
+
+  boolean compareAndSet(@Nullable Object instance, @Nullable Object expected,
+      @Nullable Object value) {
+    Object base = writableBase(instance);
+    if (!type.isPrimitive()) {
+      return UNSAFE.compareAndSwapObject(base, offset, expected, type.cast(value));
+    }
+    if (type == int.class) {
+      return UNSAFE.compareAndSwapInt(base, offset, (Integer) expected, (Integer) value);
+    }
+    if (type == long.class) {
+      return UNSAFE.compareAndSwapLong(base, offset, (Long) expected, (Long) value);
+    }
+    throw unsupportedType();
+  }
+
+  Object getAndSet(@Nullable Object instance, @Nullable Object value) {
+    Object base = writableBase(instance);
+    if (!type.isPrimitive()) {
+      return UNSAFE.getAndSetObject(base, offset, type.cast(value));
+    }
+    if (type == int.class) {
+      return UNSAFE.getAndSetInt(base, offset, (Integer) value);
+    }
+    if (type == long.class) {
+      return UNSAFE.getAndSetLong(base, offset, (Long) value);
+    }
+    throw unsupportedType();
+  }
+
+  boolean compareAndSetInt(@Nullable Object instance, int expected, int value) {
+    checkType(int.class);
+    return UNSAFE.compareAndSwapInt(writableBase(instance), offset, expected, value);
+  }
+
+  int getAndAddInt(@Nullable Object instance, int delta) {
+    checkType(int.class);
+    return UNSAFE.getAndAddInt(writableBase(instance), offset, delta);
+  }
+
+  int getAndSetInt(@Nullable Object instance, int value) {
+    checkType(int.class);
+    return UNSAFE.getAndSetInt(writableBase(instance), offset, value);
+  }
+
+  boolean compareAndSetLong(@Nullable Object instance, long expected, long value) {
+    checkType(long.class);
+    return UNSAFE.compareAndSwapLong(writableBase(instance), offset, expected, value);
+  }
+
+  long getAndAddLong(@Nullable Object instance, long delta) {
+    checkType(long.class);
+    return UNSAFE.getAndAddLong(writableBase(instance), offset, delta);
+  }
+
+  long getAndSetLong(@Nullable Object instance, long value) {
+    checkType(long.class);
+    return UNSAFE.getAndSetLong(writableBase(instance), offset, value);
+  }
+
+  private Object base(@Nullable Object instance) {
+    if (staticBase != null) {
+      return staticBase;
+    }
+    Preconditions.checkNotNull(instance, "Instance cannot be null");
+    // Unsafe does not check the instance, a foreign object would be corrupted.
+    return declaringClass.cast(instance);
+  }
+
+  private Object writableBase(@Nullable Object instance) {
+    if (isFinal) {
+      throw new UnsupportedOperationException("Final field cannot be written");
+    }
+    return base(instance);
+  }
+
+  private void checkType(Class<?> expected) {
+    Preconditions.checkArgument(type == expected, "Field type must be %s", expected);
+  }
+
+  private UnsupportedOperationException unsupportedType() {
+    return new UnsupportedOperationException(
+        "Atomic updates of " + type + " fields need Java 11 or later");
+  }
+
+}
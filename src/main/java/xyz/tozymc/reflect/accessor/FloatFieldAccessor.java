@@ -0,0 +1,119 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code float} fields.
+ *
+ * <p>{@link #getFloat(Object)} and {@link #setFloat(Object, float)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class FloatFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle floatGetter;
+  private final MethodHandle floatSetter;
+
+  /**
+   * Creates {@code FloatFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code float} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code float}.
+   */
+  public FloatFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code FloatFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code float} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code float}.
+   */
+  protected FloatFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, float.class), unreflect);
+    this.floatGetter = unreflect ? Handles.unreflectGetter(getField(), float.class) : null;
+    this.floatSetter = unreflect ? Handles.unreflectSetter(getField(), float.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code float} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  FloatFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, float.class), promotion);
+    this.floatGetter = null;
+    this.floatSetter = null;
+  }
+
+  @Override
+  public float getFloat(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetFloat(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setFloat(@Nullable Object instance, float value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetFloat(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected float doGetFloat(@Nullable Object instance) throws Throwable {
+    if (floatGetter == null) {
+      return getField().getFloat(instance);
+    }
+    return (float) floatGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetFloat(@Nullable Object instance, float value) throws Throwable {
+    if (floatSetter == null) {
+      getField().setFloat(instance, value);
+      return;
+    }
+    floatSetter.invokeExact(instance, value);
+  }
+}
@@ -0,0 +1,126 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code int} fields.
+ *
+ * <p>{@link #getInt(Object)} and {@link #setInt(Object, int)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class IntFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle intGetter;
+  private final MethodHandle intSetter;
+
+  /**
+   * Creates {@code IntFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code int} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code int}.
+   */
+  public IntFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code IntFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code int} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code int}.
+   */
+  protected IntFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, int.class), unreflect);
+    this.intGetter = unreflect ? Handles.unreflectGetter(getField(), int.class) : null;
+    this.intSetter = unreflect ? Handles.unreflectSetter(getField(), int.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code int} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  IntFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, int.class), promotion);
+    this.intGetter = null;
+    this.intSetter = null;
+  }
+
+  @Override
+  public int getInt(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetInt(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setInt(@Nullable Object instance, int value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetInt(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  void doGetAllInt(Object[] instances, int[] out, int from, int to) throws Throwable {
+    for (int i = from; i < to; i++) {
+      out[i] = doGetInt(instances[i]);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected int doGetInt(@Nullable Object instance) throws Throwable {
+    if (intGetter == null) {
+      return getField().getInt(instance);
+    }
+    return (int) intGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetInt(@Nullable Object instance, int value) throws Throwable {
+    if (intSetter == null) {
+      getField().setInt(instance, value);
+      return;
+    }
+    intSetter.invokeExact(instance, value);
+  }
+}
@@ -0,0 +1,281 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Constructor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessor of a constructor, resolved on first use.
+ *
+ * <p>Lazy accessors are created by {@link Accessors} from a query or queries, without looking up
+ * the constructor. The constructor is resolved the first time the accessor is used, once even if
+ * several threads use it at the same time. Then the calls are delegated to the resolved accessor
+ * through a plain field, so the lazy accessor costs no synchronization after the first use. If the
+ * constructor cannot be resolved, the failure is thrown by every use until it can.
+ *
+ * <p>So a lazy accessor can be kept in a {@code static final} field, and the constructor is not
+ * resolved on servers where the feature using it is never used.
+ *
+ * <p>A lazy accessor is not a {@link ConstructorAccessor}, which needs its constructor when it is
+ * created, but it has the same methods to use the constructor. Moving a {@code static final
+ * ConstructorAccessor} field to a lazy accessor changes the type of the field, and code that takes
+ * a {@code ConstructorAccessor} is passed {@link #get()}.
+ *
+ * @param <T> The class in which the constructor is declared.
+ * @author TozyMC
+ * @see Accessors#lazyConstructor(Accessor.Query)
+ * @since 1.1
+ */
+public final class LazyConstructorAccessor<T> implements Accessor {
+
+  private final Supplier<? extends ConstructorAccessor<T>> resolver;
+  // Not volatile: accessors are safely published through a data race, their fields are final or
+  // racy caches of immutable objects, see JLS 17.5. A thread reading null resolves under the lock.
+  private ConstructorAccessor<T> accessor;
+
+  LazyConstructorAccessor(@NotNull Supplier<? extends ConstructorAccessor<T>> resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * Gets the resolved accessor, resolving it if needed.
+   *
+   * @return The resolved accessor.
+   * @throws RuntimeException If the constructor cannot be resolved.
+   */
+  public @NotNull ConstructorAccessor<T> get() {
+    ConstructorAccessor<T> accessor = this.accessor;
+    return accessor != null ? accessor : resolve();
+  }
+
+  /**
+   * Checks if the constructor is resolved.
+   *
+   * @return True if the constructor is resolved.
+   */
+  @Contract(pure = true)
+  public boolean isResolved() {
+    return accessor != null;
+  }
+
+  /**
+   * Creates a new instance with empty parameters.
+   *
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance()
+   */
+  public T newInstance() {
+    return get().newInstance();
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param params Parameters passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance(Object...)
+   */
+  public T newInstance(@Nullable Object... params) {
+    return get().newInstance(params);
+  }
+
+  /**
+   * Creates a new instance with no parameters.
+   *
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance0()
+   */
+  public T newInstance0() {
+    return get().newInstance0();
+  }
+
+  /**
+   * Creates a new instance with one parameter.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance1(Object)
+   */
+  public T newInstance1(@Nullable Object arg1) {
+    return get().newInstance1(arg1);
+  }
+
+  /**
+   * Creates a new instance with two parameters.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance2(Object, Object)
+   */
+  public T newInstance2(@Nullable Object arg1, @Nullable Object arg2) {
+    return get().newInstance2(arg1, arg2);
+  }
+
+  /**
+   * Creates a new instance with three parameters.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance3(Object, Object, Object)
+   */
+  public T newInstance3(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+    return get().newInstance3(arg1, arg2, arg3);
+  }
+
+  /**
+   * Creates a new instance with four parameters.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @param arg4 The fourth parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance4(Object, Object, Object, Object)
+   */
+  public T newInstance4(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3,
+      @Nullable Object arg4) {
+    return get().newInstance4(arg1, arg2, arg3, arg4);
+  }
+
+  /**
+   * Creates a new instance with five parameters.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @param arg4 The fourth parameter passed the constructor.
+   * @param arg5 The fifth parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance5(Object, Object, Object, Object, Object)
+   */
+  public T newInstance5(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3,
+      @Nullable Object arg4, @Nullable Object arg5) {
+    return get().newInstance5(arg1, arg2, arg3, arg4, arg5);
+  }
+
+  /**
+   * Creates a new instance with six parameters.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @param arg4 The fourth parameter passed the constructor.
+   * @param arg5 The fifth parameter passed the constructor.
+   * @param arg6 The sixth parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance6(Object, Object, Object, Object, Object, Object)
+   */
+  public T newInstance6(@Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3,
+      @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+    return get().newInstance6(arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  /**
+   * Creates a new instance with an {@code int} parameter.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance1(int)
+   */
+  public T newInstance1(int arg1) {
+    return get().newInstance1(arg1);
+  }
+
+  /**
+   * Creates a new instance with a parameter and an {@code int} parameter.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance2(Object, int)
+   */
+  public T newInstance2(@Nullable Object arg1, int arg2) {
+    return get().newInstance2(arg1, arg2);
+  }
+
+  /**
+   * Creates a new instance with three {@code double} parameters.
+   *
+   * @param arg1 The first parameter passed the constructor.
+   * @param arg2 The second parameter passed the constructor.
+   * @param arg3 The third parameter passed the constructor.
+   * @return The new instance.
+   * @throws RuntimeException If the constructor cannot be resolved or creating the instance failed.
+   * @see ConstructorAccessor#newInstance3(double, double, double)
+   */
+  public T newInstance3(double arg1, double arg2, double arg3) {
+    return get().newInstance3(arg1, arg2, arg3);
+  }
+
+  /**
+   * Implements {@link Supplier} with the constructor.
+   *
+   * @return The supplier calling the constructor.
+   * @throws RuntimeException If the constructor cannot be resolved or does not fit the interface.
+   * @see ConstructorAccessor#asSupplier()
+   */
+  public @NotNull Supplier<T> asSupplier() {
+    return get().asSupplier();
+  }
+
+  /**
+   * Implements {@link Function} with the constructor.
+   *
+   * @param <P> Type of the function parameter.
+   * @return The function calling the constructor.
+   * @throws RuntimeException If the constructor cannot be resolved or does not fit the interface.
+   * @see ConstructorAccessor#asFunction()
+   */
+  public <P> @NotNull Function<P, T> asFunction() {
+    return get().asFunction();
+  }
+
+  /**
+   * Implements the functional interface with the constructor.
+   *
+   * @param functionalInterface The functional interface to implement.
+   * @param <F>                 Type of the functional interface.
+   * @return The implementation calling the constructor.
+   * @throws RuntimeException If the constructor cannot be resolved or does not fit the interface.
+   * @see ConstructorAccessor#asInterface(Class)
+   */
+  public <F> @NotNull F asInterface(@NotNull Class<F> functionalInterface) {
+    return get().asInterface(functionalInterface);
+  }
+
+  /**
+   * Gets the constructor, resolving it if needed.
+   *
+   * @return The constructor accessed.
+   * @throws RuntimeException If the constructor cannot be resolved.
+   */
+  public Constructor<T> getConstructor() {
+    return get().getConstructor();
+  }
+
+  private synchronized ConstructorAccessor<T> resolve() {
+    ConstructorAccessor<T> accessor = this.accessor;
+    if (accessor == null) {
+      accessor = resolver.get();
+      this.accessor = accessor;
+    }
+    return accessor;
+  }
+}
@@ -0,0 +1,617 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessor of a field, resolved on first use.
+ *
+ * <p>Lazy accessors are created by {@link Accessors} from a query or queries, without looking up
+ * the field. The field is resolved the first time the accessor is used, once even if several
+ * threads use it at the same time. Then the calls are delegated to the resolved accessor through a
+ * plain field, so the lazy accessor costs no synchronization after the first use. If the field
+ * cannot be resolved, the failure is thrown by every use until it can.
+ *
+ * <p>So a lazy accessor can be kept in a {@code static final} field, and the field is not resolved
+ * on servers where the feature using it is never used.
+ *
+ * <p>A lazy accessor is not a {@link FieldAccessor}, which needs its field when it is created, but
+ * it has the same methods to use the field. Moving a {@code static final FieldAccessor} field to a
+ * lazy accessor changes the type of the field, and code that takes a {@code FieldAccessor} is
+ * passed {@link #get()}.
+ *
+ * @author TozyMC
+ * @see Accessors#lazyField(Accessor.Query)
+ * @since 1.1
+ */
+public final class LazyFieldAccessor implements Accessor {
+
+  private final Supplier<? extends FieldAccessor> resolver;
+  // Not volatile: accessors are safely published through a data race, their fields are final or
+  // racy caches of immutable objects, see JLS 17.5. A thread reading null resolves under the lock.
+  private FieldAccessor accessor;
+
+  LazyFieldAccessor(@NotNull Supplier<? extends FieldAccessor> resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * Gets the resolved accessor, resolving it if needed.
+   *
+   * @return The resolved accessor.
+   * @throws RuntimeException If the field cannot be resolved.
+   */
+  public @NotNull FieldAccessor get() {
+    FieldAccessor accessor = this.accessor;
+    return accessor != null ? accessor : resolve();
+  }
+
+  /**
+   * Checks if the field is resolved.
+   *
+   * @return True if the field is resolved.
+   */
+  @Contract(pure = true)
+  public boolean isResolved() {
+    return accessor != null;
+  }
+
+  /**
+   * Gets the value of the field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param <R>      Type of the field value.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#get(Object)
+   */
+  @Nullable
+  public <R> R get(@Nullable Object instance) {
+    return get().get(instance);
+  }
+
+  /**
+   * Sets the value of the field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#set(Object, Object)
+   */
+  public void set(@Nullable Object instance, @Nullable Object value) {
+    get().set(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code boolean} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getBoolean(Object)
+   */
+  public boolean getBoolean(@Nullable Object instance) {
+    return get().getBoolean(instance);
+  }
+
+  /**
+   * Sets the value of the {@code boolean} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setBoolean(Object, boolean)
+   */
+  public void setBoolean(@Nullable Object instance, boolean value) {
+    get().setBoolean(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code byte} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getByte(Object)
+   */
+  public byte getByte(@Nullable Object instance) {
+    return get().getByte(instance);
+  }
+
+  /**
+   * Sets the value of the {@code byte} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setByte(Object, byte)
+   */
+  public void setByte(@Nullable Object instance, byte value) {
+    get().setByte(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code char} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getChar(Object)
+   */
+  public char getChar(@Nullable Object instance) {
+    return get().getChar(instance);
+  }
+
+  /**
+   * Sets the value of the {@code char} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setChar(Object, char)
+   */
+  public void setChar(@Nullable Object instance, char value) {
+    get().setChar(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code short} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getShort(Object)
+   */
+  public short getShort(@Nullable Object instance) {
+    return get().getShort(instance);
+  }
+
+  /**
+   * Sets the value of the {@code short} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setShort(Object, short)
+   */
+  public void setShort(@Nullable Object instance, short value) {
+    get().setShort(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code int} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getInt(Object)
+   */
+  public int getInt(@Nullable Object instance) {
+    return get().getInt(instance);
+  }
+
+  /**
+   * Sets the value of the {@code int} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setInt(Object, int)
+   */
+  public void setInt(@Nullable Object instance, int value) {
+    get().setInt(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code long} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getLong(Object)
+   */
+  public long getLong(@Nullable Object instance) {
+    return get().getLong(instance);
+  }
+
+  /**
+   * Sets the value of the {@code long} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setLong(Object, long)
+   */
+  public void setLong(@Nullable Object instance, long value) {
+    get().setLong(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code float} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getFloat(Object)
+   */
+  public float getFloat(@Nullable Object instance) {
+    return get().getFloat(instance);
+  }
+
+  /**
+   * Sets the value of the {@code float} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setFloat(Object, float)
+   */
+  public void setFloat(@Nullable Object instance, float value) {
+    get().setFloat(instance, value);
+  }
+
+  /**
+   * Gets the value of the {@code double} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getDouble(Object)
+   */
+  public double getDouble(@Nullable Object instance) {
+    return get().getDouble(instance);
+  }
+
+  /**
+   * Sets the value of the {@code double} field.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setDouble(Object, double)
+   */
+  public void setDouble(@Nullable Object instance, double value) {
+    get().setDouble(instance, value);
+  }
+
+  /**
+   * Gets the value of the field with the memory semantics of a {@code volatile} read.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param <R>      Type of the field value.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getVolatile(Object)
+   */
+  @Nullable
+  public <R> R getVolatile(@Nullable Object instance) {
+    return get().getVolatile(instance);
+  }
+
+  /**
+   * Sets the value of the field with the memory semantics of a {@code volatile} write.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setVolatile(Object, Object)
+   */
+  public void setVolatile(@Nullable Object instance, @Nullable Object value) {
+    get().setVolatile(instance, value);
+  }
+
+  /**
+   * Gets the value of the field with acquire semantics.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param <R>      Type of the field value.
+   * @return The value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAcquire(Object)
+   */
+  @Nullable
+  public <R> R getAcquire(@Nullable Object instance) {
+    return get().getAcquire(instance);
+  }
+
+  /**
+   * Sets the value of the field with release semantics.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#setRelease(Object, Object)
+   */
+  public void setRelease(@Nullable Object instance, @Nullable Object value) {
+    get().setRelease(instance, value);
+  }
+
+  /**
+   * Atomically sets the value of the field if the current value is the expected value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param expected The expected current value.
+   * @param value    The new value of the field.
+   * @return True if the value was set.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#compareAndSet(Object, Object, Object)
+   */
+  public boolean compareAndSet(@Nullable Object instance, @Nullable Object expected,
+      @Nullable Object value) {
+    return get().compareAndSet(instance, expected, value);
+  }
+
+  /**
+   * Atomically sets the value of the field and gets the previous value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @param <R>      Type of the field value.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAndSet(Object, Object)
+   */
+  @Nullable
+  public <R> R getAndSet(@Nullable Object instance, @Nullable Object value) {
+    return get().getAndSet(instance, value);
+  }
+
+  /**
+   * Atomically sets the value of the {@code int} field if the current value is the expected
+   * value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param expected The expected current value.
+   * @param value    The new value of the field.
+   * @return True if the value was set.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#compareAndSetInt(Object, int, int)
+   */
+  public boolean compareAndSetInt(@Nullable Object instance, int expected, int value) {
+    return get().compareAndSetInt(instance, expected, value);
+  }
+
+  /**
+   * Atomically adds to the value of the {@code int} field and gets the previous value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param delta    The value to add.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAndAddInt(Object, int)
+   */
+  public int getAndAddInt(@Nullable Object instance, int delta) {
+    return get().getAndAddInt(instance, delta);
+  }
+
+  /**
+   * Atomically sets the value of the {@code int} field and gets the previous value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAndSetInt(Object, int)
+   */
+  public int getAndSetInt(@Nullable Object instance, int value) {
+    return get().getAndSetInt(instance, value);
+  }
+
+  /**
+   * Atomically sets the value of the {@code long} field if the current value is the expected
+   * value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param expected The expected current value.
+   * @param value    The new value of the field.
+   * @return True if the value was set.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#compareAndSetLong(Object, long, long)
+   */
+  public boolean compareAndSetLong(@Nullable Object instance, long expected, long value) {
+    return get().compareAndSetLong(instance, expected, value);
+  }
+
+  /**
+   * Atomically adds to the value of the {@code long} field and gets the previous value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param delta    The value to add.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAndAddLong(Object, long)
+   */
+  public long getAndAddLong(@Nullable Object instance, long delta) {
+    return get().getAndAddLong(instance, delta);
+  }
+
+  /**
+   * Atomically sets the value of the {@code long} field and gets the previous value.
+   *
+   * @param instance The object the field is accessed from, or {@code null} for static fields.
+   * @param value    The new value of the field.
+   * @return The previous value of the field.
+   * @throws RuntimeException If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAndSetLong(Object, long)
+   */
+  public long getAndSetLong(@Nullable Object instance, long value) {
+    return get().getAndSetLong(instance, value);
+  }
+
+  /**
+   * Gets the value of the field from every instance, in iteration order.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the values are written to, from index 0.
+   * @return The number of values written.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAll(Iterable, Object[])
+   */
+  public int getAll(@NotNull Iterable<?> instances, Object @NotNull [] out) {
+    return get().getAll(instances, out);
+  }
+
+  /**
+   * Gets the value of the field from every instance.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAll(Object[], Object[])
+   */
+  public void getAll(Object @NotNull [] instances, Object @NotNull [] out) {
+    get().getAll(instances, out);
+  }
+
+  /**
+   * Gets the value of the field from every instance, in parallel for large batches.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAll(Object[], Object[], ForkJoinPool)
+   */
+  public void getAll(Object @NotNull [] instances, Object @NotNull [] out,
+      @Nullable ForkJoinPool pool) {
+    get().getAll(instances, out, pool);
+  }
+
+  /**
+   * Gets the value of the {@code int} field from every instance.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAllInt(Object[], int[])
+   */
+  public void getAllInt(Object @NotNull [] instances, int @NotNull [] out) {
+    get().getAllInt(instances, out);
+  }
+
+  /**
+   * Gets the value of the {@code int} field from every instance, in parallel for large
+   * batches.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAllInt(Object[], int[], ForkJoinPool)
+   */
+  public void getAllInt(Object @NotNull [] instances, int @NotNull [] out,
+      @Nullable ForkJoinPool pool) {
+    get().getAllInt(instances, out, pool);
+  }
+
+  /**
+   * Gets the value of the {@code double} field from every instance.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAllDouble(Object[], double[])
+   */
+  public void getAllDouble(Object @NotNull [] instances, double @NotNull [] out) {
+    get().getAllDouble(instances, out);
+  }
+
+  /**
+   * Gets the value of the {@code double} field from every instance, in parallel for large
+   * batches.
+   *
+   * @param instances The objects the field is accessed from.
+   * @param out       Array the value of each instance is written to, at the same index.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the field cannot be resolved or accessing it failed.
+   * @see FieldAccessor#getAllDouble(Object[], double[], ForkJoinPool)
+   */
+  public void getAllDouble(Object @NotNull [] instances, double @NotNull [] out,
+      @Nullable ForkJoinPool pool) {
+    get().getAllDouble(instances, out, pool);
+  }
+
+  /**
+   * Implements {@link Function} reading the field.
+   *
+   * @param <T> Type of the function parameter.
+   * @param <R> Type of the field value.
+   * @return The function reading the field.
+   * @throws RuntimeException If the field cannot be resolved.
+   * @see FieldAccessor#asGetter()
+   */
+  public <T, R> @NotNull Function<T, R> asGetter() {
+    return get().asGetter();
+  }
+
+  /**
+   * Implements {@link BiConsumer} writing the field.
+   *
+   * @param <T> Type of the function parameter.
+   * @param <V> Type of the field value.
+   * @return The consumer writing the field.
+   * @throws RuntimeException If the field cannot be resolved.
+   * @see FieldAccessor#asSetter()
+   */
+  public <T, V> @NotNull BiConsumer<T, V> asSetter() {
+    return get().asSetter();
+  }
+
+  /**
+   * Implements {@link ToIntFunction} reading the {@code int} field.
+   *
+   * @param <T> Type of the function parameter.
+   * @return The function reading the field.
+   * @throws RuntimeException If the field cannot be resolved.
+   * @see FieldAccessor#asIntGetter()
+   */
+  public <T> @NotNull ToIntFunction<T> asIntGetter() {
+    return get().asIntGetter();
+  }
+
+  /**
+   * Implements {@link ObjIntConsumer} writing the {@code int} field.
+   *
+   * @param <T> Type of the function parameter.
+   * @return The consumer writing the field.
+   * @throws RuntimeException If the field cannot be resolved.
+   * @see FieldAccessor#asIntSetter()
+   */
+  public <T> @NotNull ObjIntConsumer<T> asIntSetter() {
+    return get().asIntSetter();
+  }
+
+  /**
+   * Gets the field, resolving it if needed.
+   *
+   * @return The field accessed.
+   * @throws RuntimeException If the field cannot be resolved.
+   */
+  public Field getField() {
+    return get().getField();
+  }
+
+  private synchronized FieldAccessor resolve() {
+    FieldAccessor accessor = this.accessor;
+    if (accessor == null) {
+      accessor = resolver.get();
+      this.accessor = accessor;
+    }
+    return accessor;
+  }
+}
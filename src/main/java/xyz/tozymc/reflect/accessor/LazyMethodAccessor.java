@@ -0,0 +1,398 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessor of a method, resolved on first use.
+ *
+ * <p>Lazy accessors are created by {@link Accessors} from a query or queries, without looking up
+ * the method. The method is resolved the first time the accessor is used, once even if several
+ * threads use it at the same time. Then the calls are delegated to the resolved accessor through a
+ * plain field, so the lazy accessor costs no synchronization after the first use. If the method
+ * cannot be resolved, the failure is thrown by every use until it can.
+ *
+ * <p>So a lazy accessor can be kept in a {@code static final} field, and the method is not resolved
+ * on servers where the feature using it is never used.
+ *
+ * <p>A lazy accessor is not a {@link MethodAccessor}, which needs its method when it is created,
+ * but it has the same methods to use the method. Moving a {@code static final MethodAccessor} field
+ * to a lazy accessor changes the type of the field, and code that takes a {@code MethodAccessor} is
+ * passed {@link #get()}.
+ *
+ * @author TozyMC
+ * @see Accessors#lazyMethod(Accessor.Query)
+ * @since 1.1
+ */
+public final class LazyMethodAccessor implements Accessor {
+
+  private final Supplier<? extends MethodAccessor> resolver;
+  // Not volatile: accessors are safely published through a data race, their fields are final or
+  // racy caches of immutable objects, see JLS 17.5. A thread reading null resolves under the lock.
+  private MethodAccessor accessor;
+
+  LazyMethodAccessor(@NotNull Supplier<? extends MethodAccessor> resolver) {
+    this.resolver = resolver;
+  }
+
+  /**
+   * Gets the resolved accessor, resolving it if needed.
+   *
+   * @return The resolved accessor.
+   * @throws RuntimeException If the method cannot be resolved.
+   */
+  public @NotNull MethodAccessor get() {
+    MethodAccessor accessor = this.accessor;
+    return accessor != null ? accessor : resolve();
+  }
+
+  /**
+   * Checks if the method is resolved.
+   *
+   * @return True if the method is resolved.
+   */
+  @Contract(pure = true)
+  public boolean isResolved() {
+    return accessor != null;
+  }
+
+  /**
+   * Invokes the method with empty parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke(Object)
+   */
+  @Nullable
+  public <R> R invoke(@Nullable Object instance) {
+    return get().invoke(instance);
+  }
+
+  /**
+   * Invokes the method.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param params   Parameters passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke(Object, Object...)
+   */
+  @Nullable
+  public <R> R invoke(@Nullable Object instance, @Nullable Object... params) {
+    return get().invoke(instance, params);
+  }
+
+  /**
+   * Invokes the method with no parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke0(Object)
+   */
+  @Nullable
+  public <R> R invoke0(@Nullable Object instance) {
+    return get().invoke0(instance);
+  }
+
+  /**
+   * Invokes the method with one parameter.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke1(Object, Object)
+   */
+  @Nullable
+  public <R> R invoke1(@Nullable Object instance, @Nullable Object arg1) {
+    return get().invoke1(instance, arg1);
+  }
+
+  /**
+   * Invokes the method with two parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke2(Object, Object, Object)
+   */
+  @Nullable
+  public <R> R invoke2(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2) {
+    return get().invoke2(instance, arg1, arg2);
+  }
+
+  /**
+   * Invokes the method with three parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke3(Object, Object, Object, Object)
+   */
+  @Nullable
+  public <R> R invoke3(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3) {
+    return get().invoke3(instance, arg1, arg2, arg3);
+  }
+
+  /**
+   * Invokes the method with four parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param arg4     The fourth parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke4(Object, Object, Object, Object, Object)
+   */
+  @Nullable
+  public <R> R invoke4(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4) {
+    return get().invoke4(instance, arg1, arg2, arg3, arg4);
+  }
+
+  /**
+   * Invokes the method with five parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param arg4     The fourth parameter passed the method.
+   * @param arg5     The fifth parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke5(Object, Object, Object, Object, Object, Object)
+   */
+  @Nullable
+  public <R> R invoke5(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) {
+    return get().invoke5(instance, arg1, arg2, arg3, arg4, arg5);
+  }
+
+  /**
+   * Invokes the method with six parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param arg4     The fourth parameter passed the method.
+   * @param arg5     The fifth parameter passed the method.
+   * @param arg6     The sixth parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke6(Object, Object, Object, Object, Object, Object, Object)
+   */
+  @Nullable
+  public <R> R invoke6(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+    return get().invoke6(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  /**
+   * Invokes the method with an {@code int} parameter.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke1(Object, int)
+   */
+  @Nullable
+  public <R> R invoke1(@Nullable Object instance, int arg1) {
+    return get().invoke1(instance, arg1);
+  }
+
+  /**
+   * Invokes the method with a parameter and an {@code int} parameter.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke2(Object, Object, int)
+   */
+  @Nullable
+  public <R> R invoke2(@Nullable Object instance, @Nullable Object arg1, int arg2) {
+    return get().invoke2(instance, arg1, arg2);
+  }
+
+  /**
+   * Invokes the method with three {@code double} parameters.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invoke3(Object, double, double, double)
+   */
+  @Nullable
+  public <R> R invoke3(@Nullable Object instance, double arg1, double arg2, double arg3) {
+    return get().invoke3(instance, arg1, arg2, arg3);
+  }
+
+  /**
+   * Invokes the method on every instance, in iteration order.
+   *
+   * @param instances The objects the method is invoked from.
+   * @param out       Array the return values are written to, from index 0, or {@code null} to
+   *                  discard them.
+   * @param params    Parameters passed the method on every invocation.
+   * @return The number of invocations.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invokeAll(Iterable, Object[], Object...)
+   */
+  public int invokeAll(@NotNull Iterable<?> instances, Object @Nullable [] out,
+      @Nullable Object... params) {
+    return get().invokeAll(instances, out, params);
+  }
+
+  /**
+   * Invokes the method on every instance.
+   *
+   * @param instances The objects the method is invoked from.
+   * @param out       Array the return value of each instance is written to, at the same index, or
+   *                  {@code null} to discard them.
+   * @param params    Parameters passed the method on every invocation.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invokeAll(Object[], Object[], Object...)
+   */
+  public void invokeAll(Object @NotNull [] instances, Object @Nullable [] out,
+      @Nullable Object... params) {
+    get().invokeAll(instances, out, params);
+  }
+
+  /**
+   * Invokes the method on every instance, in parallel for large batches.
+   *
+   * @param instances The objects the method is invoked from.
+   * @param out       Array the return value of each instance is written to, at the same index, or
+   *                  {@code null} to discard them.
+   * @param params    Parameters passed the method on every invocation.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If the method cannot be resolved or invoking it failed.
+   * @see MethodAccessor#invokeAll(Object[], Object[], Object[], ForkJoinPool)
+   */
+  public void invokeAll(Object @NotNull [] instances, Object @Nullable [] out,
+      Object @Nullable [] params, @Nullable ForkJoinPool pool) {
+    get().invokeAll(instances, out, params, pool);
+  }
+
+  /**
+   * Implements {@link Function} with the method.
+   *
+   * @param <T> Type of the function parameter.
+   * @param <R> Return type of the method.
+   * @return The function calling the method.
+   * @throws RuntimeException If the method cannot be resolved or does not fit the interface.
+   * @see MethodAccessor#asFunction()
+   */
+  public <T, R> @NotNull Function<T, R> asFunction() {
+    return get().asFunction();
+  }
+
+  /**
+   * Implements {@link BiFunction} with the method.
+   *
+   * @param <T> Type of the function parameter.
+   * @param <U> Type of the second function parameter.
+   * @param <R> Return type of the method.
+   * @return The function calling the method.
+   * @throws RuntimeException If the method cannot be resolved or does not fit the interface.
+   * @see MethodAccessor#asBiFunction()
+   */
+  public <T, U, R> @NotNull BiFunction<T, U, R> asBiFunction() {
+    return get().asBiFunction();
+  }
+
+  /**
+   * Implements {@link Supplier} with the method.
+   *
+   * @param <R> Return type of the method.
+   * @return The supplier calling the method.
+   * @throws RuntimeException If the method cannot be resolved or does not fit the interface.
+   * @see MethodAccessor#asSupplier()
+   */
+  public <R> @NotNull Supplier<R> asSupplier() {
+    return get().asSupplier();
+  }
+
+  /**
+   * Implements {@link ToIntFunction} with the method.
+   *
+   * @param <T> Type of the function parameter.
+   * @return The function calling the method.
+   * @throws RuntimeException If the method cannot be resolved or does not fit the interface.
+   * @see MethodAccessor#asToIntFunction()
+   */
+  public <T> @NotNull ToIntFunction<T> asToIntFunction() {
+    return get().asToIntFunction();
+  }
+
+  /**
+   * Implements the functional interface with the method.
+   *
+   * @param functionalInterface The functional interface to implement.
+   * @param <F>                 Type of the functional interface.
+   * @return The implementation calling the method.
+   * @throws RuntimeException If the method cannot be resolved or does not fit the interface.
+   * @see MethodAccessor#asInterface(Class)
+   */
+  public <F> @NotNull F asInterface(@NotNull Class<F> functionalInterface) {
+    return get().asInterface(functionalInterface);
+  }
+
+  /**
+   * Gets the method, resolving it if needed.
+   *
+   * @return The method accessed.
+   * @throws RuntimeException If the method cannot be resolved.
+   */
+  public Method getMethod() {
+    return get().getMethod();
+  }
+
+  private synchronized MethodAccessor resolve() {
+    MethodAccessor accessor = this.accessor;
+    if (accessor == null) {
+      accessor = resolver.get();
+      this.accessor = accessor;
+    }
+    return accessor;
+  }
+}
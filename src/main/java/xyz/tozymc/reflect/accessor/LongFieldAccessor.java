@@ -0,0 +1,119 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code long} fields.
+ *
+ * <p>{@link #getLong(Object)} and {@link #setLong(Object, long)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class LongFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle longGetter;
+  private final MethodHandle longSetter;
+
+  /**
+   * Creates {@code LongFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code long} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code long}.
+   */
+  public LongFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code LongFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code long} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code long}.
+   */
+  protected LongFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, long.class), unreflect);
+    this.longGetter = unreflect ? Handles.unreflectGetter(getField(), long.class) : null;
+    this.longSetter = unreflect ? Handles.unreflectSetter(getField(), long.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code long} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  LongFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, long.class), promotion);
+    this.longGetter = null;
+    this.longSetter = null;
+  }
+
+  @Override
+  public long getLong(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetLong(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setLong(@Nullable Object instance, long value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetLong(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected long doGetLong(@Nullable Object instance) throws Throwable {
+    if (longGetter == null) {
+      return getField().getLong(instance);
+    }
+    return (long) longGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetLong(@Nullable Object instance, long value) throws Throwable {
+    if (longSetter == null) {
+      getField().setLong(instance, value);
+      return;
+    }
+    longSetter.invokeExact(instance, value);
+  }
+}
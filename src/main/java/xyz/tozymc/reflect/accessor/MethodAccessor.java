@@ -1,19 +1,66 @@
 package xyz.tozymc.reflect.accessor;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.InvocationCounter;
+import xyz.tozymc.reflect.metrics.Metrics;
 import xyz.tozymc.reflect.util.AccessUtil;
+import xyz.tozymc.reflect.util.Conversions;
+import xyz.tozymc.reflect.util.Handles;
+import xyz.tozymc.reflect.util.Lambdas;
+import xyz.tozymc.util.Preconditions;
 
 /**
  * The class that wraps an accessible {@code Method}.
  *
+ * <p>The method is unreflected once to a {@link MethodHandle}, which is used for every invocation
+ * instead of {@link Method#invoke(Object, Object...)}.
+ *
+ * <p>The {@code invoke0} to {@code invoke6} methods take the parameters as separate arguments, so
+ * no parameter array is created per invocation. Their {@code int} and {@code double} overloads
+ * pass primitive parameters without boxing. Accessors of {@link AccessorBackend#REFLECTION} are the
+ * exception, {@link Method#invoke(Object, Object...)} takes the parameters as an array.
+ *
+ * <p>The method can be invoked on a batch of instances at once with {@link #invokeAll(Object[],
+ * Object[], Object...)}, which checks the batch once and invokes the method in a tight loop,
+ * optionally in parallel.
+ *
+ * <p>As with {@link Method#invoke(Object, Object...)}, an exception thrown by the method is wrapped
+ * in an {@link InvocationTargetException}, which is wrapped in a {@link RuntimeException}.
+ * Arguments for primitive parameters are unboxed and widened as it does. A mismatched argument
+ * throws {@link IllegalArgumentException} and a {@code null} instance of an instance method throws
+ * {@link NullPointerException}, both unwrapped.
+ *
+ * <p>If {@link Metrics} are enabled, the invocations are counted and timed per member.
+ *
  * @author TozyMC
  * @since 1.0
  */
 public class MethodAccessor implements Accessor {
 
+  private static final Object[] EMPTY_PARAMS = new Object[0];
+
   private final Method method;
+  private final MethodHandle handle;
+  private final MethodHandle fixedHandle;
+  // Null if the member cannot take the arguments, such invocations go through the handle.
+  private final MethodHandle intHandle;
+  private final MethodHandle objectIntHandle;
+  private final MethodHandle doubleHandle;
+  private final AccessorBackend backend;
+  // Set on the first invocation with metrics enabled. Racy, the counter only has final fields.
+  private InvocationCounter invocationCounter;
 
   /**
    * Creates {@code MethodAccessor} instance and makes {@code Method} is accessible.
@@ -21,7 +68,37 @@ public class MethodAccessor implements Accessor {
    * @param method The method to access.
    */
   public MethodAccessor(@NotNull Method method) {
+    this(method, true);
+  }
+
+  /**
+   * Creates {@code MethodAccessor} instance, without method handles for subclasses that implement
+   * the invocation themselves.
+   *
+   * <p>The {@code doInvokeN} methods that such a subclass does not override delegate to {@link
+   * #doInvoke(Object, Object[])}, which invokes the method through reflection unless it is
+   * overridden too.
+   *
+   * @param method    The method to access.
+   * @param unreflect False to skip unreflecting the method.
+   */
+  protected MethodAccessor(@NotNull Method method, boolean unreflect) {
     this.method = AccessUtil.forceAccess(method);
+    this.backend = BackendPolicy.creatingBackend();
+    if (!unreflect) {
+      this.handle = null;
+      this.fixedHandle = null;
+      this.intHandle = null;
+      this.objectIntHandle = null;
+      this.doubleHandle = null;
+      return;
+    }
+    this.handle = Handles.unreflect(this.method);
+    this.fixedHandle = Handles.unreflectFixed(this.method);
+    this.intHandle = Handles.unreflectAs(this.method, int.class);
+    this.objectIntHandle = Handles.unreflectAs(this.method, Object.class, int.class);
+    this.doubleHandle =
+        Handles.unreflectAs(this.method, double.class, double.class, double.class);
   }
 
   /**
@@ -36,7 +113,7 @@ public class MethodAccessor implements Accessor {
    */
   @Nullable
   public <R> R invoke(@Nullable Object instance) {
-    return invoke(instance, new Object[0]);
+    return invoke0(instance);
   }
 
   /**
@@ -49,13 +126,617 @@ public class MethodAccessor implements Accessor {
    * @throws RuntimeException If invoking method is failed.
    * @see Method#invoke(Object, Object...)
    */
+  @SuppressWarnings("unchecked")
   @Nullable
   public <R> R invoke(@Nullable Object instance, @Nullable Object... params) {
+    Object[] args = params == null ? EMPTY_PARAMS : params;
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke(instance, args);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with no parameters, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke0(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke0(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with one parameter, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke1(@Nullable Object instance, @Nullable Object arg1) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke1(instance, arg1);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with two parameters, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke2(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke2(instance, arg1, arg2);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with three parameters, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke3(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke3(instance, arg1, arg2, arg3);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with four parameters, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param arg4     The fourth parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke4(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke4(instance, arg1, arg2, arg3, arg4);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with five parameters, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param arg4     The fourth parameter passed the method.
+   * @param arg5     The fifth parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke5(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) {
+    long startTime = Metrics.startTime();
     try {
-      //noinspection unchecked
-      return (R) method.invoke(instance, params);
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
+      return (R) doInvoke5(instance, arg1, arg2, arg3, arg4, arg5);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with six parameters, without creating a parameter array.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param arg4     The fourth parameter passed the method.
+   * @param arg5     The fifth parameter passed the method.
+   * @param arg6     The sixth parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke6(@Nullable Object instance, @Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5, @Nullable Object arg6) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke6(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with (int) parameters, without boxing the primitive parameters or
+   * creating a parameter array.
+   *
+   * <p>The parameters are converted to the parameter types as by {@link
+   * MethodHandle#asType(MethodType)}.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke1(@Nullable Object instance, int arg1) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke1(instance, arg1);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with (Object, int) parameters, without boxing the primitive
+   * parameters or creating a parameter array.
+   *
+   * <p>The parameters are converted to the parameter types as by {@link
+   * MethodHandle#asType(MethodType)}.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke2(@Nullable Object instance, @Nullable Object arg1, int arg2) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke2(instance, arg1, arg2);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method with (double, double, double) parameters, without boxing the
+   * primitive parameters or creating a parameter array.
+   *
+   * <p>The parameters are converted to the parameter types as by {@link
+   * MethodHandle#asType(MethodType)}.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param arg1     The first parameter passed the method.
+   * @param arg2     The second parameter passed the method.
+   * @param arg3     The third parameter passed the method.
+   * @param <R>      Return type of the method.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws RuntimeException If invoking method is failed.
+   */
+  @SuppressWarnings("unchecked")
+  @Nullable
+  public <R> R invoke3(@Nullable Object instance, double arg1, double arg2, double arg3) {
+    long startTime = Metrics.startTime();
+    try {
+      return (R) doInvoke3(instance, arg1, arg2, arg3);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the underlying method on every instance, in iteration order.
+   *
+   * <p>The instances are checked once for the whole batch, and the batch is counted as one
+   * invocation by {@link Metrics}.
+   *
+   * @param instances The objects the underlying method is invoked from.
+   * @param out       Array the return values are written to, from index 0, or {@code null} to
+   *                  discard them.
+   * @param params    Parameters passed the method on every invocation.
+   * @return The number of invocations.
+   * @throws IllegalArgumentException If {@code out} is shorter than the instances.
+   * @throws RuntimeException         If invoking method is failed.
+   */
+  public int invokeAll(@NotNull Iterable<?> instances, Object @Nullable [] out,
+      @Nullable Object... params) {
+    Preconditions.checkNotNull(instances, "Instances cannot be null");
+    if (out != null) {
+      BulkTask.checkOutput(instances, out.length);
+    }
+
+    Object[] args = params == null ? EMPTY_PARAMS : params;
+    long startTime = Metrics.startTime();
+    Iterator<?> iterator = instances.iterator();
+    int i = 0;
+    try {
+      while (iterator.hasNext()) {
+        if (out == null) {
+          doInvoke(iterator.next(), args);
+        } else {
+          BulkTask.checkIndex(i, out.length);
+          out[i] = doInvoke(iterator.next(), args);
+        }
+        i++;
+      }
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+    return i;
+  }
+
+  /**
+   * Invokes the underlying method on every instance.
+   *
+   * @param instances The objects the underlying method is invoked from.
+   * @param out       Array the return value of each instance is written to, at the same index, or
+   *                  {@code null} to discard them.
+   * @param params    Parameters passed the method on every invocation.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If invoking method is failed.
+   * @see #invokeAll(Object[], Object[], Object[], ForkJoinPool)
+   */
+  public void invokeAll(Object @NotNull [] instances, Object @Nullable [] out,
+      @Nullable Object... params) {
+    invokeAll(instances, out, params, null);
+  }
+
+  /**
+   * Invokes the underlying method on every instance, in parallel for large batches.
+   *
+   * <p>The instances are checked once for the whole batch, and the batch is counted as one
+   * invocation by {@link Metrics}. Batches larger than a thousand instances are split between the
+   * workers of the pool, if any, so the method must be safe to invoke from several threads.
+   *
+   * @param instances The objects the underlying method is invoked from.
+   * @param out       Array the return value of each instance is written to, at the same index, or
+   *                  {@code null} to discard them.
+   * @param params    Parameters passed the method on every invocation.
+   * @param pool      The pool running large batches, or {@code null} to run in this thread.
+   * @throws IllegalArgumentException If {@code out} is shorter than {@code instances}.
+   * @throws RuntimeException         If invoking method is failed.
+   */
+  public void invokeAll(Object @NotNull [] instances, Object @Nullable [] out,
+      Object @Nullable [] params, @Nullable ForkJoinPool pool) {
+    Preconditions.checkNotNull(instances, "Instances cannot be null");
+    if (out != null) {
+      BulkTask.checkOutput(instances, out.length);
+    }
+
+    Object[] args = params == null ? EMPTY_PARAMS : params;
+    long startTime = Metrics.startTime();
+    try {
+      BulkTask.run(instances.length, pool, (from, to) -> {
+        for (int i = from; i < to; i++) {
+          Object result = args.length == 0 ? doInvoke0(instances[i]) : doInvoke(instances[i], args);
+          if (out != null) {
+            out[i] = result;
+          }
+        }
+      });
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Invokes the method without wrapping thrown exceptions in {@link RuntimeException}.
+   *
+   * <p>Subclasses may override this method to change how the method is invoked. Like {@link
+   * Method#invoke(Object, Object...)}, they throw an exception thrown by the method wrapped in an
+   * {@link InvocationTargetException}, and invalid arguments as unchecked exceptions.
+   *
+   * @param instance The object the underlying method is invoked from.
+   * @param params   Parameters passed the method, never {@code null}.
+   * @return The return value after the method call completes, or {@code null} for void methods.
+   * @throws InvocationTargetException If the method throws an exception.
+   * @throws Throwable                 If the method cannot be invoked.
+   */
+  protected Object doInvoke(@Nullable Object instance, Object @NotNull [] params)
+      throws Throwable {
+    if (handle == null) {
+      return method.invoke(instance, params);
+    }
+    return handle.invokeExact(instance, params);
+  }
+
+  /**
+   * Invokes the method with no parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke0(@Nullable Object instance) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 0) {
+      return invokeUnreflected(instance);
+    }
+    return fixedHandle.invokeExact(instance);
+  }
+
+  /**
+   * Invokes the method with one parameter without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke1(@Nullable Object instance, @Nullable Object arg1) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 1) {
+      return invokeUnreflected(instance, arg1);
+    }
+    return fixedHandle.invokeExact(instance, arg1);
+  }
+
+  /**
+   * Invokes the method with two parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke2(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 2) {
+      return invokeUnreflected(instance, arg1, arg2);
+    }
+    return fixedHandle.invokeExact(instance, arg1, arg2);
+  }
+
+  /**
+   * Invokes the method with three parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke3(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 3) {
+      return invokeUnreflected(instance, arg1, arg2, arg3);
+    }
+    return fixedHandle.invokeExact(instance, arg1, arg2, arg3);
+  }
+
+  /**
+   * Invokes the method with four parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke4(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 4) {
+      return invokeUnreflected(instance, arg1, arg2, arg3, arg4);
+    }
+    return fixedHandle.invokeExact(instance, arg1, arg2, arg3, arg4);
+  }
+
+  /**
+   * Invokes the method with five parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke5(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4,
+      @Nullable Object arg5) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 5) {
+      return invokeUnreflected(instance, arg1, arg2, arg3, arg4, arg5);
+    }
+    return fixedHandle.invokeExact(instance, arg1, arg2, arg3, arg4, arg5);
+  }
+
+  /**
+   * Invokes the method with six parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke6(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5,
+      @Nullable Object arg6) throws Throwable {
+    if (fixedHandle == null || method.getParameterCount() != 6) {
+      return invokeUnreflected(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+    return fixedHandle.invokeExact(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  /**
+   * Invokes the method with (int) parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke1(@Nullable Object instance, int arg1) throws Throwable {
+    if (intHandle == null) {
+      return invokeUnreflected(instance, arg1);
+    }
+    return intHandle.invokeExact(instance, arg1);
+  }
+
+  /**
+   * Invokes the method with (Object, int) parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke2(@Nullable Object instance, @Nullable Object arg1,
+      int arg2) throws Throwable {
+    if (objectIntHandle == null) {
+      return invokeUnreflected(instance, arg1, arg2);
+    }
+    return objectIntHandle.invokeExact(instance, arg1, arg2);
+  }
+
+  /**
+   * Invokes the method with (double, double, double) parameters without wrapping exceptions.
+   *
+   * @see #doInvoke(Object, Object[])
+   */
+  protected Object doInvoke3(@Nullable Object instance, double arg1, double arg2,
+      double arg3) throws Throwable {
+    if (doubleHandle == null) {
+      return invokeUnreflected(instance, arg1, arg2, arg3);
+    }
+    return doubleHandle.invokeExact(instance, arg1, arg2, arg3);
+  }
+
+  /**
+   * Implements {@link Function} with the method.
+   *
+   * <p>The function parameter is the instance of an instance method with no parameters, or the only
+   * parameter of a static method.
+   *
+   * @param <T> Type of the function parameter.
+   * @param <R> Return type of the method.
+   * @return The function that invokes the method.
+   * @throws IllegalArgumentException If the method has incompatible parameters.
+   * @see #asInterface(Class)
+   */
+  public <T, R> @NotNull Function<T, R> asFunction() {
+    return Lambdas.function(Handles.unreflectDirect(method));
+  }
+
+  /**
+   * Implements {@link BiFunction} with the method.
+   *
+   * <p>The function parameters are the instance and the only parameter of an instance method, or
+   * the two parameters of a static method.
+   *
+   * @param <T> Type of the first function parameter.
+   * @param <U> Type of the second function parameter.
+   * @param <R> Return type of the method.
+   * @return The function that invokes the method.
+   * @throws IllegalArgumentException If the method has incompatible parameters.
+   * @see #asInterface(Class)
+   */
+  public <T, U, R> @NotNull BiFunction<T, U, R> asBiFunction() {
+    return Lambdas.biFunction(Handles.unreflectDirect(method));
+  }
+
+  /**
+   * Implements {@link Supplier} with the static method with no parameters.
+   *
+   * @param <R> Return type of the method.
+   * @return The supplier that invokes the method.
+   * @throws IllegalArgumentException If the method has incompatible parameters.
+   * @see #asInterface(Class)
+   */
+  public <R> @NotNull Supplier<R> asSupplier() {
+    return Lambdas.supplier(Handles.unreflectDirect(method));
+  }
+
+  /**
+   * Implements {@link ToIntFunction} with the method returns {@code int}.
+   *
+   * <p>The function parameter is the instance of an instance method with no parameters, or the only
+   * parameter of a static method.
+   *
+   * @param <T> Type of the function parameter.
+   * @return The function that invokes the method.
+   * @throws IllegalArgumentException If the method has incompatible parameters.
+   * @see #asInterface(Class)
+   */
+  public <T> @NotNull ToIntFunction<T> asToIntFunction() {
+    return Lambdas.toIntFunction(Handles.unreflectDirect(method));
+  }
+
+  /**
+   * Implements the functional interface with the method.
+   *
+   * <p>The interface method parameters are the instance followed by the method parameters for
+   * instance methods, or only the method parameters for static methods.
+   *
+   * <p>If the method is accessible from this library, the implementation is spun through {@link
+   * LambdaMetafactory} and calls the method directly, so it can be inlined like a compiled lambda.
+   * Otherwise, the implementation invokes the method handle. Each call creates a new
+   * implementation, store the result instead of calling it repeatedly.
+   *
+   * @param functionalInterface The public functional interface to implement.
+   * @param <F>                 Type of the functional interface.
+   * @return The implementation of the functional interface that invokes the method.
+   * @throws IllegalArgumentException If the class is not a functional interface or the method has
+   *                                  incompatible parameters.
+   */
+  public <F> @NotNull F asInterface(@NotNull Class<F> functionalInterface) {
+    return Lambdas.implement(functionalInterface, Handles.unreflectDirect(method));
+  }
+
+  private Object invokeUnreflected(@Nullable Object instance, Object... params)
+      throws Throwable {
+    Conversions.checkCount(params, method.getParameterCount());
+    return doInvoke(instance, params);
+  }
+
+  private void recordInvocation(long startTime) {
+    if (startTime != 0) {
+      InvocationCounter counter = invocationCounter;
+      if (counter == null) {
+        counter = Metrics.invocationCounter(method);
+        invocationCounter = counter;
+      }
+      counter.record(startTime, this);
     }
   }
 
@@ -68,4 +749,9 @@ public class MethodAccessor implements Accessor {
   public Method getMethod() {
     return method;
   }
+
+  @Override
+  public @Nullable AccessorBackend backend() {
+    return backend;
+  }
 }
@@ -0,0 +1,264 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import sun.misc.Unsafe;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Conversions;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * The field accessor of {@link AccessorBackend#FIELD_OFFSET}, which reads and writes the field
+ * through its offset with {@link Unsafe}.
+ *
+ * <p>{@code int}, {@code long} and {@code double} fields are read and written without boxing. The
+ * instance and the value are checked and converted by {@link Conversions} before the field is
+ * accessed, like {@link Field#set(Object, Object)} does.
+ *
+ * <p>Final and volatile fields are not supported, as plain accesses would not have their
+ * semantics, nor fields whose offset is not available, such as fields of hidden classes.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class OffsetFieldAccessor extends FieldAccessor {
+
+  private static final Unsafe UNSAFE = loadUnsafe();
+
+  private final Class<?> declaringClass;
+  private final Class<?> type;
+  private final Object staticBase;
+  private final long offset;
+
+  private OffsetFieldAccessor(Field field) {
+    super(field, false);
+    this.declaringClass = field.getDeclaringClass();
+    this.type = field.getType();
+    if (Modifier.isStatic(field.getModifiers())) {
+      // Unsafe does not initialize the class, so its static initializer must run first.
+      UNSAFE.ensureClassInitialized(declaringClass);
+      this.staticBase = UNSAFE.staticFieldBase(field);
+      this.offset = UNSAFE.staticFieldOffset(field);
+    } else {
+      this.staticBase = null;
+      this.offset = UNSAFE.objectFieldOffset(field);
+    }
+  }
+
+  /**
+   * Creates the accessor of the field, if the field is supported.
+   *
+   * @param field The field to access.
+   * @return The accessor, or {@code null} if the field is not supported.
+   */
+  static @Nullable FieldAccessor create(@NotNull Field field) {
+    int modifiers = field.getModifiers();
+    if (UNSAFE == null || Modifier.isFinal(modifiers) || Modifier.isVolatile(modifiers)) {
+      return null;
+    }
+    try {
+      return new OffsetFieldAccessor(field);
+    } catch (UnsupportedOperationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets {@link Unsafe}.
+   *
+   * @return The instance of {@code Unsafe}, or {@code null} if it is not available.
+   */
+  static @Nullable Unsafe unsafe() {
+    return UNSAFE;
+  }
+
+  @Override
+  public int getInt(@Nullable Object instance) {
+    if (type != int.class) {
+      return super.getInt(instance);
+    }
+    long startTime = Metrics.startTime();
+    try {
+      return UNSAFE.getInt(base(instance), offset);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setInt(@Nullable Object instance, int value) {
+    if (type != int.class) {
+      super.setInt(instance, value);
+      return;
+    }
+    long startTime = Metrics.startTime();
+    try {
+      UNSAFE.putInt(base(instance), offset, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public long getLong(@Nullable Object instance) {
+    if (type != long.class) {
+      return super.getLong(instance);
+    }
+    long startTime = Metrics.startTime();
+    try {
+      return UNSAFE.getLong(base(instance), offset);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setLong(@Nullable Object instance, long value) {
+    if (type != long.class) {
+      super.setLong(instance, value);
+      return;
+    }
+    long startTime = Metrics.startTime();
+    try {
+      UNSAFE.putLong(base(instance), offset, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public double getDouble(@Nullable Object instance) {
+    if (type != double.class) {
+      return super.getDouble(instance);
+    }
+    long startTime = Metrics.startTime();
+    try {
+      return UNSAFE.getDouble(base(instance), offset);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setDouble(@Nullable Object instance, double value) {
+    if (type != double.class) {
+      super.setDouble(instance, value);
+      return;
+    }
+    long startTime = Metrics.startTime();
+    try {
+      UNSAFE.putDouble(base(instance), offset, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  protected Object doGet(@Nullable Object instance) throws Throwable {
+    Object base = base(instance);
+    if (!type.isPrimitive()) {
+      return UNSAFE.getObject(base, offset);
+    }
+    if (type == int.class) {
+      return UNSAFE.getInt(base, offset);
+    }
+    if (type == long.class) {
+      return UNSAFE.getLong(base, offset);
+    }
+    if (type == double.class) {
+      return UNSAFE.getDouble(base, offset);
+    }
+    if (type == float.class) {
+      return UNSAFE.getFloat(base, offset);
+    }
+    if (type == boolean.class) {
+      return UNSAFE.getBoolean(base, offset);
+    }
+    if (type == byte.class) {
+      return UNSAFE.getByte(base, offset);
+    }
+    if (type == short.class) {
+      return UNSAFE.getShort(base, offset);
+    }
+    return UNSAFE.getChar(base, offset);
+  }
+
+  @Override
+  protected void doSet(@Nullable Object instance, @Nullable Object value) throws Throwable {
+    Object base = base(instance);
+    if (!type.isPrimitive()) {
+      UNSAFE.putObject(base, offset, Conversions.cast(value, type));
+    } else if (type == int.class) {
+      UNSAFE.putInt(base, offset, Conversions.toInt(value));
+    } else if (type == long.class) {
+      UNSAFE.putLong(base, offset, Conversions.toLong(value));
+    } else if (type == double.class) {
+      UNSAFE.putDouble(base, offset, Conversions.toDouble(value));
+    } else if (type == float.class) {
+      UNSAFE.putFloat(base, offset, Conversions.toFloat(value));
+    } else if (type == boolean.class) {
+      UNSAFE.putBoolean(base, offset, Conversions.toBoolean(value));
+    } else if (type == byte.class) {
+      UNSAFE.putByte(base, offset, Conversions.toByte(value));
+    } else if (type == short.class) {
+      UNSAFE.putShort(base, offset, Conversions.toShort(value));
+    } else {
+      UNSAFE.putChar(base, offset, Conversions.toChar(value));
+    }
+  }
+
+  @Override
+  void doGetAllInt(Object[] instances, int[] out, int from, int to) throws Throwable {
+    if (type != int.class) {
+      super.doGetAllInt(instances, out, from, to);
+      return;
+    }
+    for (int i = from; i < to; i++) {
+      out[i] = UNSAFE.getInt(base(instances[i]), offset);
+    }
+  }
+
+  @Override
+  void doGetAllDouble(Object[] instances, double[] out, int from, int to) throws Throwable {
+    if (type != double.class) {
+      super.doGetAllDouble(instances, out, from, to);
+      return;
+    }
+    for (int i = from; i < to; i++) {
+      out[i] = UNSAFE.getDouble(base(instances[i]), offset);
+    }
+  }
+
+  private Object base(@Nullable Object instance) {
+    if (staticBase != null) {
+      return staticBase;
+    }
+    Preconditions.checkNotNull(instance, "Instance cannot be null");
+    // Unsafe does not check the instance, a foreign object would be corrupted.
+    return Conversions.cast(instance, declaringClass);
+  }
+
+  private static @Nullable Unsafe loadUnsafe() {
+    try {
+      Field field = Unsafe.class.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      return (Unsafe) field.get(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The accessor a tiered accessor delegates to, which starts on {@link AccessorBackend#REFLECTION}
+ * and is swapped for the accessor created by the {@link BackendPolicy} once it is hot.
+ *
+ * @param <A> Type of accessor.
+ * @author TozyMC
+ * @see BackendPolicy#promotionThreshold()
+ * @since 1.1
+ */
+final class Promotion<A extends Accessor> {
+
+  private final A cold;
+  private final Supplier<A> promoted;
+  private final int threshold;
+  // Not volatile: accessors are safely published through a data race, and a thread that still
+  // reads the cold accessor only uses it a little longer.
+  private A accessor;
+  // Not atomic: increments lost to a race only delay the promotion.
+  private int invocations;
+
+  /**
+   * Creates {@code Promotion} instance.
+   *
+   * @param cold      The reflective accessor used until the promotion.
+   * @param promoted  Creates the accessor of the policy.
+   * @param threshold Number of uses before the promotion.
+   */
+  Promotion(@NotNull A cold, @NotNull Supplier<A> promoted, int threshold) {
+    this.cold = cold;
+    this.promoted = promoted;
+    this.threshold = threshold;
+    this.accessor = cold;
+  }
+
+  /**
+   * Gets the accessor to use for one access, promoting it if the access crosses the threshold.
+   *
+   * @return The accessor to use.
+   */
+  @NotNull A next() {
+    A accessor = this.accessor;
+    if (accessor != cold || invocations++ < threshold) {
+      return accessor;
+    }
+    return promote();
+  }
+
+  /**
+   * Gets the accessor in use, without counting an access.
+   *
+   * @return The accessor in use.
+   */
+  @NotNull A current() {
+    return accessor;
+  }
+
+  /**
+   * Checks if the accessor of the policy is in use.
+   *
+   * @return True if the accessor is promoted.
+   */
+  boolean isPromoted() {
+    return accessor != cold;
+  }
+
+  private synchronized A promote() {
+    if (accessor == cold) {
+      try {
+        accessor = promoted.get();
+      } catch (RuntimeException e) {
+        // Stays reflective, which still works, without trying again on every access.
+        invocations = Integer.MIN_VALUE;
+      }
+    }
+    return accessor;
+  }
+}
@@ -0,0 +1,91 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Constructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The constructor accessor of {@link AccessorBackend#REFLECTION}, which invokes the constructor
+ * with {@link Constructor#newInstance(Object...)}.
+ *
+ * <p>The constructor is not unreflected to method handles, so the accessor is cheap to create.
+ *
+ * <p>The reflective call takes the parameters as an array, so the fixed-arity invocations with
+ * parameters create one per call.
+ *
+ * @param <T> The class in which the constructor is declared.
+ * @author TozyMC
+ * @since 1.1
+ */
+final class ReflectiveConstructorAccessor<T> extends ConstructorAccessor<T> {
+
+  private static final Object[] NO_PARAMS = new Object[0];
+
+  ReflectiveConstructorAccessor(@NotNull Constructor<T> constructor) {
+    super(constructor, false);
+  }
+
+  @Override
+  protected Object doNewInstance(Object @NotNull [] params) throws Throwable {
+    return newInstanceReflectively(params);
+  }
+
+  @Override
+  protected Object doNewInstance0() throws Throwable {
+    return newInstanceReflectively(NO_PARAMS);
+  }
+
+  @Override
+  protected Object doNewInstance1(@Nullable Object arg1) throws Throwable {
+    return newInstanceReflectively(arg1);
+  }
+
+  @Override
+  protected Object doNewInstance2(@Nullable Object arg1, @Nullable Object arg2) throws Throwable {
+    return newInstanceReflectively(arg1, arg2);
+  }
+
+  @Override
+  protected Object doNewInstance3(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3) throws Throwable {
+    return newInstanceReflectively(arg1, arg2, arg3);
+  }
+
+  @Override
+  protected Object doNewInstance4(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4) throws Throwable {
+    return newInstanceReflectively(arg1, arg2, arg3, arg4);
+  }
+
+  @Override
+  protected Object doNewInstance5(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) throws Throwable {
+    return newInstanceReflectively(arg1, arg2, arg3, arg4, arg5);
+  }
+
+  @Override
+  protected Object doNewInstance6(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5,
+      @Nullable Object arg6) throws Throwable {
+    return newInstanceReflectively(arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  @Override
+  protected Object doNewInstance1(int arg1) throws Throwable {
+    return newInstanceReflectively(arg1);
+  }
+
+  @Override
+  protected Object doNewInstance2(@Nullable Object arg1, int arg2) throws Throwable {
+    return newInstanceReflectively(arg1, arg2);
+  }
+
+  @Override
+  protected Object doNewInstance3(double arg1, double arg2, double arg3) throws Throwable {
+    return newInstanceReflectively(arg1, arg2, arg3);
+  }
+
+  private Object newInstanceReflectively(Object... params) throws Throwable {
+    return getConstructor().newInstance(params);
+  }
+}
@@ -0,0 +1,95 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Method;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The method accessor of {@link AccessorBackend#REFLECTION}, which invokes the method with {@link
+ * Method#invoke(Object, Object...)}.
+ *
+ * <p>The method is not unreflected to method handles, so the accessor is cheap to create.
+ *
+ * <p>The reflective call takes the parameters as an array, so the fixed-arity invocations with
+ * parameters create one per call.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class ReflectiveMethodAccessor extends MethodAccessor {
+
+  private static final Object[] NO_PARAMS = new Object[0];
+
+  ReflectiveMethodAccessor(@NotNull Method method) {
+    super(method, false);
+  }
+
+  @Override
+  protected Object doInvoke(@Nullable Object instance, Object @NotNull [] params)
+      throws Throwable {
+    return invokeReflectively(instance, params);
+  }
+
+  @Override
+  protected Object doInvoke0(@Nullable Object instance) throws Throwable {
+    return invokeReflectively(instance, NO_PARAMS);
+  }
+
+  @Override
+  protected Object doInvoke1(@Nullable Object instance, @Nullable Object arg1) throws Throwable {
+    return invokeReflectively(instance, arg1);
+  }
+
+  @Override
+  protected Object doInvoke2(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2) throws Throwable {
+    return invokeReflectively(instance, arg1, arg2);
+  }
+
+  @Override
+  protected Object doInvoke3(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3) throws Throwable {
+    return invokeReflectively(instance, arg1, arg2, arg3);
+  }
+
+  @Override
+  protected Object doInvoke4(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4) throws Throwable {
+    return invokeReflectively(instance, arg1, arg2, arg3, arg4);
+  }
+
+  @Override
+  protected Object doInvoke5(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4,
+      @Nullable Object arg5) throws Throwable {
+    return invokeReflectively(instance, arg1, arg2, arg3, arg4, arg5);
+  }
+
+  @Override
+  protected Object doInvoke6(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5,
+      @Nullable Object arg6) throws Throwable {
+    return invokeReflectively(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  @Override
+  protected Object doInvoke1(@Nullable Object instance, int arg1) throws Throwable {
+    return invokeReflectively(instance, arg1);
+  }
+
+  @Override
+  protected Object doInvoke2(@Nullable Object instance, @Nullable Object arg1, int arg2)
+      throws Throwable {
+    return invokeReflectively(instance, arg1, arg2);
+  }
+
+  @Override
+  protected Object doInvoke3(@Nullable Object instance, double arg1, double arg2, double arg3)
+      throws Throwable {
+    return invokeReflectively(instance, arg1, arg2, arg3);
+  }
+
+  private Object invokeReflectively(@Nullable Object instance, Object... params) throws Throwable {
+    return getMethod().invoke(instance, params);
+  }
+}
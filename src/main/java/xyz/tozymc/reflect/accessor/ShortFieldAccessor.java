@@ -0,0 +1,119 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.util.Handles;
+
+/**
+ * The field accessor specialized for {@code short} fields.
+ *
+ * <p>{@link #getShort(Object)} and {@link #setShort(Object, short)} access the field
+ * through method handles of the exact field type, so the value is never boxed.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public class ShortFieldAccessor extends FieldAccessor {
+
+  private final MethodHandle shortGetter;
+  private final MethodHandle shortSetter;
+
+  /**
+   * Creates {@code ShortFieldAccessor} instance and makes {@code Field} is accessible.
+   *
+   * @param field The {@code short} field to access.
+   * @throws IllegalArgumentException If the field type is not {@code short}.
+   */
+  public ShortFieldAccessor(@NotNull Field field) {
+    this(field, true);
+  }
+
+  /**
+   * Creates {@code ShortFieldAccessor} instance, without method handles for subclasses that access
+   * the field themselves.
+   *
+   * <p>The {@code doX} methods that such a subclass does not override access the field through
+   * reflection.
+   *
+   * @param field     The {@code short} field to access.
+   * @param unreflect False to skip unreflecting the field.
+   * @throws IllegalArgumentException If the field type is not {@code short}.
+   */
+  protected ShortFieldAccessor(@NotNull Field field, boolean unreflect) {
+    super(checkType(field, short.class), unreflect);
+    this.shortGetter = unreflect ? Handles.unreflectGetter(getField(), short.class) : null;
+    this.shortSetter = unreflect ? Handles.unreflectSetter(getField(), short.class) : null;
+  }
+
+  /**
+   * Creates the tiered accessor of the field, see {@link TieredFieldAccessor}.
+   *
+   * @param field     The {@code short} field to access.
+   * @param promotion The promotion whose accessor accesses the field.
+   */
+  ShortFieldAccessor(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+    super(checkType(field, short.class), promotion);
+    this.shortGetter = null;
+    this.shortSetter = null;
+  }
+
+  @Override
+  public short getShort(@Nullable Object instance) {
+    long startTime = Metrics.startTime();
+    try {
+      return doGetShort(instance);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  @Override
+  public void setShort(@Nullable Object instance, short value) {
+    long startTime = Metrics.startTime();
+    try {
+      doSetShort(instance, value);
+    } catch (Throwable e) {
+      throw Failures.propagate(e);
+    } finally {
+      recordInvocation(startTime);
+    }
+  }
+
+  /**
+   * Gets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is read.
+   *
+   * @param instance Object from which the represented field's value is to be extracted.
+   * @return The value of the represented field in object {@code instance}.
+   * @throws Throwable Anything thrown while reading the field.
+   */
+  protected short doGetShort(@Nullable Object instance) throws Throwable {
+    if (shortGetter == null) {
+      return getField().getShort(instance);
+    }
+    return (short) shortGetter.invokeExact(instance);
+  }
+
+  /**
+   * Sets the value of the field without boxing it or wrapping thrown exceptions.
+   *
+   * <p>Subclasses may override this method to change how the field is written.
+   *
+   * @param instance The object whose field should be modified.
+   * @param value    New value for the field.
+   * @throws Throwable Anything thrown while writing the field.
+   */
+  protected void doSetShort(@Nullable Object instance, short value) throws Throwable {
+    if (shortSetter == null) {
+      getField().setShort(instance, value);
+      return;
+    }
+    shortSetter.invokeExact(instance, value);
+  }
+}
@@ -0,0 +1,110 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Constructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ConstructorAccessor} that invokes the constructor through {@link
+ * AccessorBackend#REFLECTION} until it is hot, then through the accessor created by its {@link
+ * BackendPolicy}.
+ *
+ * @author TozyMC
+ * @see BackendPolicy#promotionThreshold()
+ * @since 1.1
+ */
+final class TieredConstructorAccessor<T> extends ConstructorAccessor<T> {
+
+  private final Promotion<ConstructorAccessor<T>> promotion;
+
+  TieredConstructorAccessor(@NotNull Constructor<T> constructor, @NotNull BackendPolicy policy) {
+    super(constructor, false);
+    this.promotion = new Promotion<>(
+        BackendPolicy.constructor(AccessorBackend.REFLECTION, constructor),
+        () -> policy.createConstructor(constructor), policy.promotionThreshold());
+  }
+
+  @Override
+  protected Object doNewInstance(Object @NotNull [] params) throws Throwable {
+    return accessor().doNewInstance(params);
+  }
+
+  @Override
+  protected Object doNewInstance0() throws Throwable {
+    return accessor().doNewInstance0();
+  }
+
+  @Override
+  protected Object doNewInstance1(@Nullable Object arg1) throws Throwable {
+    return accessor().doNewInstance1(arg1);
+  }
+
+  @Override
+  protected Object doNewInstance2(@Nullable Object arg1, @Nullable Object arg2) throws Throwable {
+    return accessor().doNewInstance2(arg1, arg2);
+  }
+
+  @Override
+  protected Object doNewInstance3(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3) throws Throwable {
+    return accessor().doNewInstance3(arg1, arg2, arg3);
+  }
+
+  @Override
+  protected Object doNewInstance4(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4) throws Throwable {
+    return accessor().doNewInstance4(arg1, arg2, arg3, arg4);
+  }
+
+  @Override
+  protected Object doNewInstance5(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5) throws Throwable {
+    return accessor().doNewInstance5(arg1, arg2, arg3, arg4, arg5);
+  }
+
+  @Override
+  protected Object doNewInstance6(@Nullable Object arg1, @Nullable Object arg2,
+      @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5,
+      @Nullable Object arg6) throws Throwable {
+    return accessor().doNewInstance6(arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  @Override
+  protected Object doNewInstance1(int arg1) throws Throwable {
+    return accessor().doNewInstance1(arg1);
+  }
+
+  @Override
+  protected Object doNewInstance2(@Nullable Object arg1, int arg2) throws Throwable {
+    return accessor().doNewInstance2(arg1, arg2);
+  }
+
+  @Override
+  protected Object doNewInstance3(double arg1, double arg2, double arg3) throws Throwable {
+    return accessor().doNewInstance3(arg1, arg2, arg3);
+  }
+
+  /**
+   * Gets the backend of the accessor in use, {@link AccessorBackend#REFLECTION} until this
+   * accessor is promoted.
+   *
+   * @return The backend of the accessor in use.
+   */
+  @Override
+  public @Nullable AccessorBackend backend() {
+    return promotion.current().backend();
+  }
+
+  /**
+   * Checks if the constructor is invoked through the accessor of the policy.
+   *
+   * @return True if the accessor is promoted.
+   */
+  boolean isPromoted() {
+    return promotion.isPromoted();
+  }
+
+  private ConstructorAccessor<T> accessor() {
+    return promotion.next();
+  }
+}
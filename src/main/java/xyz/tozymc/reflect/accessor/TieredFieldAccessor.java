@@ -0,0 +1,240 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates {@link FieldAccessor}s that access the field through {@link AccessorBackend#REFLECTION}
+ * until it is hot, then through the accessor created by their {@link BackendPolicy}.
+ *
+ * <p>The boxed reads and writes of a tiered accessor are delegated by {@link FieldAccessor} itself.
+ * Primitive fields are accessed by the nested classes, which extend the field accessor specialized
+ * for the type like {@link FieldAccessor#of(Field)} does, such as {@link IntFieldAccessor}, and
+ * delegate its reads and writes of primitive values as they are, so the promoted accessor does not
+ * box them. Atomic operations do not count, they do not depend on the backend.
+ *
+ * @author TozyMC
+ * @see BackendPolicy#promotionThreshold()
+ * @since 1.1
+ */
+final class TieredFieldAccessor {
+
+  private TieredFieldAccessor() {}
+
+  /**
+   * Creates the tiered accessor of the field, specialized for the field type.
+   *
+   * @param field  The field to access.
+   * @param policy The policy creating the promoted accessor.
+   * @return The tiered accessor.
+   */
+  static @NotNull FieldAccessor of(@NotNull Field field, @NotNull BackendPolicy policy) {
+    Promotion<FieldAccessor> promotion =
+        new Promotion<>(BackendPolicy.field(AccessorBackend.REFLECTION, field),
+            () -> policy.createField(field), policy.promotionThreshold());
+    Class<?> type = field.getType();
+    if (!type.isPrimitive()) {
+      return new FieldAccessor(field, promotion);
+    }
+    if (type == boolean.class) {
+      return new OfBoolean(field, promotion);
+    }
+    if (type == byte.class) {
+      return new OfByte(field, promotion);
+    }
+    if (type == char.class) {
+      return new OfChar(field, promotion);
+    }
+    if (type == short.class) {
+      return new OfShort(field, promotion);
+    }
+    if (type == int.class) {
+      return new OfInt(field, promotion);
+    }
+    if (type == long.class) {
+      return new OfLong(field, promotion);
+    }
+    if (type == float.class) {
+      return new OfFloat(field, promotion);
+    }
+    return new OfDouble(field, promotion);
+  }
+
+  /**
+   * Gets the accessor to use for one access of a tiered accessor.
+   */
+  private static FieldAccessor next(FieldAccessor tiered) {
+    return tiered.promotion().next();
+  }
+
+  /**
+   * The tiered accessor of {@code boolean} fields.
+   */
+  static final class OfBoolean extends BooleanFieldAccessor {
+
+    OfBoolean(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public boolean getBoolean(@Nullable Object instance) {
+      return next(this).getBoolean(instance);
+    }
+
+    @Override
+    public void setBoolean(@Nullable Object instance, boolean value) {
+      next(this).setBoolean(instance, value);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code byte} fields.
+   */
+  static final class OfByte extends ByteFieldAccessor {
+
+    OfByte(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public byte getByte(@Nullable Object instance) {
+      return next(this).getByte(instance);
+    }
+
+    @Override
+    public void setByte(@Nullable Object instance, byte value) {
+      next(this).setByte(instance, value);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code char} fields.
+   */
+  static final class OfChar extends CharFieldAccessor {
+
+    OfChar(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public char getChar(@Nullable Object instance) {
+      return next(this).getChar(instance);
+    }
+
+    @Override
+    public void setChar(@Nullable Object instance, char value) {
+      next(this).setChar(instance, value);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code short} fields.
+   */
+  static final class OfShort extends ShortFieldAccessor {
+
+    OfShort(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public short getShort(@Nullable Object instance) {
+      return next(this).getShort(instance);
+    }
+
+    @Override
+    public void setShort(@Nullable Object instance, short value) {
+      next(this).setShort(instance, value);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code int} fields.
+   */
+  static final class OfInt extends IntFieldAccessor {
+
+    OfInt(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public int getInt(@Nullable Object instance) {
+      return next(this).getInt(instance);
+    }
+
+    @Override
+    public void setInt(@Nullable Object instance, int value) {
+      next(this).setInt(instance, value);
+    }
+
+    @Override
+    void doGetAllInt(Object[] instances, int[] out, int from, int to) throws Throwable {
+      next(this).doGetAllInt(instances, out, from, to);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code long} fields.
+   */
+  static final class OfLong extends LongFieldAccessor {
+
+    OfLong(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public long getLong(@Nullable Object instance) {
+      return next(this).getLong(instance);
+    }
+
+    @Override
+    public void setLong(@Nullable Object instance, long value) {
+      next(this).setLong(instance, value);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code float} fields.
+   */
+  static final class OfFloat extends FloatFieldAccessor {
+
+    OfFloat(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public float getFloat(@Nullable Object instance) {
+      return next(this).getFloat(instance);
+    }
+
+    @Override
+    public void setFloat(@Nullable Object instance, float value) {
+      next(this).setFloat(instance, value);
+    }
+  }
+
+  /**
+   * The tiered accessor of {@code double} fields.
+   */
+  static final class OfDouble extends DoubleFieldAccessor {
+
+    OfDouble(@NotNull Field field, @NotNull Promotion<FieldAccessor> promotion) {
+      super(field, promotion);
+    }
+
+    @Override
+    public double getDouble(@Nullable Object instance) {
+      return next(this).getDouble(instance);
+    }
+
+    @Override
+    public void setDouble(@Nullable Object instance, double value) {
+      next(this).setDouble(instance, value);
+    }
+
+    @Override
+    void doGetAllDouble(Object[] instances, double[] out, int from, int to) throws Throwable {
+      next(this).doGetAllDouble(instances, out, from, to);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.reflect.Method;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link MethodAccessor} that invokes the method through {@link AccessorBackend#REFLECTION} until
+ * it is hot, then through the accessor created by its {@link BackendPolicy}.
+ *
+ * @author TozyMC
+ * @see BackendPolicy#promotionThreshold()
+ * @since 1.1
+ */
+final class TieredMethodAccessor extends MethodAccessor {
+
+  private final Promotion<MethodAccessor> promotion;
+
+  TieredMethodAccessor(@NotNull Method method, @NotNull BackendPolicy policy) {
+    super(method, false);
+    this.promotion = new Promotion<>(BackendPolicy.method(AccessorBackend.REFLECTION, method),
+        () -> policy.createMethod(method), policy.promotionThreshold());
+  }
+
+  @Override
+  protected Object doInvoke(@Nullable Object instance, Object @NotNull [] params)
+      throws Throwable {
+    return accessor().doInvoke(instance, params);
+  }
+
+  @Override
+  protected Object doInvoke0(@Nullable Object instance) throws Throwable {
+    return accessor().doInvoke0(instance);
+  }
+
+  @Override
+  protected Object doInvoke1(@Nullable Object instance, @Nullable Object arg1) throws Throwable {
+    return accessor().doInvoke1(instance, arg1);
+  }
+
+  @Override
+  protected Object doInvoke2(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2) throws Throwable {
+    return accessor().doInvoke2(instance, arg1, arg2);
+  }
+
+  @Override
+  protected Object doInvoke3(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3) throws Throwable {
+    return accessor().doInvoke3(instance, arg1, arg2, arg3);
+  }
+
+  @Override
+  protected Object doInvoke4(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4) throws Throwable {
+    return accessor().doInvoke4(instance, arg1, arg2, arg3, arg4);
+  }
+
+  @Override
+  protected Object doInvoke5(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4,
+      @Nullable Object arg5) throws Throwable {
+    return accessor().doInvoke5(instance, arg1, arg2, arg3, arg4, arg5);
+  }
+
+  @Override
+  protected Object doInvoke6(@Nullable Object instance, @Nullable Object arg1,
+      @Nullable Object arg2, @Nullable Object arg3, @Nullable Object arg4, @Nullable Object arg5,
+      @Nullable Object arg6) throws Throwable {
+    return accessor().doInvoke6(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+  }
+
+  @Override
+  protected Object doInvoke1(@Nullable Object instance, int arg1) throws Throwable {
+    return accessor().doInvoke1(instance, arg1);
+  }
+
+  @Override
+  protected Object doInvoke2(@Nullable Object instance, @Nullable Object arg1, int arg2)
+      throws Throwable {
+    return accessor().doInvoke2(instance, arg1, arg2);
+  }
+
+  @Override
+  protected Object doInvoke3(@Nullable Object instance, double arg1, double arg2, double arg3)
+      throws Throwable {
+    return accessor().doInvoke3(instance, arg1, arg2, arg3);
+  }
+
+  /**
+   * Gets the backend of the accessor in use, {@link AccessorBackend#REFLECTION} until this
+   * accessor is promoted.
+   *
+   * @return The backend of the accessor in use.
+   */
+  @Override
+  public @Nullable AccessorBackend backend() {
+    return promotion.current().backend();
+  }
+
+  /**
+   * Checks if the method is invoked through the accessor of the policy.
+   *
+   * @return True if the accessor is promoted.
+   */
+  boolean isPromoted() {
+    return promotion.isPromoted();
+  }
+
+  private MethodAccessor accessor() {
+    return promotion.next();
+  }
+}
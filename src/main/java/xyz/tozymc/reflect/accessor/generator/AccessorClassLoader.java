@@ -0,0 +1,36 @@
+package xyz.tozymc.reflect.accessor.generator;
+
+import java.util.Map;
+
+/**
+ * The class loader that defines one generated accessor class.
+ *
+ * <p>Classes are loaded from the class loader of the accessed member, except the accessor classes
+ * of this library, which the generated class extends. Every generated class has its own loader, so
+ * it can be unloaded together with its accessor.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class AccessorClassLoader extends ClassLoader {
+
+  private final Map<String, Class<?>> libraryClasses;
+
+  AccessorClassLoader(ClassLoader parent, Map<String, Class<?>> libraryClasses) {
+    super(parent);
+    this.libraryClasses = libraryClasses;
+  }
+
+  Class<?> define(String name, byte[] bytes) {
+    return defineClass(name, bytes, 0, bytes.length);
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    Class<?> libraryClass = libraryClasses.get(name);
+    if (libraryClass != null) {
+      return libraryClass;
+    }
+    return super.loadClass(name, resolve);
+  }
+}
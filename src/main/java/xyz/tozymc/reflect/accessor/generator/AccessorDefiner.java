@@ -0,0 +1,46 @@
+package xyz.tozymc.reflect.accessor.generator;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+
+/**
+ * Defines generated accessor classes.
+ *
+ * <p>This is the implementation for Java 8, which defines every class in its own {@link
+ * AccessorClassLoader}. The multi-release jar replaces this class with the implementation that
+ * defines hidden classes on Java 17 and later.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class AccessorDefiner {
+
+  private AccessorDefiner() {}
+
+  /**
+   * Gets the internal name of the package of generated classes, with the trailing slash.
+   *
+   * <p>Not a constant, so callers are not compiled against the package of one tier.
+   *
+   * @return The internal name of the package.
+   */
+  static String packageName() {
+    return "xyz/tozymc/reflect/accessor/generated/";
+  }
+
+  /**
+   * Defines the generated accessor class of the member.
+   *
+   * @param member         The member the class accesses.
+   * @param name           Internal name of the class.
+   * @param bytes          The class file.
+   * @param libraryClasses The accessor classes of this library, by binary name.
+   * @return The defined class.
+   */
+  static Class<?> define(Member member, String name, byte[] bytes,
+      Map<String, Class<?>> libraryClasses) {
+    AccessorClassLoader loader =
+        new AccessorClassLoader(member.getDeclaringClass().getClassLoader(), libraryClasses);
+    return loader.define(name.replace('/', '.'), bytes);
+  }
+}
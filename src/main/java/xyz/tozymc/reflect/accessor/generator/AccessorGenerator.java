@@ -0,0 +1,553 @@
+package xyz.tozymc.reflect.accessor.generator;
+
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.AALOAD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.ACC_PROTECTED;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.ACC_PUBLIC;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.ACONST_NULL;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.ARETURN;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.ATHROW;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.CHECKCAST;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.DLOAD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.DRETURN;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.DUP;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.DUP_X1;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.FLOAD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.FRETURN;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.GETFIELD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.GETSTATIC;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.ILOAD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.INVOKEINTERFACE;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.INVOKESPECIAL;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.INVOKESTATIC;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.INVOKEVIRTUAL;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.IRETURN;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.LLOAD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.LRETURN;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.NEW;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.PUTFIELD;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.PUTSTATIC;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.RETURN;
+import static xyz.tozymc.reflect.accessor.generator.ClassFileWriter.SWAP;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.accessor.Accessor;
+import xyz.tozymc.reflect.accessor.BooleanFieldAccessor;
+import xyz.tozymc.reflect.accessor.ByteFieldAccessor;
+import xyz.tozymc.reflect.accessor.CharFieldAccessor;
+import xyz.tozymc.reflect.accessor.ConstructorAccessor;
+import xyz.tozymc.reflect.accessor.DoubleFieldAccessor;
+import xyz.tozymc.reflect.accessor.FieldAccessor;
+import xyz.tozymc.reflect.accessor.FloatFieldAccessor;
+import xyz.tozymc.reflect.accessor.IntFieldAccessor;
+import xyz.tozymc.reflect.accessor.LongFieldAccessor;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+import xyz.tozymc.reflect.accessor.ShortFieldAccessor;
+import xyz.tozymc.reflect.util.Conversions;
+import xyz.tozymc.util.Preconditions;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates accessor classes that access class members directly.
+ *
+ * <p>The generated class extends {@link MethodAccessor}, {@link FieldAccessor} or {@link
+ * ConstructorAccessor} and overrides its {@code doX} methods with a direct {@code invokevirtual},
+ * {@code getfield}, {@code new} (and so on) on the member. Each call site of the accessor becomes a
+ * monomorphic call to straight-line code, which the JIT compiler can inline down to the member.
+ *
+ * <p>The generated class is defined in its own class loader, or as a hidden class on Java 17 and
+ * later, so only members that can be linked from another package are supported: public members of
+ * public classes whose parameter types are public too. For other members, the {@code generate}
+ * methods return {@code null}.
+ *
+ * <p>Arguments and the instance are checked and converted by {@link Conversions} like {@link
+ * Method#invoke(Object, Object...)} does: arguments of primitive parameters are unboxed and
+ * widened, and mismatched arguments or a wrong number of arguments throw {@link
+ * IllegalArgumentException}. An exception thrown by the method or constructor is wrapped in an
+ * {@link InvocationTargetException}, as reflection does. The generated class does not unreflect the
+ * member, the {@code doX} methods it does not implement fall back to reflection.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class AccessorGenerator {
+
+  private static final Map<String, Class<?>> LIBRARY_CLASSES = new HashMap<>();
+  private static final Map<Class<?>, Class<? extends FieldAccessor>> PRIMITIVE_FIELD_ACCESSORS =
+      new HashMap<>();
+  private static final AtomicInteger counter = new AtomicInteger();
+  private static final int MAX_FIXED_ARITY = 6;
+  private static final Class<?>[][] PRIMITIVE_ARGUMENT_TYPES = {
+      {int.class},
+      {Object.class, int.class},
+      {double.class, double.class, double.class}
+  };
+
+  static {
+    PRIMITIVE_FIELD_ACCESSORS.put(boolean.class, BooleanFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(byte.class, ByteFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(char.class, CharFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(short.class, ShortFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(int.class, IntFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(long.class, LongFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(float.class, FloatFieldAccessor.class);
+    PRIMITIVE_FIELD_ACCESSORS.put(double.class, DoubleFieldAccessor.class);
+
+    LIBRARY_CLASSES.put(MethodAccessor.class.getName(), MethodAccessor.class);
+    LIBRARY_CLASSES.put(FieldAccessor.class.getName(), FieldAccessor.class);
+    LIBRARY_CLASSES.put(ConstructorAccessor.class.getName(), ConstructorAccessor.class);
+    LIBRARY_CLASSES.put(Conversions.class.getName(), Conversions.class);
+    for (Class<?> accessorClass : PRIMITIVE_FIELD_ACCESSORS.values()) {
+      LIBRARY_CLASSES.put(accessorClass.getName(), accessorClass);
+    }
+  }
+
+  private AccessorGenerator() {}
+
+  /**
+   * Checks if the accessor class of the member can be generated.
+   *
+   * @param member The method, field or constructor to check.
+   * @return True if the accessor class of the member can be generated.
+   */
+  public static boolean isSupported(@NotNull Member member) {
+    Preconditions.checkNotNull(member, "Member cannot be null");
+
+    if (!Modifier.isPublic(member.getModifiers()) || !isPublic(member.getDeclaringClass())) {
+      return false;
+    }
+    if (member instanceof Field) {
+      return isPublic(((Field) member).getType());
+    }
+    Class<?>[] paramTypes = member instanceof Method ? ((Method) member).getParameterTypes()
+        : ((Constructor<?>) member).getParameterTypes();
+    for (Class<?> paramType : paramTypes) {
+      if (!isPublic(paramType)) {
+        return false;
+      }
+    }
+    return !(member instanceof Constructor)
+        || !Modifier.isAbstract(member.getDeclaringClass().getModifiers());
+  }
+
+  /**
+   * Checks if the class is a generated accessor class.
+   *
+   * @param clazz The class to check.
+   * @return True if the class was generated by this generator.
+   */
+  public static boolean isGenerated(@NotNull Class<?> clazz) {
+    Preconditions.checkNotNull(clazz, "Class cannot be null");
+    return Accessor.class.isAssignableFrom(clazz)
+        && clazz.getName().startsWith(AccessorDefiner.packageName().replace('/', '.'));
+  }
+
+  /**
+   * Generates the method accessor class of the method and creates its instance.
+   *
+   * <p>The generated class also implements the fixed-arity invocations matching the method
+   * parameters, such as {@link MethodAccessor#invoke2(Object, Object, Object)}.
+   *
+   * @param method The method to access.
+   * @return The generated method accessor, or {@code null} if the method is not supported.
+   * @see #isSupported(Member)
+   */
+  public static @Nullable MethodAccessor generate(@NotNull Method method) {
+    if (!isSupported(method)) {
+      return null;
+    }
+    Class<?> declaringClass = method.getDeclaringClass();
+    boolean isStatic = Modifier.isStatic(method.getModifiers());
+    boolean isInterface = declaringClass.isInterface();
+    Class<?>[] paramTypes = method.getParameterTypes();
+    String owner = internalName(declaringClass);
+
+    String name = nextName("MethodAccessor");
+    ClassFileWriter writer = new ClassFileWriter(name, internalName(MethodAccessor.class));
+    writeConstructor(writer, MethodAccessor.class, Method.class);
+
+    ClassFileWriter.CodeWriter code = writer.method(ACC_PROTECTED, "doInvoke",
+        "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;", maxStack(paramTypes), 3);
+    checkCount(code, paramTypes, 2);
+    if (!isStatic) {
+      loadInstance(code, declaringClass);
+    }
+    loadParams(code, paramTypes);
+    int opcode = isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL;
+    int start = code.offset();
+    code.invoke(opcode, owner, method.getName(), descriptor(method.getReturnType(), paramTypes),
+        isInterface);
+    int end = code.offset();
+    returnBoxed(code, method.getReturnType());
+    wrapTargetExceptions(code, start, end);
+
+    for (Class<?>[] argTypes : fixedArgumentTypes(paramTypes)) {
+      ClassFileWriter.CodeWriter fixed = writer.method(ACC_PROTECTED,
+          "doInvoke" + paramTypes.length, descriptor(Object.class, withInstance(argTypes)),
+          maxStack(paramTypes), 2 + slots(argTypes));
+      if (!isStatic) {
+        loadInstance(fixed, declaringClass);
+      }
+      loadArgs(fixed, argTypes, paramTypes, 2);
+      int fixedStart = fixed.offset();
+      fixed.invoke(opcode, owner, method.getName(), descriptor(method.getReturnType(), paramTypes),
+          isInterface);
+      int fixedEnd = fixed.offset();
+      returnBoxed(fixed, method.getReturnType());
+      wrapTargetExceptions(fixed, fixedStart, fixedEnd);
+    }
+
+    return newInstance(name, writer, Method.class, method);
+  }
+
+  /**
+   * Generates the field accessor class of the field and creates its instance.
+   *
+   * <p>For primitive fields, the generated class extends the field accessor specialized for the
+   * type, such as {@link IntFieldAccessor}, and accesses the field directly without boxing too.
+   *
+   * <p>Final fields are only read by the generated class, writing them falls back to {@link
+   * Field#set(Object, Object)}, which decides whether the field can be written.
+   *
+   * @param field The field to access.
+   * @return The generated field accessor, or {@code null} if the field is not supported.
+   * @see #isSupported(Member)
+   */
+  public static @Nullable FieldAccessor generate(@NotNull Field field) {
+    if (!isSupported(field)) {
+      return null;
+    }
+    Class<?> declaringClass = field.getDeclaringClass();
+    boolean isStatic = Modifier.isStatic(field.getModifiers());
+    Class<?> type = field.getType();
+    String owner = internalName(declaringClass);
+    String descriptor = fieldDescriptor(type);
+
+    Class<? extends FieldAccessor> superClass =
+        PRIMITIVE_FIELD_ACCESSORS.getOrDefault(type, FieldAccessor.class);
+    String name = nextName("FieldAccessor");
+    ClassFileWriter writer = new ClassFileWriter(name, internalName(superClass));
+    writeConstructor(writer, superClass, Field.class);
+
+    ClassFileWriter.CodeWriter get = writer.method(ACC_PROTECTED, "doGet",
+        "(Ljava/lang/Object;)Ljava/lang/Object;", 3, 2);
+    if (isStatic) {
+      get.field(GETSTATIC, owner, field.getName(), descriptor);
+    } else {
+      loadInstance(get, declaringClass).field(GETFIELD, owner, field.getName(), descriptor);
+    }
+    returnBoxed(get, type);
+    get.end();
+
+    if (!Modifier.isFinal(field.getModifiers())) {
+      ClassFileWriter.CodeWriter set = writer.method(ACC_PROTECTED, "doSet",
+          "(Ljava/lang/Object;Ljava/lang/Object;)V", 3, 3);
+      if (!isStatic) {
+        loadInstance(set, declaringClass);
+      }
+      set.aload(2);
+      unbox(set, type);
+      set.field(isStatic ? PUTSTATIC : PUTFIELD, owner, field.getName(), descriptor)
+          .op(RETURN)
+          .end();
+    }
+
+    if (type.isPrimitive()) {
+      writePrimitiveFieldAccess(writer, field, owner, descriptor);
+    }
+
+    return newInstance(name, writer, Field.class, field);
+  }
+
+  /**
+   * Generates the constructor accessor class of the constructor and creates its instance.
+   *
+   * <p>The generated class also implements the fixed-arity instantiations matching the constructor
+   * parameters, such as {@link ConstructorAccessor#newInstance2(Object, Object)}.
+   *
+   * @param constructor The constructor to access.
+   * @param <T>         Type of constructor.
+   * @return The generated constructor accessor, or {@code null} if the constructor is not
+   *     supported.
+   * @see #isSupported(Member)
+   */
+  public static <T> @Nullable ConstructorAccessor<T> generate(
+      @NotNull Constructor<T> constructor) {
+    if (!isSupported(constructor)) {
+      return null;
+    }
+    Class<T> declaringClass = constructor.getDeclaringClass();
+    Class<?>[] paramTypes = constructor.getParameterTypes();
+    String owner = internalName(declaringClass);
+
+    String name = nextName("ConstructorAccessor");
+    ClassFileWriter writer = new ClassFileWriter(name, internalName(ConstructorAccessor.class));
+    writeConstructor(writer, ConstructorAccessor.class, Constructor.class);
+
+    ClassFileWriter.CodeWriter code = writer.method(ACC_PROTECTED, "doNewInstance",
+        "([Ljava/lang/Object;)Ljava/lang/Object;", maxStack(paramTypes) + 1, 2);
+    checkCount(code, paramTypes, 1);
+    code.type(NEW, owner).op(DUP);
+    loadParams(code, paramTypes, 1);
+    int start = code.offset();
+    code.invoke(INVOKESPECIAL, owner, "<init>", descriptor(void.class, paramTypes), false);
+    int end = code.offset();
+    code.op(ARETURN);
+    wrapTargetExceptions(code, start, end);
+
+    for (Class<?>[] argTypes : fixedArgumentTypes(paramTypes)) {
+      ClassFileWriter.CodeWriter fixed = writer.method(ACC_PROTECTED,
+          "doNewInstance" + paramTypes.length, descriptor(Object.class, argTypes),
+          maxStack(paramTypes) + 1, 1 + slots(argTypes));
+      fixed.type(NEW, owner).op(DUP);
+      loadArgs(fixed, argTypes, paramTypes, 1);
+      int fixedStart = fixed.offset();
+      fixed.invoke(INVOKESPECIAL, owner, "<init>", descriptor(void.class, paramTypes), false);
+      int fixedEnd = fixed.offset();
+      fixed.op(ARETURN);
+      wrapTargetExceptions(fixed, fixedStart, fixedEnd);
+    }
+
+    return newInstance(name, writer, Constructor.class, constructor);
+  }
+
+  private static void writePrimitiveFieldAccess(ClassFileWriter writer, Field field, String owner,
+      String descriptor) {
+    boolean isStatic = Modifier.isStatic(field.getModifiers());
+    Class<?> type = field.getType();
+    String typeName = Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+    int[] opcodes = typedOpcodes(type);
+
+    ClassFileWriter.CodeWriter get = writer.method(ACC_PROTECTED, "doGet" + typeName,
+        "(Ljava/lang/Object;)" + descriptor, 2, 2);
+    if (isStatic) {
+      get.field(GETSTATIC, owner, field.getName(), descriptor);
+    } else {
+      loadInstance(get, field.getDeclaringClass())
+          .field(GETFIELD, owner, field.getName(), descriptor);
+    }
+    get.op(opcodes[1]).end();
+
+    if (!Modifier.isFinal(field.getModifiers())) {
+      ClassFileWriter.CodeWriter set = writer.method(ACC_PROTECTED, "doSet" + typeName,
+          "(Ljava/lang/Object;" + descriptor + ")V", 3, 4);
+      if (!isStatic) {
+        loadInstance(set, field.getDeclaringClass());
+      }
+      set.load(opcodes[0], 2)
+          .field(isStatic ? PUTSTATIC : PUTFIELD, owner, field.getName(), descriptor)
+          .op(RETURN)
+          .end();
+    }
+  }
+
+  private static int[] typedOpcodes(Class<?> type) {
+    if (type == long.class) {
+      return new int[]{LLOAD, LRETURN};
+    }
+    if (type == float.class) {
+      return new int[]{FLOAD, FRETURN};
+    }
+    if (type == double.class) {
+      return new int[]{DLOAD, DRETURN};
+    }
+    return new int[]{ILOAD, IRETURN};
+  }
+
+  private static void writeConstructor(ClassFileWriter writer, Class<?> superClass,
+      Class<?> memberClass) {
+    // Skips unreflecting the member, the generated methods access it directly.
+    String descriptor = descriptor(void.class, memberClass);
+    writer.method(ACC_PUBLIC, "<init>", descriptor, 3, 2)
+        .aload(0)
+        .aload(1)
+        .iconst(0)
+        .invoke(INVOKESPECIAL, internalName(superClass), "<init>",
+            descriptor(void.class, memberClass, boolean.class), false)
+        .op(RETURN)
+        .end();
+  }
+
+  private static void loadParams(ClassFileWriter.CodeWriter code, Class<?>[] paramTypes) {
+    loadParams(code, paramTypes, 2);
+  }
+
+  private static void loadParams(ClassFileWriter.CodeWriter code, Class<?>[] paramTypes,
+      int arrayIndex) {
+    for (int i = 0; i < paramTypes.length; i++) {
+      code.aload(arrayIndex).iconst(i).op(AALOAD);
+      unbox(code, paramTypes[i]);
+    }
+  }
+
+  private static List<Class<?>[]> fixedArgumentTypes(Class<?>[] paramTypes) {
+    List<Class<?>[]> argumentTypes = new ArrayList<>();
+    if (paramTypes.length <= MAX_FIXED_ARITY) {
+      Class<?>[] argTypes = new Class<?>[paramTypes.length];
+      Arrays.fill(argTypes, Object.class);
+      argumentTypes.add(argTypes);
+    }
+    for (Class<?>[] argTypes : PRIMITIVE_ARGUMENT_TYPES) {
+      if (isLoadable(argTypes, paramTypes)) {
+        argumentTypes.add(argTypes);
+      }
+    }
+    return argumentTypes;
+  }
+
+  private static boolean isLoadable(Class<?>[] argTypes, Class<?>[] paramTypes) {
+    if (argTypes.length != paramTypes.length) {
+      return false;
+    }
+    for (int i = 0; i < argTypes.length; i++) {
+      if (argTypes[i] != Object.class && argTypes[i] != paramTypes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void loadArgs(ClassFileWriter.CodeWriter code, Class<?>[] argTypes,
+      Class<?>[] paramTypes, int firstIndex) {
+    int index = firstIndex;
+    for (int i = 0; i < argTypes.length; i++) {
+      if (argTypes[i] == Object.class) {
+        code.aload(index);
+        unbox(code, paramTypes[i]);
+      } else {
+        code.load(typedOpcodes(argTypes[i])[0], index);
+      }
+      index += slots(argTypes[i]);
+    }
+  }
+
+  private static int slots(Class<?>... types) {
+    int slots = 0;
+    for (Class<?> type : types) {
+      slots += type == long.class || type == double.class ? 2 : 1;
+    }
+    return slots;
+  }
+
+  private static Class<?>[] withInstance(Class<?>[] argTypes) {
+    Class<?>[] types = new Class<?>[argTypes.length + 1];
+    types[0] = Object.class;
+    System.arraycopy(argTypes, 0, types, 1, argTypes.length);
+    return types;
+  }
+
+  private static ClassFileWriter.CodeWriter loadInstance(ClassFileWriter.CodeWriter code,
+      Class<?> declaringClass) {
+    // Checked before the access, so a null instance is not wrapped like an exception of a method.
+    return code.aload(1)
+        .classConstant(internalName(declaringClass))
+        .invoke(INVOKESTATIC, internalName(Conversions.class), "receiver",
+            "(Ljava/lang/Object;Ljava/lang/Class;)Ljava/lang/Object;", false)
+        .type(CHECKCAST, internalName(declaringClass));
+  }
+
+  private static void wrapTargetExceptions(ClassFileWriter.CodeWriter code, int start, int end) {
+    String exception = internalName(InvocationTargetException.class);
+    code.handler(start, end, internalName(Throwable.class))
+        .type(NEW, exception)
+        .op(DUP_X1)
+        .op(SWAP)
+        .invoke(INVOKESPECIAL, exception, "<init>", "(Ljava/lang/Throwable;)V", false)
+        .op(ATHROW)
+        .end();
+  }
+
+  private static void checkCount(ClassFileWriter.CodeWriter code, Class<?>[] paramTypes,
+      int arrayIndex) {
+    code.aload(arrayIndex)
+        .iconst(paramTypes.length)
+        .invoke(INVOKESTATIC, internalName(Conversions.class), "checkCount",
+            "([Ljava/lang/Object;I)V", false);
+  }
+
+  private static void unbox(ClassFileWriter.CodeWriter code, Class<?> type) {
+    if (!type.isPrimitive()) {
+      if (type != Object.class) {
+        // Checked by Conversions, so a mismatch throws IllegalArgumentException like reflection.
+        code.classConstant(internalName(type))
+            .invoke(INVOKESTATIC, internalName(Conversions.class), "cast",
+                "(Ljava/lang/Object;Ljava/lang/Class;)Ljava/lang/Object;", false)
+            .type(CHECKCAST, internalName(type));
+      }
+      return;
+    }
+    String name = "to" + Character.toUpperCase(type.getName().charAt(0))
+        + type.getName().substring(1);
+    code.invoke(INVOKESTATIC, internalName(Conversions.class), name,
+        descriptor(type, Object.class), false);
+  }
+
+  private static void returnBoxed(ClassFileWriter.CodeWriter code, Class<?> type) {
+    if (type == void.class) {
+      code.op(ACONST_NULL);
+    } else if (type.isPrimitive()) {
+      Class<?> wrapper = wrap(type);
+      code.invoke(INVOKESTATIC, internalName(wrapper), "valueOf", descriptor(wrapper, type),
+          false);
+    }
+    code.op(ARETURN);
+  }
+
+  private static int maxStack(Class<?>[] paramTypes) {
+    // Receiver, every loaded parameter, and the array and index of the parameter being loaded.
+    return Math.max(1 + slots(paramTypes) + 2, 3);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <A> A newInstance(String name, ClassFileWriter writer, Class<?> memberClass,
+      Member member) {
+    try {
+      Class<?> generated =
+          AccessorDefiner.define(member, name, writer.toByteArray(), LIBRARY_CLASSES);
+      return (A) generated.getConstructor(memberClass).newInstance(member);
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private static boolean isPublic(Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  private static String nextName(String kind) {
+    return AccessorDefiner.packageName() + kind + counter.incrementAndGet();
+  }
+
+  private static String internalName(Class<?> clazz) {
+    return clazz.getName().replace('.', '/');
+  }
+
+  private static String fieldDescriptor(Class<?> type) {
+    String descriptor = MethodType.methodType(type).toMethodDescriptorString();
+    return descriptor.substring(2);
+  }
+
+  private static String descriptor(Class<?> returnType, Class<?>... paramTypes) {
+    return MethodType.methodType(returnType, paramTypes).toMethodDescriptorString();
+  }
+}
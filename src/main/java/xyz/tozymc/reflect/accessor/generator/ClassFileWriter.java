@@ -0,0 +1,416 @@
+package xyz.tozymc.reflect.accessor.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal class file writer for the straight-line code of generated accessors.
+ *
+ * <p>Only the constant pool entries and instructions needed by {@link AccessorGenerator} are
+ * supported. The written methods have no branches, and at most one exception handler at the end of
+ * the code, so the only stack map frame needed is the frame of the handler.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class ClassFileWriter {
+
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_PROTECTED = 0x0004;
+  static final int ACC_FINAL = 0x0010;
+  static final int ACC_SUPER = 0x0020;
+  static final int ACC_SYNTHETIC = 0x1000;
+
+  static final int ACONST_NULL = 0x01;
+  static final int ICONST_0 = 0x03;
+  static final int BIPUSH = 0x10;
+  static final int SIPUSH = 0x11;
+  static final int LDC_W = 0x13;
+  static final int ILOAD = 0x15;
+  static final int LLOAD = 0x16;
+  static final int FLOAD = 0x17;
+  static final int DLOAD = 0x18;
+  static final int ALOAD = 0x19;
+  static final int AALOAD = 0x32;
+  static final int DUP = 0x59;
+  static final int DUP_X1 = 0x5a;
+  static final int SWAP = 0x5f;
+  static final int IRETURN = 0xac;
+  static final int LRETURN = 0xad;
+  static final int FRETURN = 0xae;
+  static final int DRETURN = 0xaf;
+  static final int ARETURN = 0xb0;
+  static final int RETURN = 0xb1;
+  static final int GETSTATIC = 0xb2;
+  static final int PUTSTATIC = 0xb3;
+  static final int GETFIELD = 0xb4;
+  static final int PUTFIELD = 0xb5;
+  static final int INVOKEVIRTUAL = 0xb6;
+  static final int INVOKESPECIAL = 0xb7;
+  static final int INVOKESTATIC = 0xb8;
+  static final int INVOKEINTERFACE = 0xb9;
+  static final int NEW = 0xbb;
+  static final int ATHROW = 0xbf;
+  static final int CHECKCAST = 0xc0;
+
+  private static final int CLASS_VERSION = 52;
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_FIELDREF = 9;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_INTERFACE_METHODREF = 11;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+  private static final int ITEM_INTEGER = 1;
+  private static final int ITEM_FLOAT = 2;
+  private static final int ITEM_DOUBLE = 3;
+  private static final int ITEM_LONG = 4;
+  private static final int ITEM_OBJECT = 7;
+  private static final int FULL_FRAME = 255;
+
+  private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+  private final DataOutputStream pool = new DataOutputStream(poolBytes);
+  private final Map<String, Integer> constants = new HashMap<>();
+  private final List<byte[]> methods = new ArrayList<>();
+  private int poolCount = 1;
+
+  private final String name;
+  private final String superName;
+
+  ClassFileWriter(String name, String superName) {
+    this.name = name;
+    this.superName = superName;
+  }
+
+  CodeWriter method(int access, String name, String descriptor, int maxStack, int maxLocals) {
+    return new CodeWriter(access, name, descriptor, maxStack, maxLocals);
+  }
+
+  byte[] toByteArray() {
+    try {
+      int thisClass = classRef(name);
+      int superClass = classRef(superName);
+      int codeName = utf8("Code");
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0);
+      out.writeShort(CLASS_VERSION);
+      out.writeShort(poolCount);
+      pool.flush();
+      poolBytes.writeTo(out);
+      out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(0); // interfaces
+      out.writeShort(0); // fields
+      out.writeShort(methods.size());
+      for (byte[] method : methods) {
+        out.write(method, 0, 6);
+        out.writeShort(1); // attributes
+        out.writeShort(codeName);
+        out.write(method, 6, method.length - 6);
+      }
+      out.writeShort(0); // attributes
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  int utf8(String value) {
+    return constant("U" + value, out -> {
+      out.writeByte(CONSTANT_UTF8);
+      out.writeUTF(value);
+    });
+  }
+
+  int classRef(String internalName) {
+    int nameIndex = utf8(internalName);
+    return constant("C" + internalName, out -> {
+      out.writeByte(CONSTANT_CLASS);
+      out.writeShort(nameIndex);
+    });
+  }
+
+  int fieldRef(String owner, String name, String descriptor) {
+    return memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+  }
+
+  int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+    return memberRef(isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF, owner, name,
+        descriptor);
+  }
+
+  private int memberRef(int tag, String owner, String name, String descriptor) {
+    int ownerIndex = classRef(owner);
+    int nameIndex = utf8(name);
+    int descriptorIndex = utf8(descriptor);
+    int nameAndType = constant("N" + name + ':' + descriptor, out -> {
+      out.writeByte(CONSTANT_NAME_AND_TYPE);
+      out.writeShort(nameIndex);
+      out.writeShort(descriptorIndex);
+    });
+    return constant(tag + owner + '.' + name + ':' + descriptor, out -> {
+      out.writeByte(tag);
+      out.writeShort(ownerIndex);
+      out.writeShort(nameAndType);
+    });
+  }
+
+  private int constant(String key, ConstantWriter writer) {
+    Integer index = constants.get(key);
+    if (index != null) {
+      return index;
+    }
+    try {
+      writer.write(pool);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    constants.put(key, poolCount);
+    return poolCount++;
+  }
+
+  @FunctionalInterface
+  private interface ConstantWriter {
+
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  /**
+   * Writes the code of one method.
+   */
+  final class CodeWriter {
+
+    private final ByteArrayOutputStream codeBytes = new ByteArrayOutputStream();
+    private final DataOutputStream code = new DataOutputStream(codeBytes);
+    private final int access;
+    private final String descriptor;
+    private final int nameIndex;
+    private final int descriptorIndex;
+    private final int maxStack;
+    private final int maxLocals;
+    private byte[] handler;
+
+    private CodeWriter(int access, String name, String descriptor, int maxStack, int maxLocals) {
+      this.access = access;
+      this.descriptor = descriptor;
+      this.nameIndex = utf8(name);
+      this.descriptorIndex = utf8(descriptor);
+      this.maxStack = maxStack;
+      this.maxLocals = maxLocals;
+    }
+
+    int offset() {
+      return codeBytes.size();
+    }
+
+    /**
+     * Starts the exception handler of the instructions from {@code start} inclusive to {@code end}
+     * exclusive at the current offset, with the thrown exception on the stack.
+     */
+    CodeWriter handler(int start, int end, String exceptionName) {
+      int catchType = classRef(exceptionName);
+      int handlerOffset = offset();
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      try {
+        out.writeShort(start);
+        out.writeShort(end);
+        out.writeShort(handlerOffset);
+        out.writeShort(catchType);
+        // The locals are the arguments, which the code never changes.
+        out.writeByte(FULL_FRAME);
+        out.writeShort(handlerOffset);
+        writeArgumentTypes(out);
+        out.writeShort(1);
+        out.writeByte(ITEM_OBJECT);
+        out.writeShort(catchType);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      handler = bytes.toByteArray();
+      return this;
+    }
+
+    CodeWriter op(int opcode) {
+      return write(() -> code.writeByte(opcode));
+    }
+
+    CodeWriter aload(int index) {
+      return load(ALOAD, index);
+    }
+
+    CodeWriter load(int opcode, int index) {
+      return write(() -> {
+        code.writeByte(opcode);
+        code.writeByte(index);
+      });
+    }
+
+    CodeWriter iconst(int value) {
+      return write(() -> {
+        if (value >= -1 && value <= 5) {
+          code.writeByte(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+          code.writeByte(BIPUSH);
+          code.writeByte(value);
+        } else {
+          code.writeByte(SIPUSH);
+          code.writeShort(value);
+        }
+      });
+    }
+
+    CodeWriter classConstant(String internalName) {
+      return type(LDC_W, internalName);
+    }
+
+    CodeWriter type(int opcode, String internalName) {
+      int index = classRef(internalName);
+      return write(() -> {
+        code.writeByte(opcode);
+        code.writeShort(index);
+      });
+    }
+
+    CodeWriter field(int opcode, String owner, String name, String descriptor) {
+      int index = fieldRef(owner, name, descriptor);
+      return write(() -> {
+        code.writeByte(opcode);
+        code.writeShort(index);
+      });
+    }
+
+    CodeWriter invoke(int opcode, String owner, String name, String descriptor,
+        boolean isInterface) {
+      int index = methodRef(owner, name, descriptor, isInterface);
+      return write(() -> {
+        code.writeByte(opcode);
+        code.writeShort(index);
+        if (opcode == INVOKEINTERFACE) {
+          code.writeByte(argumentSlots(descriptor) + 1);
+          code.writeByte(0);
+        }
+      });
+    }
+
+    void end() {
+      try {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(access);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+        code.flush();
+        int handlerLength = handler == null ? 0 : 6 + 2 + handler.length;
+        out.writeInt(12 + codeBytes.size() + handlerLength); // Code attribute length
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(codeBytes.size());
+        codeBytes.writeTo(out);
+        if (handler == null) {
+          out.writeShort(0); // exception table
+          out.writeShort(0); // attributes
+        } else {
+          out.writeShort(1); // exception table
+          out.write(handler, 0, 8);
+          out.writeShort(1); // attributes
+          out.writeShort(utf8("StackMapTable"));
+          out.writeInt(2 + handler.length - 8);
+          out.writeShort(1); // entries
+          out.write(handler, 8, handler.length - 8);
+        }
+        out.flush();
+        methods.add(bytes.toByteArray());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void writeArgumentTypes(DataOutputStream out) throws IOException {
+      List<String> types = new ArrayList<>();
+      types.add("L" + name + ";");
+      int i = 1;
+      while (descriptor.charAt(i) != ')') {
+        int start = i;
+        while (descriptor.charAt(i) == '[') {
+          i++;
+        }
+        i = descriptor.charAt(i) == 'L' ? descriptor.indexOf(';', i) + 1 : i + 1;
+        types.add(descriptor.substring(start, i));
+      }
+      out.writeShort(types.size());
+      for (String type : types) {
+        switch (type.charAt(0)) {
+          case 'J':
+            out.writeByte(ITEM_LONG);
+            break;
+          case 'F':
+            out.writeByte(ITEM_FLOAT);
+            break;
+          case 'D':
+            out.writeByte(ITEM_DOUBLE);
+            break;
+          case 'L':
+            out.writeByte(ITEM_OBJECT);
+            out.writeShort(classRef(type.substring(1, type.length() - 1)));
+            break;
+          case '[':
+            out.writeByte(ITEM_OBJECT);
+            out.writeShort(classRef(type));
+            break;
+          default:
+            out.writeByte(ITEM_INTEGER);
+        }
+      }
+    }
+
+    private CodeWriter write(InstructionWriter writer) {
+      try {
+        writer.write();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return this;
+    }
+  }
+
+  @FunctionalInterface
+  private interface InstructionWriter {
+
+    void write() throws IOException;
+  }
+
+  private static int argumentSlots(String descriptor) {
+    int slots = 0;
+    int i = 1;
+    while (descriptor.charAt(i) != ')') {
+      char c = descriptor.charAt(i);
+      if (c == 'J' || c == 'D') {
+        slots += 2;
+        i++;
+        continue;
+      }
+      while (descriptor.charAt(i) == '[') {
+        i++;
+      }
+      if (descriptor.charAt(i) == 'L') {
+        i = descriptor.indexOf(';', i);
+      }
+      slots++;
+      i++;
+    }
+    return slots;
+  }
+}
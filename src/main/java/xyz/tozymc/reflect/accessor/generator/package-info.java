@@ -0,0 +1,6 @@
+/**
+ * Classes for generating accessor classes at runtime.
+ *
+ * @since 1.1
+ */
+package xyz.tozymc.reflect.accessor.generator;
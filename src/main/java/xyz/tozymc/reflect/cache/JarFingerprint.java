@@ -0,0 +1,73 @@
+package xyz.tozymc.reflect.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Fingerprints of jar files.
+ *
+ * <p>The fingerprint of a jar is the CRC-32 of its central directory, which holds the CRC-32 of
+ * every entry, combined with the size of the jar. So it changes with the content of the jar, but
+ * only the end of the jar is read. Files that are not zip archives, and directories, are
+ * fingerprinted by their size and modification time.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class JarFingerprint {
+
+  private static final int END_SIGNATURE = 0x06054b50;
+  private static final int END_LENGTH = 22;
+  private static final int MAX_COMMENT_LENGTH = 0xffff;
+
+  private JarFingerprint() {}
+
+  static long of(Path jar) {
+    try {
+      if (!Files.isRegularFile(jar)) {
+        return Files.getLastModifiedTime(jar).toMillis();
+      }
+      try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+        long size = channel.size();
+        long fingerprint = centralDirectoryCrc(channel, size);
+        if (fingerprint == -1) {
+          fingerprint = Files.getLastModifiedTime(jar).toMillis();
+        }
+        return fingerprint << 32 ^ size;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static long centralDirectoryCrc(FileChannel channel, long size) throws IOException {
+    if (size < END_LENGTH) {
+      return -1;
+    }
+    long tailStart = Math.max(0, size - END_LENGTH - MAX_COMMENT_LENGTH);
+    MappedByteBuffer tail = channel.map(MapMode.READ_ONLY, tailStart, size - tailStart);
+    tail.order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = tail.limit() - END_LENGTH; i >= 0; i--) {
+      if (tail.getInt(i) != END_SIGNATURE) {
+        continue;
+      }
+      long directorySize = tail.getInt(i + 12) & 0xffffffffL;
+      long directoryOffset = tail.getInt(i + 16) & 0xffffffffL;
+      if (directoryOffset + directorySize > size) {
+        return -1;
+      }
+      CRC32 crc = new CRC32();
+      crc.update(channel.map(MapMode.READ_ONLY, directoryOffset, directorySize));
+      return crc.getValue();
+    }
+    return -1;
+  }
+}
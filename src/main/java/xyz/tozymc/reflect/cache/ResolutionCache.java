@@ -0,0 +1,559 @@
+package xyz.tozymc.reflect.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.minecraft.MinecraftVersion;
+import xyz.tozymc.reflect.util.Constructors;
+import xyz.tozymc.reflect.util.Fields;
+import xyz.tozymc.reflect.util.Methods;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * Persistent cache of resolutions, so a restarted server skips the lookups that failed before.
+ *
+ * <p>The cache records, for each member queried by {@code Accessors} and each class name passed to
+ * class resolvers, whether it was found, with the class declaring the members found, and for each
+ * chain of fallback queries the query that resolved it. On the next start, members and classes
+ * known to be missing are not looked up at all, chains start from the query that resolved them,
+ * and members known to be present are looked up directly in their declaring class instead of
+ * indexing every member of their class.
+ *
+ * <p>Only the classes of the server jar are recorded, and the cache is keyed by {@link
+ * MinecraftVersion#getVersion()} and a fingerprint of the server jar. A cache file written for
+ * another version or jar is ignored and overwritten on the next {@link #save()}.
+ *
+ * <p>The file is a binary hash table, memory-mapped when opened, so lookups read it in place and
+ * opening it does not parse the entries. The cache is optional, it is used once {@link
+ * #open(Path)} makes it the active cache, typically when the plugin is enabled:
+ *
+ * <pre>{@code
+ * ResolutionCache cache = ResolutionCache.open(dataFolder.resolve("resolutions.bin"));
+ * // Resolve classes and members
+ * cache.close(); // Saves the new resolutions
+ * }</pre>
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class ResolutionCache implements Closeable {
+
+  private static final int MAGIC = 0x54524331; // TRC1
+  private static final int FORMAT_VERSION = 2;
+  private static final int MIN_SLOTS = 16;
+
+  private static final byte MISSING = 0;
+  private static final byte FOUND = 1;
+  private static final byte FALLBACK = 2;
+
+  private static volatile ResolutionCache active;
+
+  private final Path file;
+  private final String version;
+  private final Path jar;
+  private final long fingerprint;
+  private final ByteBuffer table;
+  private final int slotsStart;
+  private final int slotCount;
+  private final Map<String, Entry> recorded = new ConcurrentHashMap<>();
+  private final ClassValue<Boolean> inJar = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return jar.equals(location(type));
+    }
+  };
+
+  private ResolutionCache(Path file, String version, Path jar, long fingerprint,
+      ByteBuffer table) {
+    this.file = file;
+    this.version = version;
+    this.jar = jar;
+    this.fingerprint = fingerprint;
+    int slotsStart = 0;
+    int slotCount = 0;
+    if (table != null) {
+      slotsStart = table.position() + 8;
+      slotCount = table.getInt(table.position());
+    }
+    this.table = table;
+    this.slotsStart = slotsStart;
+    this.slotCount = slotCount;
+  }
+
+  /**
+   * Opens the cache file of the running server and makes it the active cache.
+   *
+   * @param file The cache file, it does not need to exist.
+   * @return The active cache.
+   * @throws UncheckedIOException If the cache file or the server jar cannot be read.
+   * @see #open(Path, MinecraftVersion, Path)
+   */
+  public static @NotNull ResolutionCache open(@NotNull Path file) {
+    Path jar = location(Bukkit.getServer().getClass());
+    Preconditions.checkNotNull(jar, "Cannot locate the server jar");
+
+    return open(file, MinecraftVersion.getVersion(), jar);
+  }
+
+  /**
+   * Opens the cache file and makes it the active cache.
+   *
+   * <p>The resolutions stored in the file are only used if it was written for the same version
+   * and for the same content of the jar.
+   *
+   * @param file    The cache file, it does not need to exist.
+   * @param version The Minecraft version of the server.
+   * @param jar     The server jar, only resolutions of its classes are recorded.
+   * @return The active cache.
+   * @throws UncheckedIOException If the cache file or the server jar cannot be read.
+   */
+  public static @NotNull ResolutionCache open(@NotNull Path file,
+      @NotNull MinecraftVersion version, @NotNull Path jar) {
+    Preconditions.checkNotNull(file, "File cannot be null");
+    Preconditions.checkNotNull(version, "Version cannot be null");
+    Preconditions.checkNotNull(jar, "Jar cannot be null");
+
+    return open(file, version.name(), jar);
+  }
+
+  static @NotNull ResolutionCache open(Path file, String version, Path jar) {
+    Path jarPath = jar.toAbsolutePath().normalize();
+    long fingerprint = JarFingerprint.of(jarPath);
+    ByteBuffer table = map(file, version, fingerprint);
+    ResolutionCache cache = new ResolutionCache(file, version, jarPath, fingerprint, table);
+    active = cache;
+    return cache;
+  }
+
+  /**
+   * Gets the active cache.
+   *
+   * @return The active cache, or {@code null} if no cache is open.
+   */
+  @Contract(pure = true)
+  public static @Nullable ResolutionCache active() {
+    return active;
+  }
+
+  /**
+   * Finds the declared or inherited field, skipping the lookup if the field is known to be
+   * missing.
+   *
+   * @param clazz Class declaring or inheriting the field.
+   * @param name  Name of the field.
+   * @return The field found, or {@code null} if the field is missing.
+   * @see Fields#getField(Class, String)
+   */
+  public @Nullable Field field(@NotNull Class<?> clazz, @NotNull String name) {
+    String key = "F" + clazz.getName() + '#' + name;
+    Entry entry = lookup(key);
+    if (entry != null && entry.outcome == MISSING) {
+      return null;
+    }
+    Class<?> declaringClass = entry != null ? supertype(clazz, entry.value) : null;
+    if (declaringClass != null) {
+      try {
+        return declaringClass.getDeclaredField(name);
+      } catch (NoSuchFieldException ignored) {
+        // Fall back to the index below
+      }
+    }
+    return record(clazz, key, Fields.getField(clazz, name));
+  }
+
+  /**
+   * Finds the declared or inherited method, skipping the lookup if the method is known to be
+   * missing.
+   *
+   * @param clazz      Class declaring or inheriting the method.
+   * @param name       Name of the method.
+   * @param paramTypes Types of method parameter.
+   * @return The method found, or {@code null} if the method is missing.
+   * @see Methods#getMethod(Class, String, Class[])
+   */
+  public @Nullable Method method(@NotNull Class<?> clazz, @NotNull String name,
+      Class<?> @NotNull [] paramTypes) {
+    String key = executableKey('M', clazz, name, paramTypes);
+    Entry entry = lookup(key);
+    if (entry != null && entry.outcome == MISSING) {
+      return null;
+    }
+    Class<?> declaringClass = entry != null ? supertype(clazz, entry.value) : null;
+    if (declaringClass != null) {
+      try {
+        return declaringClass.getDeclaredMethod(name, paramTypes);
+      } catch (NoSuchMethodException ignored) {
+        // Fall back to the index below
+      }
+    }
+    return record(clazz, key, Methods.getMethod(clazz, name, paramTypes));
+  }
+
+  /**
+   * Finds the declared constructor, skipping the lookup if the constructor is known to be missing.
+   *
+   * @param clazz      Class declaring the constructor.
+   * @param paramTypes Types of constructor parameter.
+   * @return The constructor found, or {@code null} if the constructor is missing.
+   * @see Constructors#getConstructor(Class, Class[])
+   */
+  public @Nullable Constructor<?> constructor(@NotNull Class<?> clazz,
+      Class<?> @NotNull [] paramTypes) {
+    String key = executableKey('K', clazz, "", paramTypes);
+    Entry entry = lookup(key);
+    if (entry != null && entry.outcome == MISSING) {
+      return null;
+    }
+    if (entry != null) {
+      try {
+        return clazz.getDeclaredConstructor(paramTypes);
+      } catch (NoSuchMethodException ignored) {
+        // Fall back to the index below
+      }
+    }
+    return record(clazz, key, Constructors.getConstructor(clazz, paramTypes));
+  }
+
+  /**
+   * Checks if the class is known to be missing.
+   *
+   * @param qualifiedName Qualified name of the class.
+   * @return True if the class was not found when the cache was written.
+   */
+  public boolean isMissingClass(@NotNull String qualifiedName) {
+    Entry entry = lookup("C" + qualifiedName);
+    return entry != null && entry.outcome == MISSING;
+  }
+
+  /**
+   * Records that the class was not found, if it would be in a package of the server jar.
+   *
+   * @param qualifiedName Qualified name of the class.
+   */
+  public void recordMissingClass(@NotNull String qualifiedName) {
+    if (qualifiedName.startsWith(MinecraftVersion.NET_MINECRAFT_PACKAGE + '.')
+        || qualifiedName.startsWith(MinecraftVersion.OCB_PACKAGE_PREFIX)) {
+      recorded.put("C" + qualifiedName, new Entry(MISSING, ""));
+    }
+  }
+
+  /**
+   * Gets the index of the query that resolved a chain of fallback queries when the cache was
+   * written.
+   *
+   * @param chain Key of the chain, identifying its queries in order.
+   * @return The index of the query, or {@code -1} if it is not known.
+   */
+  public int fallbackIndex(@NotNull String chain) {
+    Entry entry = lookup("G" + chain);
+    if (entry == null || entry.outcome != FALLBACK) {
+      return -1;
+    }
+    try {
+      return Integer.parseInt(entry.value);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Records the index of the query that resolved a chain of fallback queries, if the class of
+   * the query is in the server jar.
+   *
+   * @param clazz Class of the query that resolved the chain.
+   * @param chain Key of the chain, identifying its queries in order.
+   * @param index Index of the query.
+   */
+  public void recordFallbackIndex(@NotNull Class<?> clazz, @NotNull String chain, int index) {
+    if (inJar.get(clazz)) {
+      recorded.put("G" + chain, new Entry(FALLBACK, Integer.toString(index)));
+    }
+  }
+
+  /**
+   * Writes the stored and the recorded resolutions to the cache file.
+   *
+   * <p>The file is written to a temporary file first and then moved, so a failed save does not
+   * corrupt the cache. On Windows, the file mapped by {@link #open(Path)} cannot be replaced
+   * until the mapping is garbage collected, so saving may fail there.
+   *
+   * @throws UncheckedIOException If the cache file cannot be written.
+   */
+  public void save() {
+    Map<String, Entry> entries = new HashMap<>();
+    readEntries(entries);
+    entries.putAll(recorded);
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      Files.write(temp, write(entries));
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Saves the cache, and stops using it if it is the active cache.
+   *
+   * @throws UncheckedIOException If the cache file cannot be written.
+   */
+  @Override
+  public void close() {
+    try {
+      save();
+    } finally {
+      if (active == this) {
+        active = null;
+      }
+    }
+  }
+
+  private <M extends Member> M record(Class<?> clazz, String key, M member) {
+    if (inJar.get(clazz)) {
+      recorded.put(key, member == null ? new Entry(MISSING, "")
+          : new Entry(FOUND, member.getDeclaringClass().getName()));
+    }
+    return member;
+  }
+
+  private @Nullable Entry lookup(String key) {
+    if (table == null) {
+      return null;
+    }
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    int hash = key.hashCode();
+    try {
+      int i = slot(hash, slotCount);
+      for (int probes = 0; probes < slotCount; probes++, i = (i + 1) & (slotCount - 1)) {
+        int offset = table.getInt(slotsStart + i * 4);
+        if (offset == 0) {
+          return null;
+        }
+        if (table.getInt(offset) == hash
+            && keyEquals(offset + 7, table.getShort(offset + 5) & 0xffff, keyBytes)) {
+          return readEntry(offset, keyBytes.length);
+        }
+      }
+      return null;
+    } catch (IndexOutOfBoundsException e) {
+      // Truncated file, ignore it
+      return null;
+    }
+  }
+
+  private boolean keyEquals(int offset, int length, byte[] keyBytes) {
+    if (length != keyBytes.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (table.get(offset + i) != keyBytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Entry readEntry(int offset, int keyLength) {
+    int valueOffset = offset + 7 + keyLength;
+    return new Entry(table.get(offset + 4), readString(valueOffset + 2,
+        table.getShort(valueOffset) & 0xffff));
+  }
+
+  private String readString(int offset, int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = table.get(offset + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private void readEntries(Map<String, Entry> entries) {
+    if (table == null) {
+      return;
+    }
+    try {
+      for (int i = 0; i < slotCount; i++) {
+        int offset = table.getInt(slotsStart + i * 4);
+        if (offset != 0) {
+          int keyLength = table.getShort(offset + 5) & 0xffff;
+          entries.put(readString(offset + 7, keyLength), readEntry(offset, keyLength));
+        }
+      }
+    } catch (IndexOutOfBoundsException e) {
+      // Truncated file, keep the entries read
+    }
+  }
+
+  private byte[] write(Map<String, Entry> entries) throws IOException {
+    int slotCount = MIN_SLOTS;
+    while (slotCount < entries.size() * 2) {
+      slotCount <<= 1;
+    }
+    byte[] versionBytes = version.getBytes(StandardCharsets.UTF_8);
+    int tableStart = 4 + 4 + 8 + 2 + versionBytes.length;
+    int[] slots = new int[slotCount];
+
+    ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+    DataOutputStream entryOut = new DataOutputStream(entryBytes);
+    int entriesStart = tableStart + 8 + slotCount * 4;
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      byte[] keyBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      byte[] valueBytes = entry.getValue().value.getBytes(StandardCharsets.UTF_8);
+      if (keyBytes.length > 0xffff || valueBytes.length > 0xffff) {
+        continue;
+      }
+      int hash = entry.getKey().hashCode();
+      int i = slot(hash, slotCount);
+      while (slots[i] != 0) {
+        i = (i + 1) & (slotCount - 1);
+      }
+      slots[i] = entriesStart + entryOut.size();
+      entryOut.writeInt(hash);
+      entryOut.writeByte(entry.getValue().outcome);
+      entryOut.writeShort(keyBytes.length);
+      entryOut.write(keyBytes);
+      entryOut.writeShort(valueBytes.length);
+      entryOut.write(valueBytes);
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(entriesStart + entryOut.size());
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    out.writeLong(fingerprint);
+    out.writeShort(versionBytes.length);
+    out.write(versionBytes);
+    out.writeInt(slotCount);
+    out.writeInt(entries.size());
+    for (int slot : slots) {
+      out.writeInt(slot);
+    }
+    entryBytes.writeTo(out);
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private static @Nullable ByteBuffer map(Path file, String version, long fingerprint) {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    try {
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+          || buffer.getLong() != fingerprint) {
+        return null;
+      }
+      byte[] versionBytes = new byte[buffer.getShort() & 0xffff];
+      buffer.get(versionBytes);
+      if (!version.equals(new String(versionBytes, StandardCharsets.UTF_8))) {
+        return null;
+      }
+      int slotCount = buffer.getInt(buffer.position());
+      if (slotCount < MIN_SLOTS || Integer.bitCount(slotCount) != 1) {
+        return null;
+      }
+      return buffer;
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      return null;
+    }
+  }
+
+  private static int slot(int hash, int slotCount) {
+    return (hash ^ hash >>> 16) & (slotCount - 1);
+  }
+
+  /**
+   * Finds the class or one of its supertypes by name, so members are looked up in the class that
+   * declares them without loading a class.
+   */
+  private static @Nullable Class<?> supertype(Class<?> clazz, String name) {
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+      if (type.getName().equals(name)) {
+        return type;
+      }
+      for (Class<?> anInterface : type.getInterfaces()) {
+        Class<?> found = supertype(anInterface, name);
+        if (found != null) {
+          return found;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static String executableKey(char kind, Class<?> clazz, String name,
+      Class<?>[] paramTypes) {
+    StringBuilder key = new StringBuilder().append(kind).append(clazz.getName()).append('#')
+        .append(name).append('(');
+    for (int i = 0; i < paramTypes.length; i++) {
+      if (i > 0) {
+        key.append(',');
+      }
+      key.append(paramTypes[i].getName());
+    }
+    return key.append(')').toString();
+  }
+
+  private static @Nullable Path location(Class<?> clazz) {
+    CodeSource source = clazz.getProtectionDomain().getCodeSource();
+    URL location = source == null ? null : source.getLocation();
+    if (location == null) {
+      return null;
+    }
+    try {
+      return Paths.get(location.toURI()).toAbsolutePath().normalize();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * The outcome of a resolution, with the declaring class of a member found or the index of the
+   * query that resolved a chain.
+   */
+  private static final class Entry {
+
+    private final byte outcome;
+    private final String value;
+
+    private Entry(byte outcome, String value) {
+      this.outcome = outcome;
+      this.value = value;
+    }
+  }
+}
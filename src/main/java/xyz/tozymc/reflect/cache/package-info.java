@@ -0,0 +1,6 @@
+/**
+ * Classes for the persistent cache of resolutions across server restarts.
+ *
+ * @since 1.1
+ */
+package xyz.tozymc.reflect.cache;
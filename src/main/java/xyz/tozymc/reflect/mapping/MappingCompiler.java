@@ -0,0 +1,302 @@
+package xyz.tozymc.reflect.mapping;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiler of mapping files to the binary index read by {@link MappingIndex}.
+ *
+ * <p>ProGuard files map Mojang names to obfuscated names, and CSRG files map obfuscated names to
+ * Spigot names. The names of the running server are the Spigot names where a CSRG file has one,
+ * and the obfuscated names otherwise. Member lines of CSRG files use the Spigot names of their
+ * classes, as in the member mappings of Spigot.
+ *
+ * <p>The parsed files are only held in memory while compiling.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class MappingCompiler {
+
+  private static final String ARROW = " -> ";
+
+  private final Map<String, String> classes = new HashMap<>();
+  private final List<String[]> members = new ArrayList<>();
+  private final Map<String, String> spigotClasses = new HashMap<>();
+  private final Map<String, String> spigotMembers = new HashMap<>();
+
+  private MappingCompiler() {}
+
+  static void compile(Path index, long fingerprint, Path[] mappings) {
+    MappingCompiler compiler = new MappingCompiler();
+    try {
+      for (Path mapping : mappings) {
+        compiler.parse(mapping);
+      }
+      write(index, fingerprint, compiler.entries());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void parse(Path mapping) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(mapping, StandardCharsets.UTF_8)) {
+      Boolean proGuard = null;
+      String owner = null;
+      int lineNumber = 0;
+      for (String line; (line = reader.readLine()) != null; ) {
+        lineNumber++;
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+          continue;
+        }
+        if (proGuard == null) {
+          proGuard = trimmed.contains(ARROW);
+        }
+        try {
+          if (!proGuard) {
+            parseCsrg(trimmed);
+          } else if (Character.isWhitespace(line.charAt(0))) {
+            parseProGuardMember(owner, trimmed);
+          } else {
+            owner = parseProGuardClass(trimmed);
+          }
+        } catch (IndexOutOfBoundsException | IllegalStateException e) {
+          throw new IOException("Malformed mapping at " + mapping + ':' + lineNumber, e);
+        }
+      }
+    }
+  }
+
+  private String parseProGuardClass(String line) {
+    int arrow = line.indexOf(ARROW);
+    String name = line.substring(0, arrow);
+    String obfuscated = line.substring(arrow + ARROW.length(), line.lastIndexOf(':'));
+    classes.put(name, obfuscated);
+    return name;
+  }
+
+  private void parseProGuardMember(String owner, String line) {
+    if (owner == null) {
+      throw new IllegalStateException("Member without class");
+    }
+    int arrow = line.indexOf(ARROW);
+    String obfuscated = line.substring(arrow + ARROW.length());
+    String signature = line.substring(0, arrow);
+    // Line numbers of methods: "1:5:void tick() -> a" or "void tick():10:12 -> a"
+    while (Character.isDigit(signature.charAt(0))) {
+      signature = signature.substring(signature.indexOf(':') + 1);
+    }
+    int open = signature.indexOf('(');
+    int space = signature.indexOf(' ');
+    if (open < 0) {
+      members.add(new String[]{owner, signature.substring(space + 1), obfuscated});
+      return;
+    }
+    String name = signature.substring(space + 1, open);
+    if (name.startsWith("<")) {
+      return;
+    }
+    String params = signature.substring(open + 1, signature.indexOf(')', open));
+    members.add(new String[]{owner, name, obfuscated, params});
+  }
+
+  private void parseCsrg(String line) {
+    String[] parts = line.split("\\s+");
+    switch (parts.length) {
+      case 2:
+        spigotClasses.put(parts[0].replace('/', '.'), parts[1].replace('/', '.'));
+        break;
+      case 3:
+        spigotMembers.put(parts[0].replace('/', '.') + ' ' + parts[1], parts[2]);
+        break;
+      case 4:
+        String params = parts[2].substring(0, parts[2].indexOf(')') + 1);
+        spigotMembers.put(parts[0].replace('/', '.') + ' ' + parts[1] + ' ' + params, parts[3]);
+        break;
+      default:
+        throw new IllegalStateException("Unknown CSRG line");
+    }
+  }
+
+  private Map<String, String> entries() {
+    Map<String, String> entries = new LinkedHashMap<>();
+    for (String name : classes.keySet()) {
+      String runtimeName = runtimeClass(name);
+      if (!runtimeName.equals(name)) {
+        entries.put("C" + name, runtimeName);
+      }
+    }
+    StringBuilder key = new StringBuilder();
+    StringBuilder descriptor = new StringBuilder();
+    for (String[] member : members) {
+      String owner = runtimeClass(member[0]);
+      String runtimeName;
+      key.setLength(0);
+      if (member.length == 3) {
+        key.append('F').append(owner).append('#').append(member[1]);
+        runtimeName = spigotMembers.getOrDefault(owner + ' ' + member[2], member[2]);
+      } else {
+        key.append('M').append(owner).append('#').append(member[1]).append('(');
+        descriptor.setLength(0);
+        descriptor.append(owner).append(' ').append(member[2]).append(" (");
+        String[] params = member[3].isEmpty() ? new String[0] : member[3].split(",");
+        for (int i = 0; i < params.length; i++) {
+          if (i > 0) {
+            key.append(',');
+          }
+          appendType(key, descriptor, params[i].trim());
+        }
+        key.append(')');
+        runtimeName = spigotMembers.getOrDefault(descriptor.append(')').toString(), member[2]);
+      }
+      if (!runtimeName.equals(member[1])) {
+        entries.put(key.toString(), runtimeName);
+      }
+    }
+    return entries;
+  }
+
+  private String runtimeClass(String name) {
+    String obfuscated = classes.get(name);
+    if (obfuscated == null) {
+      return name;
+    }
+    return spigotClasses.getOrDefault(obfuscated, obfuscated);
+  }
+
+  /**
+   * Appends the runtime type to the key, in the form of {@link Class#getName()}, and to the
+   * descriptor, in the form of the JVM.
+   */
+  private void appendType(StringBuilder key, StringBuilder descriptor, String type) {
+    int dimensions = 0;
+    while (type.endsWith("[]")) {
+      type = type.substring(0, type.length() - 2);
+      dimensions++;
+    }
+    for (int i = 0; i < dimensions; i++) {
+      key.append('[');
+      descriptor.append('[');
+    }
+    char primitive = primitiveDescriptor(type);
+    if (primitive != 0) {
+      if (dimensions > 0) {
+        key.append(primitive);
+      } else {
+        key.append(type);
+      }
+      descriptor.append(primitive);
+      return;
+    }
+    String runtimeType = runtimeClass(type);
+    if (dimensions > 0) {
+      key.append('L').append(runtimeType).append(';');
+    } else {
+      key.append(runtimeType);
+    }
+    descriptor.append('L').append(runtimeType.replace('.', '/')).append(';');
+  }
+
+  private static char primitiveDescriptor(String type) {
+    switch (type) {
+      case "boolean":
+        return 'Z';
+      case "byte":
+        return 'B';
+      case "char":
+        return 'C';
+      case "short":
+        return 'S';
+      case "int":
+        return 'I';
+      case "long":
+        return 'J';
+      case "float":
+        return 'F';
+      case "double":
+        return 'D';
+      case "void":
+        return 'V';
+      default:
+        return 0;
+    }
+  }
+
+  private static void write(Path index, long fingerprint, Map<String, String> entries)
+      throws IOException {
+    int slotCount = MappingIndex.MIN_SLOTS;
+    while (slotCount < entries.size() * 2) {
+      slotCount <<= 1;
+    }
+    int[] slots = new int[slotCount];
+    int slotsStart = MappingIndex.HEADER_LENGTH;
+    int entriesStart = slotsStart + slotCount * 4;
+
+    Path parent = index.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = Files.createTempFile(parent, index.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.write(new byte[entriesStart]);
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+          byte[] keyBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+          byte[] valueBytes = entry.getValue().getBytes(StandardCharsets.UTF_8);
+          if (keyBytes.length > 0xffff || valueBytes.length > 0xffff) {
+            continue;
+          }
+          int hash = entry.getKey().hashCode();
+          int i = MappingIndex.slot(hash, slotCount);
+          while (slots[i] != 0) {
+            i = (i + 1) & (slotCount - 1);
+          }
+          slots[i] = out.size();
+          out.writeInt(hash);
+          out.writeShort(keyBytes.length);
+          out.write(keyBytes);
+          out.writeShort(valueBytes.length);
+          out.write(valueBytes);
+        }
+      }
+
+      ByteBuffer header = ByteBuffer.allocate(entriesStart);
+      header.putInt(MappingIndex.MAGIC);
+      header.putInt(MappingIndex.FORMAT_VERSION);
+      header.putLong(fingerprint);
+      header.putInt(slotCount);
+      header.putInt(entries.size());
+      for (int slot : slots) {
+        header.putInt(slot);
+      }
+      // Called on Buffer, ByteBuffer#flip() is missing on Java 8 if built by a newer JDK.
+      ((Buffer) header).flip();
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        while (header.hasRemaining()) {
+          channel.write(header, header.position());
+        }
+      }
+      Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package xyz.tozymc.reflect.mapping;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * Index of obfuscation mappings, translating Mojang names of classes and members to the names of
+ * the running server.
+ *
+ * <p>From 1.17, queries can be written against Mojang-mapped names. While an index is the active
+ * index, class resolvers translate class names through it, and {@code Accessors} translate the
+ * names of fields and methods of queries, so the same queries work on the obfuscated server.
+ *
+ * <p>Mapping files in the ProGuard format of Mojang and in the CSRG format of Spigot are compiled
+ * once to a binary hash table, which is memory-mapped when opened. So the mappings are read in
+ * place, off the heap, and opening the index does not parse them again. The index is compiled
+ * again when a mapping file changes:
+ *
+ * <pre>{@code
+ * MappingIndex index = MappingIndex.open(dataFolder.resolve("mappings.bin"),
+ *     dataFolder.resolve("server.txt"), dataFolder.resolve("bukkit-cl.csrg"),
+ *     dataFolder.resolve("bukkit-members.csrg"));
+ * }</pre>
+ *
+ * <p>Fields and methods are translated by the runtime class declaring them, or the nearest
+ * supertype mapping them, methods by their runtime parameter types as well. Supertypes are searched
+ * in the order the JVM resolves members: fields in the superinterfaces of a class before its
+ * superclass, methods in the superclasses before the superinterfaces. Names that are not in the
+ * mappings are not translated.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class MappingIndex implements Closeable {
+
+  static final int MAGIC = 0x54524D31; // TRM1
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_LENGTH = 4 + 4 + 8 + 4 + 4;
+  static final int MIN_SLOTS = 16;
+
+  private static volatile MappingIndex active;
+
+  private final ByteBuffer table;
+  private final int slotCount;
+
+  private MappingIndex(ByteBuffer table) {
+    this.table = table;
+    this.slotCount = table.getInt(16);
+  }
+
+  /**
+   * Opens the index and makes it the active index, compiling it first if needed.
+   *
+   * <p>The index is compiled from the mapping files if it does not exist, or if it was compiled
+   * from other files or from files modified since. Without mapping files, the index must exist
+   * and is used as it is, for example an index compiled when the plugin was built.
+   *
+   * @param index    The index file.
+   * @param mappings ProGuard and CSRG mapping files, in any order.
+   * @return The active index.
+   * @throws UncheckedIOException If a file cannot be read or written, or a mapping is malformed.
+   * @see #compile(Path, Path...)
+   */
+  public static @NotNull MappingIndex open(@NotNull Path index, Path @NotNull ... mappings) {
+    Preconditions.checkNotNull(index, "Index cannot be null");
+    Preconditions.checkNotNull(mappings, "Mappings cannot be null");
+
+    Long fingerprint = mappings.length == 0 ? null : fingerprint(mappings);
+    ByteBuffer table = map(index, fingerprint);
+    if (table == null) {
+      if (fingerprint == null) {
+        throw new UncheckedIOException(new IOException("Invalid mapping index " + index));
+      }
+      MappingCompiler.compile(index, fingerprint, mappings);
+      table = map(index, fingerprint);
+      if (table == null) {
+        throw new UncheckedIOException(new IOException("Cannot compile mapping index " + index));
+      }
+    }
+    MappingIndex mappingIndex = new MappingIndex(table);
+    active = mappingIndex;
+    return mappingIndex;
+  }
+
+  /**
+   * Compiles the mapping files to the index file.
+   *
+   * @param index    The index file, replaced if it exists.
+   * @param mappings ProGuard and CSRG mapping files, in any order.
+   * @throws UncheckedIOException If a file cannot be read or written, or a mapping is malformed.
+   */
+  public static void compile(@NotNull Path index, Path @NotNull ... mappings) {
+    Preconditions.checkNotNull(index, "Index cannot be null");
+    Preconditions.checkNotNull(mappings, "Mappings cannot be null");
+    Preconditions.checkArgument(mappings.length > 0, "Mappings cannot be empty");
+
+    MappingCompiler.compile(index, fingerprint(mappings), mappings);
+  }
+
+  /**
+   * Gets the active index.
+   *
+   * @return The active index, or {@code null} if no index is open.
+   */
+  @Contract(pure = true)
+  public static @Nullable MappingIndex active() {
+    return active;
+  }
+
+  /**
+   * Translates the Mojang name of the class.
+   *
+   * @param qualifiedName Qualified Mojang name of the class.
+   * @return The qualified runtime name of the class, or the name if it is not mapped.
+   */
+  public @NotNull String mapClass(@NotNull String qualifiedName) {
+    String runtimeName = lookup("C" + qualifiedName);
+    return runtimeName != null ? runtimeName : qualifiedName;
+  }
+
+  /**
+   * Translates the Mojang name of the field.
+   *
+   * @param clazz Runtime class declaring or inheriting the field.
+   * @param name  Mojang name of the field.
+   * @return The runtime name of the field, or the name if it is not mapped.
+   */
+  public @NotNull String mapField(@NotNull Class<?> clazz, @NotNull String name) {
+    String runtimeName = lookupField(clazz, '#' + name);
+    return runtimeName != null ? runtimeName : name;
+  }
+
+  /**
+   * Translates the Mojang name of the method.
+   *
+   * @param clazz      Runtime class declaring or inheriting the method.
+   * @param name       Mojang name of the method.
+   * @param paramTypes Types of method parameter.
+   * @return The runtime name of the method, or the name if it is not mapped.
+   */
+  public @NotNull String mapMethod(@NotNull Class<?> clazz, @NotNull String name,
+      Class<?> @NotNull [] paramTypes) {
+    StringBuilder signature = new StringBuilder().append('#').append(name).append('(');
+    for (int i = 0; i < paramTypes.length; i++) {
+      if (i > 0) {
+        signature.append(',');
+      }
+      signature.append(paramTypes[i].getName());
+    }
+    signature.append(')');
+    String runtimeName = lookupMethod(clazz, signature.toString());
+    return runtimeName != null ? runtimeName : name;
+  }
+
+  /**
+   * Stops using the index if it is the active index.
+   */
+  @Override
+  public void close() {
+    if (active == this) {
+      active = null;
+    }
+  }
+
+  private @Nullable String lookupField(Class<?> clazz, String member) {
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+      String runtimeName = lookup("F" + type.getName() + member);
+      if (runtimeName != null) {
+        return runtimeName;
+      }
+      for (Class<?> anInterface : type.getInterfaces()) {
+        runtimeName = lookupField(anInterface, member);
+        if (runtimeName != null) {
+          return runtimeName;
+        }
+      }
+    }
+    return null;
+  }
+
+  private @Nullable String lookupMethod(Class<?> clazz, String member) {
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+      String runtimeName = lookup("M" + type.getName() + member);
+      if (runtimeName != null) {
+        return runtimeName;
+      }
+    }
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+      for (Class<?> anInterface : type.getInterfaces()) {
+        String runtimeName = lookupMethod(anInterface, member);
+        if (runtimeName != null) {
+          return runtimeName;
+        }
+      }
+    }
+    return null;
+  }
+
+  private @Nullable String lookup(String key) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    int hash = key.hashCode();
+    try {
+      int i = slot(hash, slotCount);
+      for (int probes = 0; probes < slotCount; probes++, i = (i + 1) & (slotCount - 1)) {
+        int offset = table.getInt(HEADER_LENGTH + i * 4);
+        if (offset == 0) {
+          return null;
+        }
+        int keyLength = table.getShort(offset + 4) & 0xffff;
+        if (table.getInt(offset) == hash && keyEquals(offset + 6, keyLength, keyBytes)) {
+          return readString(offset + 6 + keyLength);
+        }
+      }
+      return null;
+    } catch (IndexOutOfBoundsException e) {
+      // Truncated file, ignore it
+      return null;
+    }
+  }
+
+  private boolean keyEquals(int offset, int length, byte[] keyBytes) {
+    if (length != keyBytes.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (table.get(offset + i) != keyBytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String readString(int offset) {
+    byte[] bytes = new byte[table.getShort(offset) & 0xffff];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = table.get(offset + 2 + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static @Nullable ByteBuffer map(Path index, @Nullable Long fingerprint) {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    try {
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+        return null;
+      }
+      long indexFingerprint = buffer.getLong();
+      if (fingerprint != null && indexFingerprint != fingerprint) {
+        return null;
+      }
+      int slotCount = buffer.getInt();
+      if (slotCount < MIN_SLOTS || Integer.bitCount(slotCount) != 1
+          || HEADER_LENGTH + (long) slotCount * 4 > buffer.capacity()) {
+        return null;
+      }
+      return buffer;
+    } catch (BufferUnderflowException e) {
+      return null;
+    }
+  }
+
+  private static long fingerprint(Path[] mappings) {
+    long fingerprint = 1;
+    try {
+      for (Path mapping : mappings) {
+        Preconditions.checkNotNull(mapping, "Mapping cannot be null");
+        fingerprint = 31 * fingerprint + mapping.toAbsolutePath().normalize().toString().hashCode();
+        fingerprint = 31 * fingerprint + Files.size(mapping);
+        fingerprint = 31 * fingerprint + Files.getLastModifiedTime(mapping).toMillis();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return fingerprint;
+  }
+
+  static int slot(int hash, int slotCount) {
+    return (hash ^ hash >>> 16) & (slotCount - 1);
+  }
+}
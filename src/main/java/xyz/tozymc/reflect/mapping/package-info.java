@@ -0,0 +1,6 @@
+/**
+ * Classes for translating Mojang-mapped names to the names used by the running server.
+ *
+ * @since 1.1
+ */
+package xyz.tozymc.reflect.mapping;
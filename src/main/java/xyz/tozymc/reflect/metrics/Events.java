@@ -0,0 +1,102 @@
+package xyz.tozymc.reflect.metrics;
+
+import java.lang.reflect.Member;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.accessor.Accessor;
+import xyz.tozymc.reflect.accessor.Accessor.Query;
+
+/**
+ * Emits JDK Flight Recorder events of resolutions and slow invocations.
+ *
+ * <p>Flight Recorder events need Java 11. This class does nothing, the multi-release jar replaces
+ * it with the implementation that emits the events on Java 11 and later.
+ *
+ * <p>Events are emitted for:
+ *
+ * <ul>
+ *   <li>Resolutions of accessors that are not cached yet, with the query, the backend of the
+ *   accessor and the outcome.</li>
+ *   <li>Resolutions of classes that are not cached yet, with the class name and the outcome.</li>
+ *   <li>Invocations through accessors taking at least {@value #INVOCATION_THRESHOLD_PROPERTY}
+ *   nanoseconds, one millisecond by default, with the member and the backend.</li>
+ * </ul>
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class Events {
+
+  /**
+   * The system property of the minimum duration of invocation events, in nanoseconds.
+   */
+  public static final String INVOCATION_THRESHOLD_PROPERTY = "treflections.jfr.invocationThreshold";
+
+  private Events() {}
+
+  /**
+   * Begins the event of an accessor resolution.
+   *
+   * @return The event, or {@code null} if the event is disabled.
+   */
+  public static @Nullable Object beginAccessorResolution() {
+    return null;
+  }
+
+  /**
+   * Ends and commits the event of an accessor resolution.
+   *
+   * @param event    The event from {@link #beginAccessorResolution()}.
+   * @param query    The query resolved.
+   * @param accessor The accessor resolved, or {@code null} if no member was found.
+   */
+  public static void endAccessorResolution(@Nullable Object event, @NotNull Query query,
+      @Nullable Accessor accessor) {}
+
+  /**
+   * Ends and commits the event of an accessor resolution from fallback queries.
+   *
+   * @param event    The event from {@link #beginAccessorResolution()}.
+   * @param queries  The queries resolved.
+   * @param accessor The accessor resolved, or {@code null} if no member was found.
+   */
+  public static void endAccessorResolution(@Nullable Object event, Query @NotNull [] queries,
+      @Nullable Accessor accessor) {}
+
+  /**
+   * Begins the event of a class resolution.
+   *
+   * @return The event, or {@code null} if the event is disabled.
+   */
+  public static @Nullable Object beginClassResolution() {
+    return null;
+  }
+
+  /**
+   * Ends and commits the event of a class resolution.
+   *
+   * @param event The event from {@link #beginClassResolution()}.
+   * @param name  Qualified name of the class.
+   * @param clazz The class resolved, or {@code null} if the class was not found.
+   */
+  public static void endClassResolution(@Nullable Object event, @NotNull String name,
+      @Nullable Class<?> clazz) {}
+
+  /**
+   * Checks if invocation events are enabled, so invocations must be timed.
+   *
+   * @return True if invocation events are enabled.
+   */
+  public static boolean isInvocationEnabled() {
+    return false;
+  }
+
+  /**
+   * Commits the event of an invocation, if it took at least the threshold.
+   *
+   * @param member   The member invoked.
+   * @param accessor The accessor used.
+   * @param nanos    Duration of the invocation, in nanoseconds.
+   */
+  public static void invocation(@NotNull Member member, @NotNull Accessor accessor, long nanos) {}
+}
@@ -0,0 +1,44 @@
+package xyz.tozymc.reflect.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with power of two buckets.
+ *
+ * <p>Bucket {@code i} counts durations from {@code 2^i} inclusive to {@code 2^(i+1)} exclusive
+ * nanoseconds, bucket {@code 0} also counts zero. The last bucket counts every longer duration.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class Histogram {
+
+  static final int BUCKETS = 40;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+  Histogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  void record(long nanos) {
+    int bucket = 63 - Long.numberOfLeadingZeros(Math.max(nanos, 1));
+    buckets[Math.min(bucket, BUCKETS - 1)].increment();
+  }
+
+  long[] snapshot() {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets[i].sum();
+    }
+    return counts;
+  }
+
+  void reset() {
+    for (LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package xyz.tozymc.reflect.metrics;
+
+import java.lang.reflect.Member;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.reflect.accessor.Accessor;
+
+/**
+ * Counts the invocations of a member through accessors and their total time.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class InvocationCounter {
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+
+  private final Member member;
+
+  InvocationCounter(Member member) {
+    this.member = member;
+  }
+
+  /**
+   * Records an invocation, and emits its event if it is slow.
+   *
+   * @param startTime Start time from {@link Metrics#startTime()}.
+   * @param accessor  The accessor used.
+   * @see Events#invocation(Member, Accessor, long)
+   */
+  public void record(long startTime, @NotNull Accessor accessor) {
+    long nanos = System.nanoTime() - startTime;
+    if (Metrics.isEnabled()) {
+      totalNanos.add(nanos);
+      count.increment();
+    }
+    Events.invocation(member, accessor, nanos);
+  }
+
+  /**
+   * Gets the number of invocations.
+   *
+   * @return The number of invocations.
+   */
+  public long count() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the total time of the invocations.
+   *
+   * @return The total time of the invocations, in nanoseconds.
+   */
+  public long totalNanos() {
+    return totalNanos.sum();
+  }
+
+  Member member() {
+    return member;
+  }
+
+  void reset() {
+    count.reset();
+    totalNanos.reset();
+  }
+}
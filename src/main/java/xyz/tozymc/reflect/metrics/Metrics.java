@@ -0,0 +1,241 @@
+package xyz.tozymc.reflect.metrics;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Member;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * Opt-in metrics of {@code Accessors}, class resolvers and accessor invocations.
+ *
+ * <p>Metrics are enabled by starting the JVM with the system property {@value #ENABLED_PROPERTY}
+ * set to {@code true}. The property is read once, when disabled, recording compiles to nothing.
+ *
+ * <p>On Java 11 and later, resolutions and slow invocations are also emitted as Flight Recorder
+ * {@link Events}, whether metrics are enabled or not.
+ *
+ * <p>Counters and histograms are {@link LongAdder}s, so threads recording at the same time do not
+ * contend. Use {@link #snapshot()} to read them, for example to export them periodically.
+ *
+ * <p>Invocation counters are kept per declaring class, in a {@link ClassValue}, so they do not keep
+ * the class or its class loader from being unloaded. Counters of unloaded classes are dropped.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class Metrics {
+
+  /**
+   * The system property that enables metrics.
+   */
+  public static final String ENABLED_PROPERTY = "treflections.metrics";
+
+  private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static final Map<Counter, LongAdder> counters = new EnumMap<>(Counter.class);
+  private static final Map<Resolution, Histogram> histograms = new EnumMap<>(Resolution.class);
+  private static final ClassValue<Map<Member, InvocationCounter>> invocationCounters =
+      new ClassValue<Map<Member, InvocationCounter>>() {
+        @Override
+        protected Map<Member, InvocationCounter> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+  // Every invocation counter, weakly, to take snapshots of the counters across classes.
+  private static final Set<Reference<InvocationCounter>> allInvocationCounters =
+      ConcurrentHashMap.newKeySet();
+  private static final ReferenceQueue<InvocationCounter> clearedInvocationCounters =
+      new ReferenceQueue<>();
+
+  static {
+    for (Counter counter : Counter.values()) {
+      counters.put(counter, new LongAdder());
+    }
+    for (Resolution resolution : Resolution.values()) {
+      histograms.put(resolution, new Histogram());
+    }
+  }
+
+  private Metrics() {}
+
+  /**
+   * Checks if metrics are enabled.
+   *
+   * @return True if metrics are enabled.
+   * @see #ENABLED_PROPERTY
+   */
+  @Contract(pure = true)
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Increments the counter, if metrics are enabled.
+   *
+   * @param counter The counter to increment.
+   */
+  public static void increment(@NotNull Counter counter) {
+    if (ENABLED) {
+      counters.get(counter).increment();
+    }
+  }
+
+  /**
+   * Gets the start time of a measurement.
+   *
+   * <p>Measurements are also taken while Flight Recorder records invocation {@link Events}.
+   *
+   * @return The current {@link System#nanoTime()}, never {@code 0}, or {@code 0} if nothing is
+   *     measured.
+   */
+  public static long startTime() {
+    // The lowest bit is set, so a start time is never 0.
+    return ENABLED || Events.isInvocationEnabled() ? System.nanoTime() | 1L : 0L;
+  }
+
+  /**
+   * Records the time taken by a resolution into the histogram of its kind.
+   *
+   * @param resolution Kind of the resolution.
+   * @param startTime  Start time from {@link #startTime()}, nothing is recorded if it is {@code 0}.
+   */
+  public static void recordResolution(@NotNull Resolution resolution, long startTime) {
+    if (ENABLED && startTime != 0) {
+      histograms.get(resolution).record(System.nanoTime() - startTime);
+    }
+  }
+
+  /**
+   * Gets the invocation counter of the member.
+   *
+   * <p>Every accessor of the member shares the same counter. Accessors look it up once and keep it.
+   *
+   * @param member The member accessed.
+   * @return The invocation counter of the member.
+   */
+  public static @NotNull InvocationCounter invocationCounter(@NotNull Member member) {
+    Preconditions.checkNotNull(member, "Member cannot be null");
+
+    Map<Member, InvocationCounter> classCounters =
+        invocationCounters.get(member.getDeclaringClass());
+    InvocationCounter counter = classCounters.get(member);
+    if (counter != null) {
+      return counter;
+    }
+    return classCounters.computeIfAbsent(member, Metrics::newInvocationCounter);
+  }
+
+  private static InvocationCounter newInvocationCounter(Member member) {
+    Reference<? extends InvocationCounter> cleared;
+    while ((cleared = clearedInvocationCounters.poll()) != null) {
+      allInvocationCounters.remove(cleared);
+    }
+    InvocationCounter counter = new InvocationCounter(member);
+    allInvocationCounters.add(new WeakReference<>(counter, clearedInvocationCounters));
+    return counter;
+  }
+
+  /**
+   * Takes a snapshot of every counter, histogram and invocation counter.
+   *
+   * <p>Values recorded while the snapshot is taken may or may not be included.
+   *
+   * @return A snapshot of the metrics.
+   */
+  public static @NotNull MetricsSnapshot snapshot() {
+    Map<Counter, Long> counterValues = new EnumMap<>(Counter.class);
+    counters.forEach((counter, adder) -> counterValues.put(counter, adder.sum()));
+    Map<Resolution, long[]> histogramValues = new EnumMap<>(Resolution.class);
+    histograms.forEach((resolution, histogram) -> histogramValues.put(resolution,
+        histogram.snapshot()));
+    Map<Member, MetricsSnapshot.Invocations> invocations = new HashMap<>();
+    for (Reference<InvocationCounter> reference : allInvocationCounters) {
+      InvocationCounter counter = reference.get();
+      if (counter != null) {
+        invocations.put(counter.member(), new MetricsSnapshot.Invocations(counter.count(),
+            counter.totalNanos()));
+      }
+    }
+    return new MetricsSnapshot(counterValues, histogramValues, invocations);
+  }
+
+  /**
+   * Resets every counter, histogram and invocation counter to zero.
+   */
+  public static void reset() {
+    counters.values().forEach(LongAdder::reset);
+    histograms.values().forEach(Histogram::reset);
+    for (Reference<InvocationCounter> reference : allInvocationCounters) {
+      InvocationCounter counter = reference.get();
+      if (counter != null) {
+        counter.reset();
+      }
+    }
+  }
+
+  /**
+   * Counted events.
+   *
+   * @since 1.1
+   */
+  public enum Counter {
+    /**
+     * An accessor was found in the cache.
+     */
+    ACCESSOR_HITS,
+    /**
+     * An accessor was not in the cache and was resolved.
+     */
+    ACCESSOR_MISSES,
+    /**
+     * No member matched the queries of an accessor.
+     */
+    ACCESSOR_FAILURES,
+    /**
+     * A query of a {@code Query[]} was tried after the first one.
+     */
+    ACCESSOR_FALLBACKS,
+    /**
+     * A class, or the fact that it is missing, was found in the cache of a class resolver.
+     */
+    CLASS_HITS,
+    /**
+     * A class was not in the cache of a class resolver and was loaded.
+     */
+    CLASS_MISSES,
+    /**
+     * A class name passed to a class resolver could not be resolved. In a fallback chain, every
+     * name tried counts.
+     */
+    CLASS_FAILURES,
+    /**
+     * A class name was tried after the first one.
+     */
+    CLASS_FALLBACKS
+  }
+
+  /**
+   * Kinds of resolution with a time histogram.
+   *
+   * @since 1.1
+   */
+  public enum Resolution {
+    /**
+     * Finding the member and creating the accessor of a cache miss.
+     */
+    ACCESSOR,
+    /**
+     * Loading a class that was not in the cache of a class resolver.
+     */
+    CLASS
+  }
+}
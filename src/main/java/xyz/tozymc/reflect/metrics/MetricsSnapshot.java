@@ -0,0 +1,110 @@
+package xyz.tozymc.reflect.metrics;
+
+import java.lang.reflect.Member;
+import java.util.Collections;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import xyz.tozymc.reflect.metrics.Metrics.Counter;
+import xyz.tozymc.reflect.metrics.Metrics.Resolution;
+
+/**
+ * Values of the metrics at the time {@link Metrics#snapshot()} was called.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class MetricsSnapshot {
+
+  private final Map<Counter, Long> counters;
+  private final Map<Resolution, long[]> histograms;
+  private final Map<Member, Invocations> invocations;
+
+  MetricsSnapshot(Map<Counter, Long> counters, Map<Resolution, long[]> histograms,
+      Map<Member, Invocations> invocations) {
+    this.counters = counters;
+    this.histograms = histograms;
+    this.invocations = Collections.unmodifiableMap(invocations);
+  }
+
+  /**
+   * Gets the lower bound of the histogram bucket.
+   *
+   * @param bucket Index of the bucket.
+   * @return The shortest duration counted by the bucket, in nanoseconds.
+   * @see #histogram(Resolution)
+   */
+  public static long bucketLowerBound(int bucket) {
+    return bucket == 0 ? 0 : 1L << bucket;
+  }
+
+  /**
+   * Gets the value of the counter.
+   *
+   * @param counter The counter.
+   * @return The value of the counter.
+   */
+  public long count(@NotNull Counter counter) {
+    return counters.get(counter);
+  }
+
+  /**
+   * Gets the time histogram of the resolution kind.
+   *
+   * <p>Bucket {@code i} counts the resolutions taking from {@code 2^i} inclusive to {@code 2^(i+1)}
+   * exclusive nanoseconds. The last bucket counts every longer resolution.
+   *
+   * @param resolution Kind of the resolution.
+   * @return Counts of the histogram buckets.
+   * @see #bucketLowerBound(int)
+   */
+  public long @NotNull [] histogram(@NotNull Resolution resolution) {
+    return histograms.get(resolution).clone();
+  }
+
+  /**
+   * Gets the number of invocations and their total time, by accessed member.
+   *
+   * @return The invocations by member.
+   */
+  public @NotNull Map<Member, Invocations> invocations() {
+    return invocations;
+  }
+
+  @Override
+  public String toString() {
+    return "MetricsSnapshot{counters=" + counters + ", invocations=" + invocations.size() + '}';
+  }
+
+  /**
+   * Invocations of a member.
+   *
+   * @since 1.1
+   */
+  public static final class Invocations {
+
+    private final long count;
+    private final long totalNanos;
+
+    Invocations(long count, long totalNanos) {
+      this.count = count;
+      this.totalNanos = totalNanos;
+    }
+
+    public long count() {
+      return count;
+    }
+
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    public double averageNanos() {
+      return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    @Override
+    public String toString() {
+      return "Invocations{count=" + count + ", totalNanos=" + totalNanos + '}';
+    }
+  }
+}
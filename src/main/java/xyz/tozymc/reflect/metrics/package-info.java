@@ -0,0 +1,6 @@
+/**
+ * Classes for opt-in metrics of accessors and class resolvers.
+ *
+ * @since 1.1
+ */
+package xyz.tozymc.reflect.metrics;
@@ -1,11 +1,27 @@
 package xyz.tozymc.reflect.resolver;
 
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.CLASS_FAILURES;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.CLASS_FALLBACKS;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.CLASS_HITS;
+import static xyz.tozymc.reflect.metrics.Metrics.Counter.CLASS_MISSES;
+
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.BatchResult;
+import xyz.tozymc.reflect.cache.ResolutionCache;
+import xyz.tozymc.reflect.mapping.MappingIndex;
+import xyz.tozymc.reflect.metrics.Events;
+import xyz.tozymc.reflect.metrics.Metrics;
+import xyz.tozymc.reflect.metrics.Metrics.Resolution;
 import xyz.tozymc.reflect.resolver.minecraft.NmsClassResolver;
 import xyz.tozymc.reflect.resolver.minecraft.OcbClassResolver;
 import xyz.tozymc.reflect.resolver.wrapper.ClassWrapper;
@@ -14,6 +30,21 @@ import xyz.tozymc.util.Preconditions;
 /**
  * {@code ClassResolver} provides methods to find class and cache it if the class is found.
  *
+ * <p>Names of classes that are not found are cached too, so resolving them again, for example in
+ * fallback chains of {@link #resolve(String...)}, does not walk the class loader again. At most
+ * {@value #MAX_UNRESOLVED_CLASSES} names are remembered. Both caches are safe to use from multiple
+ * threads and can be invalidated with {@link #invalidate(String)} and {@link #invalidateAll()}.
+ *
+ * <p>If a {@link ResolutionCache} is open, classes of the server packages that were not found on
+ * the previous start are not looked up again.
+ *
+ * <p>If a {@link MappingIndex} is open, qualified names are translated from Mojang names to the
+ * names of the running server before the classes are looked up.
+ *
+ * <p>If {@link Metrics} are enabled, cache hits and misses, unresolved classes and fallback names
+ * are counted, and the time of every class loading is recorded. On Java 11 and later, every class
+ * loading is also emitted as a Flight Recorder event, see {@link Events}.
+ *
  * @author TozyMC
  * @see NmsClassResolver
  * @see OcbClassResolver
@@ -22,7 +53,13 @@ import xyz.tozymc.util.Preconditions;
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class ClassResolver {
 
-  private final Map<String, Class<?>> resolvedClasses = new HashMap<>();
+  /**
+   * The maximum number of class names that are remembered as not found.
+   */
+  public static final int MAX_UNRESOLVED_CLASSES = 1024;
+
+  private final Map<String, Class<?>> resolvedClasses = new ConcurrentHashMap<>();
+  private final Set<String> unresolvedClasses = ConcurrentHashMap.newKeySet();
 
   protected ClassResolver() {}
 
@@ -67,6 +104,9 @@ public class ClassResolver {
   /**
    * Attempts to find and resolve an array of possible names to a class.
    *
+   * <p>Every name is resolved by {@link #resolve(String)}, so subclasses overriding it change the
+   * resolution of fallback chains too.
+   *
    * @param names Class names.
    * @return The first resolved class.
    * @throws RuntimeException If no class is found.
@@ -75,14 +115,13 @@ public class ClassResolver {
   public Class<?> resolve(String @NotNull ... names) {
     Preconditions.checkNotNull(names, "Names cannot be null");
 
-    Class<?> clazz = null;
-    for (String name : names) {
-      try {
-        clazz = resolve(name);
-      } catch (Exception ignored) {
+    for (int i = 0; i < names.length; i++) {
+      if (i > 0) {
+        Metrics.increment(CLASS_FALLBACKS);
       }
-      if (clazz != null) {
-        return clazz;
+      try {
+        return resolve(names[i]);
+      } catch (RuntimeException ignored) {
       }
     }
     throw new RuntimeException("Cannot resolve classes " + Arrays.toString(names));
@@ -91,6 +130,9 @@ public class ClassResolver {
   /**
    * Attempts to find and resolve the class.
    *
+   * <p>A class loaded by {@link #resolveAll(Collection, ForkJoinPool)} is returned from the cache
+   * as it was loaded, not initialized yet.
+   *
    * @param name The class name.
    * @param <T>  The type of class.
    * @return The resolved class if was found.
@@ -100,16 +142,147 @@ public class ClassResolver {
   public <T> Class<T> resolve(@NotNull String name) {
     Preconditions.checkNotNull(name, "Name cannot be null");
 
-    if (resolvedClasses.containsKey(name)) {
-      return (Class<T>) resolvedClasses.get(name);
+    return (Class<T>) resolve(name, true);
+  }
+
+  /**
+   * Resolves every class name in parallel on the common fork-join pool.
+   *
+   * @param names The class names.
+   * @return The classes resolved and the names that are not found.
+   * @see #resolveAll(Collection, ForkJoinPool)
+   */
+  public @NotNull BatchResult<String, Class<?>> resolveAll(@NotNull Collection<String> names) {
+    return resolveAll(names, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Resolves every class name in parallel on the fork-join pool.
+   *
+   * <p>Every name is resolved like {@link #resolve(String)}, and every name is tried even if some
+   * are not found. The classes are loaded but not initialized, because initializing classes whose
+   * static initializers depend on each other from several threads can deadlock.
+   *
+   * <p>The classes are cached uninitialized, so later calls of {@code resolve(String)} return them
+   * uninitialized too. The JVM initializes a class when it is first used, such as by an accessor
+   * of one of its members. Calling {@link Class#forName(String)} with the class name initializes
+   * it eagerly.
+   *
+   * @param names The class names.
+   * @param pool  The pool loading the classes.
+   * @return The classes resolved and the names that are not found.
+   */
+  public @NotNull BatchResult<String, Class<?>> resolveAll(@NotNull Collection<String> names,
+      @NotNull ForkJoinPool pool) {
+    Preconditions.checkNotNull(names, "Names cannot be null");
+
+    return BatchResult.resolve(names, name -> resolve(name, false), pool);
+  }
+
+  /**
+   * Removes the class name from the resolved and the not found caches, so it is looked up again
+   * next time.
+   *
+   * @param name The class name.
+   */
+  public void invalidate(@NotNull String name) {
+    Preconditions.checkNotNull(name, "Name cannot be null");
+
+    String qualifiedName = runtimeName(name);
+    resolvedClasses.remove(qualifiedName);
+    unresolvedClasses.remove(qualifiedName);
+  }
+
+  /**
+   * Clears the resolved and the not found caches.
+   */
+  public void invalidateAll() {
+    resolvedClasses.clear();
+    unresolvedClasses.clear();
+  }
+
+  /**
+   * Converts the name passed to this resolver to the fully qualified class name.
+   *
+   * <p>The default implementation returns the name as it is.
+   *
+   * @param name The class name.
+   * @return The fully qualified class name.
+   */
+  protected @NotNull String qualifyName(@NotNull String name) {
+    return name;
+  }
+
+  /**
+   * Finds the class by the fully qualified name, using and filling the caches.
+   *
+   * @param qualifiedName The fully qualified class name.
+   * @return The class if was found, or {@code null} otherwise.
+   */
+  protected @Nullable Class<?> find(@NotNull String qualifiedName) {
+    return find(qualifiedName, true);
+  }
+
+  private Class<?> resolve(String name, boolean initialize) {
+    String qualifiedName = runtimeName(name);
+    Class<?> clazz = initialize ? find(qualifiedName) : find(qualifiedName, false);
+    if (clazz == null) {
+      Metrics.increment(CLASS_FAILURES);
+      throw new RuntimeException("Cannot resolve class " + qualifiedName);
     }
-    try {
-      Class<T> clazz = (Class<T>) Class.forName(name);
-      resolvedClasses.put(name, clazz);
+    return clazz;
+  }
+
+  private String runtimeName(String name) {
+    String qualifiedName = qualifyName(name);
+    MappingIndex mappings = MappingIndex.active();
+    return mappings != null ? mappings.mapClass(qualifiedName) : qualifiedName;
+  }
+
+  private @Nullable Class<?> find(String qualifiedName, boolean initialize) {
+    Class<?> clazz = resolvedClasses.get(qualifiedName);
+    if (clazz != null) {
+      Metrics.increment(CLASS_HITS);
       return clazz;
+    }
+    if (unresolvedClasses.contains(qualifiedName)) {
+      Metrics.increment(CLASS_HITS);
+      return null;
+    }
+    ResolutionCache cache = ResolutionCache.active();
+    if (cache != null && cache.isMissingClass(qualifiedName)) {
+      Metrics.increment(CLASS_HITS);
+      rememberUnresolved(qualifiedName);
+      return null;
+    }
+    Metrics.increment(CLASS_MISSES);
+    long startTime = Metrics.startTime();
+    Object event = Events.beginClassResolution();
+    try {
+      clazz = Class.forName(qualifiedName, initialize, ClassResolver.class.getClassLoader());
     } catch (ClassNotFoundException e) {
-      throw new RuntimeException("Cannot resolve class " + name);
+      rememberUnresolved(qualifiedName);
+      if (cache != null) {
+        cache.recordMissingClass(qualifiedName);
+      }
+      return null;
+    } finally {
+      Metrics.recordResolution(Resolution.CLASS, startTime);
+      Events.endClassResolution(event, qualifiedName, clazz);
+    }
+    resolvedClasses.put(qualifiedName, clazz);
+    return clazz;
+  }
+
+  private void rememberUnresolved(String qualifiedName) {
+    if (unresolvedClasses.size() >= MAX_UNRESOLVED_CLASSES) {
+      Iterator<String> iterator = unresolvedClasses.iterator();
+      if (iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
     }
+    unresolvedClasses.add(qualifiedName);
   }
 
   private static class ClassResolverHelper {
@@ -35,9 +35,9 @@ public final class NmsClassResolver extends ClassResolver {
   }
 
   @Override
-  public <T> Class<T> resolve(@NotNull String name) {
+  protected @NotNull String qualifyName(@NotNull String name) {
     if (name.contains(NET_MINECRAFT_PACKAGE)) {
-      return super.resolve(name);
+      return name;
     }
 
     if (name.contains(".") && getVersion().isNmsPackage()) {
@@ -45,8 +45,7 @@ public final class NmsClassResolver extends ClassResolver {
       name = path[path.length - 1];
     }
 
-    name = getVersion().getNmsPackage() + '.' + name;
-    return super.resolve(name);
+    return getVersion().getNmsPackage() + '.' + name;
   }
 
   private static class NmsClassResolverHelper {
@@ -36,11 +36,11 @@ public final class OcbClassResolver extends ClassResolver {
   }
 
   @Override
-  public <T> Class<T> resolve(@NotNull String name) {
+  protected @NotNull String qualifyName(@NotNull String name) {
     if (!name.startsWith(OCB_PACKAGE_PREFIX)) {
-      name = getVersion().getOcbPackage() + '.' + name;
+      return getVersion().getOcbPackage() + '.' + name;
     }
-    return super.resolve(name);
+    return name;
   }
 
   private static class OcbClassResolverHelper {
@@ -8,7 +8,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class Constructors {
@@ -42,25 +41,14 @@ public class Constructors {
       throws InvocationTargetException, InstantiationException, IllegalAccessException {
     checkNotNull(clazz, "Clazz cannot be null");
 
-    Class<?>[] paramTypes = Arrays.stream(params)
-        .map(param -> param == null ? Object.class : param.getClass())
-        .toArray(Class[]::new);
-
-    Constructor<?> constructor = getConstructor0(clazz, paramTypes);
-    return checkNotNull(constructor, constructorNotFound(clazz, paramTypes)).newInstance(params);
+    return resolveConstructor0(clazz, params).newInstance(params);
   }
 
   public static @NotNull Object newInstance(@NotNull Object instance, Object @NotNull ... params)
       throws InvocationTargetException, InstantiationException, IllegalAccessException {
     checkNotNull(instance, "Instance cannot be null");
 
-    Class<?>[] paramTypes = Arrays.stream(params)
-        .map(param -> param == null ? Object.class : param.getClass())
-        .toArray(Class[]::new);
-
-    Class<?> clazz = instance.getClass();
-    Constructor<?> constructor = getConstructor0(clazz, paramTypes);
-    return checkNotNull(constructor, constructorNotFound(clazz, paramTypes)).newInstance(params);
+    return resolveConstructor0(instance.getClass(), params).newInstance(params);
   }
 
   public static @NotNull Object newInstance(@NotNull Object instance,
@@ -76,9 +64,15 @@ public class Constructors {
   }
 
   private static Constructor<?> getConstructor0(Class<?> clazz, Class<?>[] paramTypes) {
-    return Arrays.stream(clazz.getDeclaredConstructors())
-        .filter(constructor -> Arrays.equals(constructor.getParameterTypes(), paramTypes))
-        .findFirst()
-        .orElse(null);
+    return MemberIndex.of(clazz).constructor(paramTypes);
+  }
+
+  private static Constructor<?> resolveConstructor0(Class<?> clazz, Object[] params) {
+    Constructor<?> constructor = MemberIndex.of(clazz).resolveConstructor(params);
+    if (constructor == null) {
+      throw new NullPointerException(
+          constructorNotFound(clazz, Overloads.argumentTypes(params)));
+    }
+    return constructor;
   }
 }
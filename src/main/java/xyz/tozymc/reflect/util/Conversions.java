@@ -0,0 +1,114 @@
+package xyz.tozymc.reflect.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Checks and converts arguments the way {@link java.lang.reflect.Method#invoke(Object, Object...)}
+ * does.
+ *
+ * <p>A wrapper is accepted for its own primitive type and for every primitive type it widens to, so
+ * an {@code Integer} is accepted for a {@code long}, {@code float} or {@code double} parameter. Any
+ * other argument, including {@code null}, throws {@link IllegalArgumentException}.
+ *
+ * <p>An argument for a parameter of a reference type must be {@code null} or an instance of the
+ * type, and an argument array must have one argument per parameter. Otherwise {@link
+ * IllegalArgumentException} is thrown as well, rather than a {@link ClassCastException} or an
+ * {@link ArrayIndexOutOfBoundsException}. The instance of an instance member must be an instance of
+ * the declaring class, a {@code null} instance throws {@link NullPointerException}.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class Conversions {
+
+  private Conversions() {}
+
+  public static boolean toBoolean(@Nullable Object value) {
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    throw mismatch();
+  }
+
+  public static byte toByte(@Nullable Object value) {
+    if (value instanceof Byte) {
+      return (Byte) value;
+    }
+    throw mismatch();
+  }
+
+  public static char toChar(@Nullable Object value) {
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    throw mismatch();
+  }
+
+  public static short toShort(@Nullable Object value) {
+    if (value instanceof Short || value instanceof Byte) {
+      return ((Number) value).shortValue();
+    }
+    throw mismatch();
+  }
+
+  public static int toInt(@Nullable Object value) {
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).intValue();
+    }
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    throw mismatch();
+  }
+
+  public static long toLong(@Nullable Object value) {
+    if (value instanceof Long) {
+      return (Long) value;
+    }
+    return toInt(value);
+  }
+
+  public static float toFloat(@Nullable Object value) {
+    if (value instanceof Float) {
+      return (Float) value;
+    }
+    return toLong(value);
+  }
+
+  public static double toDouble(@Nullable Object value) {
+    if (value instanceof Double) {
+      return (Double) value;
+    }
+    return toFloat(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T cast(@Nullable Object value, @NotNull Class<T> type) {
+    if (value == null || type.isInstance(value)) {
+      return (T) value;
+    }
+    throw mismatch();
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T receiver(@Nullable Object instance, @NotNull Class<T> declaringClass) {
+    if (declaringClass.isInstance(instance)) {
+      return (T) instance;
+    }
+    if (instance == null) {
+      throw new NullPointerException();
+    }
+    throw new IllegalArgumentException("object is not an instance of declaring class");
+  }
+
+  public static void checkCount(Object @NotNull [] args, int count) {
+    if (args.length != count) {
+      throw new IllegalArgumentException("wrong number of arguments");
+    }
+  }
+
+  private static IllegalArgumentException mismatch() {
+    return new IllegalArgumentException("argument type mismatch");
+  }
+}
@@ -8,7 +8,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class Fields {
@@ -66,9 +65,6 @@ public class Fields {
   }
 
   private static Field getField0(Class<?> clazz, String name) {
-    return Arrays.stream(clazz.getDeclaredFields())
-        .filter(field -> field.getName().equals(name))
-        .findFirst()
-        .orElse(null);
+    return MemberIndex.of(clazz).findField(name);
   }
 }
@@ -0,0 +1,326 @@
+package xyz.tozymc.reflect.util;
+
+import static xyz.tozymc.util.Preconditions.checkNotNull;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unreflects class members to {@link MethodHandle} with a fixed, type-erased shape.
+ *
+ * <ul>
+ *   <li>Field getter: {@code (Object)Object}</li>
+ *   <li>Field setter: {@code (Object,Object)void}</li>
+ *   <li>Method: {@code (Object,Object[])Object}</li>
+ *   <li>Constructor: {@code (Object[])Object}</li>
+ * </ul>
+ *
+ * <p>Static members ignore the leading instance argument, void methods return {@code null}.
+ *
+ * <p>The {@code unreflectFixed} methods return handles that take every parameter as a separate
+ * argument instead of an array, {@code (Object,Object...)Object} for methods and {@code
+ * (Object...)Object} for constructors. The {@code unreflectAs} methods adapt them to other argument
+ * types, so primitive arguments are passed without boxing.
+ *
+ * <p>Where an erased handle takes a reference argument for a primitive parameter, the argument is
+ * unboxed like {@link Method#invoke(Object, Object...)} does, so a wrapper of a narrower primitive
+ * type is widened and a mismatched argument throws {@link IllegalArgumentException}. A reference
+ * argument for a narrower reference parameter, including the instance, is checked the same way
+ * instead of throwing {@link ClassCastException}. See {@link Conversions}.
+ *
+ * <p>The methods and constructors of the {@code unreflect}, {@code unreflectFixed} and {@code
+ * unreflectAs} handles throw their exceptions wrapped in {@link InvocationTargetException}, as
+ * reflection does, so they are told apart from the exceptions of the argument checks.
+ *
+ * <p>The {@code unreflectDirect} methods return handles that keep the natural member signature.
+ * Variable arity members are unreflected with fixed arity, the trailing array is passed as is.
+ */
+public final class Handles {
+
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType FIELD_SET_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+  private static final Map<Class<?>, MethodHandle> UNBOXERS = new HashMap<>();
+  private static final MethodHandle CAST;
+  private static final MethodHandle RECEIVER;
+  private static final MethodHandle TARGET_EXCEPTION;
+
+  static {
+    Class<?>[] types = {boolean.class, byte.class, char.class, short.class, int.class, long.class,
+        float.class, double.class};
+    for (Class<?> type : types) {
+      String name = type.getName();
+      name = "to" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+      try {
+        UNBOXERS.put(type, LOOKUP.findStatic(Conversions.class, name,
+            MethodType.methodType(type, Object.class)));
+      } catch (ReflectiveOperationException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    try {
+      CAST = LOOKUP.findStatic(Conversions.class, "cast",
+          MethodType.methodType(Object.class, Object.class, Class.class));
+      RECEIVER = LOOKUP.findStatic(Conversions.class, "receiver",
+          MethodType.methodType(Object.class, Object.class, Class.class));
+      TARGET_EXCEPTION = LOOKUP.findConstructor(InvocationTargetException.class,
+          MethodType.methodType(void.class, Throwable.class));
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Handles() {}
+
+  /**
+   * Unreflects the field to a getter of shape {@code (Object)Object}.
+   *
+   * @param field The field to read.
+   * @return The getter handle.
+   * @throws RuntimeException If the field is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectGetter(@NotNull Field field) {
+    return unreflectGetter(field, Object.class);
+  }
+
+  /**
+   * Unreflects the field to a getter of shape {@code (Object)valueType}.
+   *
+   * @param field     The field to read.
+   * @param valueType The value type the getter returns, the field type or a supertype of it.
+   * @return The getter handle.
+   * @throws RuntimeException If the field is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectGetter(@NotNull Field field,
+      @NotNull Class<?> valueType) {
+    checkNotNull(field, "Field cannot be null");
+
+    MethodHandle handle;
+    try {
+      handle = LOOKUP.unreflectGetter(field);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+    handle = withInstance(handle, field);
+    return handle.asType(MethodType.methodType(valueType, Object.class));
+  }
+
+  /**
+   * Unreflects the field to a setter of shape {@code (Object,Object)void}.
+   *
+   * <p>Final fields that cannot be unreflected are written through {@link Field#set(Object,
+   * Object)}.
+   *
+   * @param field The field to write.
+   * @return The setter handle.
+   * @throws RuntimeException If the field is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectSetter(@NotNull Field field) {
+    return unreflectSetter(field, Object.class);
+  }
+
+  /**
+   * Unreflects the field to a setter of shape {@code (Object,valueType)void}.
+   *
+   * @param field     The field to write.
+   * @param valueType The value type the setter takes.
+   * @return The setter handle.
+   * @throws RuntimeException If the field is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectSetter(@NotNull Field field,
+      @NotNull Class<?> valueType) {
+    checkNotNull(field, "Field cannot be null");
+
+    MethodType type = MethodType.methodType(void.class, Object.class, valueType);
+    MethodHandle handle;
+    try {
+      handle = LOOKUP.unreflectSetter(field);
+    } catch (IllegalAccessException e) {
+      // Final fields cannot be unreflected on some versions, let Field#set decide instead.
+      return fieldSetFallback(field).asType(type);
+    }
+    return unboxing(withInstance(handle, field), type);
+  }
+
+  /**
+   * Unreflects the method to a handle of shape {@code (Object,Object[])Object}.
+   *
+   * @param method The method to invoke.
+   * @return The method handle.
+   * @throws RuntimeException If the method is not accessible.
+   */
+  public static @NotNull MethodHandle unreflect(@NotNull Method method) {
+    return unreflectFixed(method).asSpreader(Object[].class, method.getParameterCount());
+  }
+
+  /**
+   * Unreflects the constructor to a handle of shape {@code (Object[])Object}.
+   *
+   * @param constructor The constructor to invoke.
+   * @return The constructor handle.
+   * @throws RuntimeException If the constructor is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectConstructor(@NotNull Constructor<?> constructor) {
+    return unreflectFixed(constructor).asSpreader(Object[].class, constructor.getParameterCount());
+  }
+
+  /**
+   * Unreflects the method to a handle that takes the instance and every parameter as {@code
+   * Object} arguments.
+   *
+   * @param method The method to invoke.
+   * @return The method handle.
+   * @throws RuntimeException If the method is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectFixed(@NotNull Method method) {
+    int paramCount = method.getParameterCount();
+    return unboxing(withInstance(method), MethodType.genericMethodType(paramCount + 1));
+  }
+
+  /**
+   * Unreflects the constructor to a handle that takes every parameter as an {@code Object}
+   * argument.
+   *
+   * @param constructor The constructor to invoke.
+   * @return The constructor handle.
+   * @throws RuntimeException If the constructor is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectFixed(@NotNull Constructor<?> constructor) {
+    return unboxing(wrapTargetExceptions(unreflectDirect(constructor)),
+        MethodType.genericMethodType(constructor.getParameterCount()));
+  }
+
+  /**
+   * Unreflects the method to a handle of shape {@code (Object,argTypes)Object}.
+   *
+   * @param method   The method to invoke.
+   * @param argTypes The argument types the handle takes for the parameters.
+   * @return The method handle, or {@code null} if the method cannot take the argument types.
+   * @throws RuntimeException If the method is not accessible.
+   */
+  public static @Nullable MethodHandle unreflectAs(@NotNull Method method,
+      Class<?> @NotNull ... argTypes) {
+    MethodHandle handle = withInstance(method);
+    MethodType type = MethodType.methodType(Object.class, Object.class, argTypes);
+    return handle.type().parameterCount() == type.parameterCount() ? asType(handle, type) : null;
+  }
+
+  /**
+   * Unreflects the constructor to a handle of shape {@code (argTypes)Object}.
+   *
+   * @param constructor The constructor to invoke.
+   * @param argTypes    The argument types the handle takes for the parameters.
+   * @return The constructor handle, or {@code null} if the constructor cannot take the argument
+   *     types.
+   * @throws RuntimeException If the constructor is not accessible.
+   */
+  public static @Nullable MethodHandle unreflectAs(@NotNull Constructor<?> constructor,
+      Class<?> @NotNull ... argTypes) {
+    MethodHandle handle = wrapTargetExceptions(unreflectDirect(constructor));
+    MethodType type = MethodType.methodType(Object.class, argTypes);
+    return handle.type().parameterCount() == type.parameterCount() ? asType(handle, type) : null;
+  }
+
+  /**
+   * Unreflects the method to a fixed arity handle of its natural signature.
+   *
+   * @param method The method to invoke.
+   * @return The method handle, taking the instance first unless the method is static.
+   * @throws RuntimeException If the method is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectDirect(@NotNull Method method) {
+    checkNotNull(method, "Method cannot be null");
+
+    try {
+      return LOOKUP.unreflect(method).asFixedArity();
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Unreflects the constructor to a fixed arity handle of its natural signature.
+   *
+   * @param constructor The constructor to invoke.
+   * @return The constructor handle.
+   * @throws RuntimeException If the constructor is not accessible.
+   */
+  public static @NotNull MethodHandle unreflectDirect(@NotNull Constructor<?> constructor) {
+    checkNotNull(constructor, "Constructor cannot be null");
+
+    try {
+      return LOOKUP.unreflectConstructor(constructor).asFixedArity();
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static MethodHandle withInstance(Method method) {
+    return withInstance(wrapTargetExceptions(unreflectDirect(method)), method);
+  }
+
+  private static MethodHandle withInstance(MethodHandle handle, Member member) {
+    if (Modifier.isStatic(member.getModifiers())) {
+      return MethodHandles.dropArguments(handle, 0, Object.class);
+    }
+    // Checked before the access, so a null instance is not wrapped like an exception of a method.
+    Class<?> declaringClass = member.getDeclaringClass();
+    MethodHandle receiver = MethodHandles.insertArguments(RECEIVER, 1, declaringClass)
+        .asType(MethodType.methodType(declaringClass, Object.class));
+    return MethodHandles.filterArguments(handle, 0, receiver);
+  }
+
+  private static MethodHandle wrapTargetExceptions(MethodHandle handle) {
+    MethodType type = handle.type();
+    MethodHandle thrower = MethodHandles.filterArguments(
+        MethodHandles.throwException(type.returnType(), InvocationTargetException.class), 0,
+        TARGET_EXCEPTION);
+    return MethodHandles.catchException(handle, Throwable.class,
+        MethodHandles.dropArguments(thrower, 1, type.parameterList()));
+  }
+
+  private static MethodHandle unboxing(MethodHandle handle, MethodType type) {
+    for (int i = 0; i < type.parameterCount(); i++) {
+      Class<?> paramType = handle.type().parameterType(i);
+      Class<?> argType = type.parameterType(i);
+      if (paramType.isPrimitive() && !argType.isPrimitive()) {
+        handle = MethodHandles.filterArguments(handle, i, UNBOXERS.get(paramType));
+      } else if (!argType.isPrimitive() && !paramType.isAssignableFrom(argType)) {
+        MethodHandle cast = MethodHandles.insertArguments(CAST, 1, paramType)
+            .asType(MethodType.methodType(paramType, argType));
+        handle = MethodHandles.filterArguments(handle, i, cast);
+      }
+    }
+    return handle.asType(type);
+  }
+
+  private static MethodHandle asType(MethodHandle handle, MethodType type) {
+    try {
+      return unboxing(handle, type);
+    } catch (WrongMethodTypeException e) {
+      return null;
+    }
+  }
+
+  private static MethodHandle fieldSetFallback(Field field) {
+    try {
+      return LOOKUP.findVirtual(Field.class, "set", FIELD_SET_TYPE).bindTo(field);
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
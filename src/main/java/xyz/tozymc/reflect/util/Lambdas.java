@@ -0,0 +1,228 @@
+package xyz.tozymc.reflect.util;
+
+import static xyz.tozymc.util.Preconditions.checkArgument;
+import static xyz.tozymc.util.Preconditions.checkNotNull;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Implements functional interfaces with {@link MethodHandle}.
+ *
+ * <p>Direct handles to members accessible from this library are spun through {@link
+ * LambdaMetafactory}, so the implementation calls the member like a compiled lambda. Other handles
+ * (field handles, private members, adapted handles) fall back to an implementation that invokes the
+ * handle.
+ */
+public final class Lambdas {
+
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+
+  private Lambdas() {}
+
+  public static <T, R> @NotNull Function<T, R> function(@NotNull MethodHandle handle) {
+    @SuppressWarnings("unchecked")
+    Function<T, R> function = metafactory(Function.class, handle);
+    if (function != null) {
+      return function;
+    }
+    MethodHandle adapted = handle.asType(MethodType.genericMethodType(1));
+    return t -> {
+      try {
+        //noinspection unchecked
+        return (R) adapted.invokeExact((Object) t);
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  public static <T, U, R> @NotNull BiFunction<T, U, R> biFunction(@NotNull MethodHandle handle) {
+    @SuppressWarnings("unchecked")
+    BiFunction<T, U, R> function = metafactory(BiFunction.class, handle);
+    if (function != null) {
+      return function;
+    }
+    MethodHandle adapted = handle.asType(MethodType.genericMethodType(2));
+    return (t, u) -> {
+      try {
+        //noinspection unchecked
+        return (R) adapted.invokeExact((Object) t, (Object) u);
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  public static <R> @NotNull Supplier<R> supplier(@NotNull MethodHandle handle) {
+    @SuppressWarnings("unchecked")
+    Supplier<R> supplier = metafactory(Supplier.class, handle);
+    if (supplier != null) {
+      return supplier;
+    }
+    MethodHandle adapted = handle.asType(MethodType.genericMethodType(0));
+    return () -> {
+      try {
+        //noinspection unchecked
+        return (R) adapted.invokeExact();
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  public static <T> @NotNull ToIntFunction<T> toIntFunction(@NotNull MethodHandle handle) {
+    @SuppressWarnings("unchecked")
+    ToIntFunction<T> function = metafactory(ToIntFunction.class, handle);
+    if (function != null) {
+      return function;
+    }
+    MethodHandle adapted = handle.asType(MethodType.methodType(int.class, Object.class));
+    return t -> {
+      try {
+        return (int) adapted.invokeExact((Object) t);
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  public static <T, U> @NotNull BiConsumer<T, U> biConsumer(@NotNull MethodHandle handle) {
+    @SuppressWarnings("unchecked")
+    BiConsumer<T, U> consumer = metafactory(BiConsumer.class, handle);
+    if (consumer != null) {
+      return consumer;
+    }
+    MethodHandle adapted =
+        handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    return (t, u) -> {
+      try {
+        adapted.invokeExact((Object) t, (Object) u);
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  public static <T> @NotNull ObjIntConsumer<T> objIntConsumer(@NotNull MethodHandle handle) {
+    @SuppressWarnings("unchecked")
+    ObjIntConsumer<T> consumer = metafactory(ObjIntConsumer.class, handle);
+    if (consumer != null) {
+      return consumer;
+    }
+    MethodHandle adapted =
+        handle.asType(MethodType.methodType(void.class, Object.class, int.class));
+    return (t, value) -> {
+      try {
+        adapted.invokeExact((Object) t, value);
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  public static <F> @NotNull F implement(@NotNull Class<F> functionalInterface,
+      @NotNull MethodHandle handle) {
+    F implemented = metafactory(functionalInterface, handle);
+    if (implemented != null) {
+      return implemented;
+    }
+    return MethodHandleProxies.asInterfaceInstance(functionalInterface, handle);
+  }
+
+  public static <F> @Nullable F metafactory(@NotNull Class<F> functionalInterface,
+      @NotNull MethodHandle handle) {
+    checkNotNull(functionalInterface, "Functional interface cannot be null");
+    checkNotNull(handle, "Handle cannot be null");
+
+    Method sam = findSingleAbstractMethod(functionalInterface);
+    MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+    checkArgument(samType.parameterCount() == handle.type().parameterCount(),
+        "%s cannot implement %s", handle.type(), sam);
+
+    if (!isDirect(handle)) {
+      return null;
+    }
+    try {
+      CallSite site = LambdaMetafactory.metafactory(LOOKUP, sam.getName(),
+          MethodType.methodType(functionalInterface), samType, handle,
+          instantiatedType(samType, handle.type()));
+      return functionalInterface.cast(site.getTarget().invoke());
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  private static boolean isDirect(MethodHandle handle) {
+    int kind;
+    try {
+      kind = LOOKUP.revealDirect(handle).getReferenceKind();
+    } catch (IllegalArgumentException | SecurityException e) {
+      return false;
+    }
+    return kind == MethodHandleInfo.REF_invokeVirtual
+        || kind == MethodHandleInfo.REF_invokeStatic
+        || kind == MethodHandleInfo.REF_invokeInterface
+        || kind == MethodHandleInfo.REF_newInvokeSpecial;
+  }
+
+  private static MethodType instantiatedType(MethodType samType, MethodType implType) {
+    Class<?>[] paramTypes = new Class<?>[samType.parameterCount()];
+    for (int i = 0; i < paramTypes.length; i++) {
+      paramTypes[i] = specialize(samType.parameterType(i), implType.parameterType(i));
+    }
+    Class<?> returnType = samType.returnType() == void.class ? void.class
+        : specialize(samType.returnType(), implType.returnType());
+    return MethodType.methodType(returnType, paramTypes);
+  }
+
+  private static Class<?> specialize(Class<?> samClass, Class<?> implClass) {
+    if (samClass.isPrimitive()) {
+      return samClass;
+    }
+    Class<?> boxed = MethodType.methodType(implClass).wrap().returnType();
+    return samClass.isAssignableFrom(boxed) ? boxed : samClass;
+  }
+
+  private static Method findSingleAbstractMethod(Class<?> functionalInterface) {
+    checkArgument(functionalInterface.isInterface(), "%s is not an interface",
+        functionalInterface.getName());
+
+    List<Method> abstractMethods = Arrays.stream(functionalInterface.getMethods())
+        .filter(method -> Modifier.isAbstract(method.getModifiers()))
+        .filter(method -> !isObjectMethod(method))
+        .collect(Collectors.toList());
+    checkArgument(abstractMethods.size() == 1, "%s is not a functional interface",
+        functionalInterface.getName());
+    return abstractMethods.get(0);
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
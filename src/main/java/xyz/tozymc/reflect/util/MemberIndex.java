@@ -0,0 +1,170 @@
+package xyz.tozymc.reflect.util;
+
+import static xyz.tozymc.util.Preconditions.checkNotNull;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the declared members of a class.
+ *
+ * <p>The index is built once per class, the first time it is needed, and held in a {@link
+ * ClassValue}, so it does not keep the class or its class loader alive. Fields are found by name,
+ * methods by name and then by parameter types among the overloads, constructors by parameter types.
+ * Lookups do not copy member arrays and do not allocate.
+ *
+ * <p>Methods and constructors can also be resolved from arguments, choosing the most specific
+ * overload applicable to the runtime classes of the arguments. The overload chosen for each shape
+ * of arguments is cached, so later calls with arguments of the same classes do not resolve it
+ * again.
+ *
+ * <p>If several members match, the first one in declaration order is returned, same as a scan over
+ * {@link Class#getDeclaredFields()} or {@link Class#getDeclaredMethods()}.
+ *
+ * <p>Fields and methods can also be found among the members inherited from superclasses and
+ * interfaces, including private members. The nearest member shadows the others: a field hides the
+ * fields of the same name of its supertypes, searched in interfaces before the superclass, and a
+ * method hides the methods of the same name and parameter types of its supertypes, searched in the
+ * superclass before interfaces. These members are held in a flattened table built once per class
+ * from the tables of its direct supertypes, so finding an inherited member does not walk the
+ * hierarchy, and overloads that are not overridden are shared with the supertypes.
+ */
+public final class MemberIndex {
+
+  private static final ClassValue<MemberIndex> indexes = new ClassValue<MemberIndex>() {
+    @Override
+    protected MemberIndex computeValue(Class<?> type) {
+      return new MemberIndex(type);
+    }
+  };
+
+  private final Map<String, Field> fields;
+  private final Map<String, Overloads<Method>> methods;
+  private final Overloads<Constructor<?>> constructors;
+  private final Class<?> clazz;
+  // Built on first use, racing threads may build equal tables
+  private volatile Hierarchy hierarchy;
+
+  private MemberIndex(Class<?> clazz) {
+    this.clazz = clazz;
+    Field[] declaredFields = clazz.getDeclaredFields();
+    this.fields = new HashMap<>(declaredFields.length * 2);
+    for (Field field : declaredFields) {
+      fields.putIfAbsent(field.getName(), field);
+    }
+
+    Map<String, List<Method>> overloads = new HashMap<>();
+    for (Method method : clazz.getDeclaredMethods()) {
+      overloads.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+    }
+    this.methods = new HashMap<>(overloads.size() * 2);
+    overloads.forEach((name, methods) -> {
+      List<Class<?>[]> paramTypes = new ArrayList<>(methods.size());
+      methods.forEach(method -> paramTypes.add(method.getParameterTypes()));
+      this.methods.put(name, Overloads.of(methods, paramTypes));
+    });
+
+    List<Constructor<?>> declaredConstructors = new ArrayList<>();
+    List<Class<?>[]> paramTypes = new ArrayList<>();
+    for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+      declaredConstructors.add(constructor);
+      paramTypes.add(constructor.getParameterTypes());
+    }
+    this.constructors = Overloads.of(declaredConstructors, paramTypes);
+  }
+
+  public static @NotNull MemberIndex of(@NotNull Class<?> clazz) {
+    checkNotNull(clazz, "Clazz cannot be null");
+
+    return indexes.get(clazz);
+  }
+
+  public @Nullable Field field(@NotNull String name) {
+    return fields.get(name);
+  }
+
+  public @Nullable Method method(@NotNull String name, Class<?> @NotNull [] paramTypes) {
+    Overloads<Method> overloads = methods.get(name);
+    return overloads == null ? null : overloads.find(paramTypes);
+  }
+
+  public @Nullable Method resolveMethod(@NotNull String name, Object @NotNull [] args) {
+    Overloads<Method> overloads = hierarchy().methods.get(name);
+    return overloads == null ? null : overloads.resolve(args);
+  }
+
+  public @Nullable Constructor<?> constructor(Class<?> @NotNull [] paramTypes) {
+    return constructors.find(paramTypes);
+  }
+
+  public @Nullable Constructor<?> resolveConstructor(Object @NotNull [] args) {
+    return constructors.resolve(args);
+  }
+
+  public @Nullable Field findField(@NotNull String name) {
+    Field field = fields.get(name);
+    return field != null ? field : hierarchy().fields.get(name);
+  }
+
+  public @Nullable Method findMethod(@NotNull String name, Class<?> @NotNull [] paramTypes) {
+    Method method = method(name, paramTypes);
+    if (method != null) {
+      return method;
+    }
+    Overloads<Method> overloads = hierarchy().methods.get(name);
+    return overloads == null ? null : overloads.find(paramTypes);
+  }
+
+  private Hierarchy hierarchy() {
+    Hierarchy hierarchy = this.hierarchy;
+    if (hierarchy == null) {
+      hierarchy = new Hierarchy(this);
+      this.hierarchy = hierarchy;
+    }
+    return hierarchy;
+  }
+
+  private static final class Hierarchy {
+
+    private final Map<String, Field> fields;
+    private final Map<String, Overloads<Method>> methods;
+
+    private Hierarchy(MemberIndex index) {
+      Class<?> superclass = index.clazz.getSuperclass();
+      Class<?>[] interfaces = index.clazz.getInterfaces();
+      if (superclass == null && interfaces.length == 0) {
+        this.fields = index.fields;
+        this.methods = index.methods;
+        return;
+      }
+
+      this.fields = new HashMap<>(index.fields);
+      for (Class<?> type : interfaces) {
+        of(type).hierarchy().fields.forEach(fields::putIfAbsent);
+      }
+      if (superclass != null) {
+        of(superclass).hierarchy().fields.forEach(fields::putIfAbsent);
+      }
+
+      this.methods = new HashMap<>(index.methods);
+      if (superclass != null) {
+        of(superclass).hierarchy().methods.forEach(this::inherit);
+      }
+      for (Class<?> type : interfaces) {
+        of(type).hierarchy().methods.forEach(this::inherit);
+      }
+    }
+
+    private void inherit(String name, Overloads<Method> inherited) {
+      methods.merge(name, inherited, Overloads::inherit);
+    }
+  }
+}
@@ -9,7 +9,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class Methods {
@@ -38,12 +37,7 @@ public class Methods {
     checkNotNull(clazz, "Clazz cannot be null");
     checkNotNull(name, "Name cannot be null");
 
-    Class<?>[] paramTypes = Arrays.stream(params)
-        .map(param -> param == null ? Object.class : param.getClass())
-        .toArray(Class[]::new);
-
-    Method method = getMethod0(clazz, name, paramTypes);
-    return checkNotNull(method, methodNotFound(name, paramTypes)).invoke(instance, params);
+    return resolveMethod0(clazz, name, params).invoke(instance, params);
   }
 
   public static Object invokeMethod(@NotNull Class<?> clazz, @Nullable Object instance,
@@ -78,19 +72,18 @@ public class Methods {
     checkNotNull(instance, "Instance cannot be null");
     checkNotNull(name, "Name cannot be null");
 
-    Class<?>[] paramTypes = Arrays.stream(params)
-        .map(param -> param == null ? Object.class : param.getClass())
-        .toArray(Class[]::new);
-
-    Method method = getMethod0(instance.getClass(), name, paramTypes);
-    return checkNotNull(method, methodNotFound(name, paramTypes)).invoke(instance, params);
+    return resolveMethod0(instance.getClass(), name, params).invoke(instance, params);
   }
 
   private static Method getMethod0(Class<?> clazz, String name, Class<?>[] paramTypes) {
-    return Arrays.stream(clazz.getDeclaredMethods())
-        .filter(method -> method.getName().equals(name) && Arrays.equals(method.getParameterTypes(),
-            paramTypes))
-        .findFirst()
-        .orElse(null);
+    return MemberIndex.of(clazz).findMethod(name, paramTypes);
+  }
+
+  private static Method resolveMethod0(Class<?> clazz, String name, Object[] params) {
+    Method method = MemberIndex.of(clazz).resolveMethod(name, params);
+    if (method == null) {
+      throw new NullPointerException(methodNotFound(name, Overloads.argumentTypes(params)));
+    }
+    return method;
   }
 }
@@ -0,0 +1,279 @@
+package xyz.tozymc.reflect.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Overloads of a method name, or the constructors of a class.
+ *
+ * <p>Overloads are found by exact parameter types, or resolved from the runtime classes of
+ * arguments. Resolution follows the overload resolution of the compiler for arguments whose static
+ * types are their runtime classes: overloads applicable by subtyping are preferred to overloads
+ * that need unboxing, then the most specific overload is chosen, the first in declaration order if
+ * several are. Null arguments match any
+ * reference parameter, boxed arguments match primitive parameters they can be unboxed and widened
+ * to, as {@link Method#invoke(Object, Object...)} does. Variable arity is not applied, the
+ * arguments are passed as they are.
+ *
+ * <p>The overload resolved for each shape of arguments, the runtime classes of the arguments, is
+ * cached in a small inline cache. Arguments of a shape seen before are resolved by comparing their
+ * classes with the cached shapes, without allocating. The cache holds the last {@value
+ * #MAX_SHAPES} shapes.
+ *
+ * @param <T> Type of the members.
+ */
+final class Overloads<T> {
+
+  private static final int MAX_SHAPES = 8;
+  private static final Shape<?>[] NO_SHAPES = new Shape<?>[0];
+
+  private final Executable<T>[] executables;
+  // Copy-on-write, so a lookup reads a consistent array. Concurrent misses may drop a shape,
+  // which is resolved again on the next miss.
+  private volatile Shape<T>[] shapes = noShapes();
+
+  private Overloads(Executable<T>[] executables) {
+    this.executables = executables;
+  }
+
+  static <T> Overloads<T> of(List<T> members, List<Class<?>[]> paramTypes) {
+    Executable<T>[] executables = newArray(members.size());
+    for (int i = 0; i < executables.length; i++) {
+      T member = members.get(i);
+      boolean bridge = member instanceof Method && ((Method) member).isBridge();
+      executables[i] = new Executable<>(member, paramTypes.get(i), bridge);
+    }
+    return new Overloads<>(executables);
+  }
+
+  /**
+   * Merges inherited overloads, skipping those overridden by parameter types.
+   *
+   * @return The overloads, or {@code own} if every inherited overload is overridden.
+   */
+  static <T> Overloads<T> inherit(Overloads<T> own, Overloads<T> inherited) {
+    List<Executable<T>> executables = new ArrayList<>(Arrays.asList(own.executables));
+    for (Executable<T> executable : inherited.executables) {
+      if (own.find(executable.paramTypes) == null) {
+        executables.add(executable);
+      }
+    }
+    if (executables.size() == own.executables.length) {
+      return own;
+    }
+    return new Overloads<>(executables.toArray(newArray(executables.size())));
+  }
+
+  static Class<?>[] argumentTypes(Object[] args) {
+    Class<?>[] types = new Class<?>[args.length];
+    for (int i = 0; i < args.length; i++) {
+      types[i] = args[i] == null ? Object.class : args[i].getClass();
+    }
+    return types;
+  }
+
+  @Nullable T find(Class<?>[] paramTypes) {
+    for (Executable<T> executable : executables) {
+      if (Arrays.equals(executable.paramTypes, paramTypes)) {
+        return executable.member;
+      }
+    }
+    return null;
+  }
+
+  @Nullable T resolve(Object[] args) {
+    Shape<T>[] shapes = this.shapes;
+    for (Shape<T> shape : shapes) {
+      if (shape.matches(args)) {
+        return shape.member;
+      }
+    }
+
+    Class<?>[] argTypes = new Class<?>[args.length];
+    for (int i = 0; i < args.length; i++) {
+      argTypes[i] = args[i] == null ? null : args[i].getClass();
+    }
+    T member = select(argTypes, false);
+    if (member == null) {
+      member = select(argTypes, true);
+    }
+
+    Shape<T>[] grown = newShapes(Math.min(shapes.length + 1, MAX_SHAPES));
+    grown[0] = new Shape<>(argTypes, member);
+    System.arraycopy(shapes, 0, grown, 1, grown.length - 1);
+    this.shapes = grown;
+    return member;
+  }
+
+  private @Nullable T select(Class<?>[] argTypes, boolean unboxing) {
+    T selected = null;
+    for (Executable<T> executable : executables) {
+      if (!executable.isApplicable(argTypes, unboxing) || !isMaximal(executable, argTypes,
+          unboxing)) {
+        continue;
+      }
+      // Bridge methods have the parameter types of the overridden method, prefer the bridged one
+      if (!executable.bridge) {
+        return executable.member;
+      }
+      if (selected == null) {
+        selected = executable.member;
+      }
+    }
+    return selected;
+  }
+
+  private boolean isMaximal(Executable<T> candidate, Class<?>[] argTypes, boolean unboxing) {
+    for (Executable<T> executable : executables) {
+      if (executable != candidate && executable.isApplicable(argTypes, unboxing)
+          && executable.isMoreSpecific(candidate) && !candidate.isMoreSpecific(executable)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSubtype(Class<?> type, Class<?> superType) {
+    if (type.isPrimitive() != superType.isPrimitive()) {
+      return false;
+    }
+    return type.isPrimitive() ? isWidening(type, superType) : superType.isAssignableFrom(type);
+  }
+
+  /**
+   * Checks the identity and widening primitive conversions, see JLS 5.1.2.
+   */
+  private static boolean isWidening(Class<?> from, Class<?> to) {
+    if (from == to) {
+      return true;
+    }
+    if (from == byte.class) {
+      return to == short.class || to == int.class || to == long.class || to == float.class
+          || to == double.class;
+    }
+    if (from == short.class || from == char.class) {
+      return to == int.class || to == long.class || to == float.class || to == double.class;
+    }
+    if (from == int.class) {
+      return to == long.class || to == float.class || to == double.class;
+    }
+    if (from == long.class) {
+      return to == float.class || to == double.class;
+    }
+    return from == float.class && to == double.class;
+  }
+
+  private static @Nullable Class<?> unboxedType(Class<?> type) {
+    if (type == Integer.class) {
+      return int.class;
+    }
+    if (type == Long.class) {
+      return long.class;
+    }
+    if (type == Double.class) {
+      return double.class;
+    }
+    if (type == Float.class) {
+      return float.class;
+    }
+    if (type == Boolean.class) {
+      return boolean.class;
+    }
+    if (type == Byte.class) {
+      return byte.class;
+    }
+    if (type == Short.class) {
+      return short.class;
+    }
+    if (type == Character.class) {
+      return char.class;
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Executable<T>[] newArray(int length) {
+    return (Executable<T>[]) new Executable<?>[length];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Shape<T>[] newShapes(int length) {
+    return (Shape<T>[]) new Shape<?>[length];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Shape<T>[] noShapes() {
+    return (Shape<T>[]) NO_SHAPES;
+  }
+
+  private static final class Executable<T> {
+
+    private final T member;
+    private final Class<?>[] paramTypes;
+    private final boolean bridge;
+
+    private Executable(T member, Class<?>[] paramTypes, boolean bridge) {
+      this.member = member;
+      this.paramTypes = paramTypes;
+      this.bridge = bridge;
+    }
+
+    private boolean isApplicable(Class<?>[] argTypes, boolean unboxing) {
+      if (paramTypes.length != argTypes.length) {
+        return false;
+      }
+      for (int i = 0; i < argTypes.length; i++) {
+        Class<?> paramType = paramTypes[i];
+        Class<?> argType = argTypes[i];
+        if (!paramType.isPrimitive()) {
+          if (argType != null && !paramType.isAssignableFrom(argType)) {
+            return false;
+          }
+          continue;
+        }
+        Class<?> unboxedType = argType == null ? null : unboxedType(argType);
+        if (!unboxing || unboxedType == null || !isWidening(unboxedType, paramType)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean isMoreSpecific(Executable<T> other) {
+      for (int i = 0; i < paramTypes.length; i++) {
+        if (!isSubtype(paramTypes[i], other.paramTypes[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class Shape<T> {
+
+    private final Class<?>[] argTypes;
+    private final T member;
+
+    private Shape(Class<?>[] argTypes, T member) {
+      this.argTypes = argTypes;
+      this.member = member;
+    }
+
+    private boolean matches(Object[] args) {
+      if (args.length != argTypes.length) {
+        return false;
+      }
+      for (int i = 0; i < args.length; i++) {
+        Object arg = args[i];
+        if (arg == null ? argTypes[i] != null : arg.getClass() != argTypes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package xyz.tozymc.reflect.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.util.Preconditions;
+
+/**
+ * Atomic and memory-ordered access to a field, for {@link FieldAccessor}.
+ *
+ * <p>This is the implementation of the multi-release jar for Java 11 and later, which accesses the
+ * field through a {@link VarHandle}. Each access mode is adapted once to a method handle of a
+ * fixed, type-erased shape, as {@link xyz.tozymc.reflect.util.Handles} does, so it is invoked
+ * exactly. The handle is created with a private lookup in the declaring class, so the package of
+ * the class must be open to this library, as packages of the class path are.
+ *
+ * <p>The instance is cast to the declaring class and the value to the field type before the field
+ * is accessed, final fields cannot be written.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class FieldAtomics {
+
+  private final VarHandle handle;
+  private final Class<?> type;
+  private final boolean isStatic;
+  // Created on first use of each operation, method handles are safely published.
+  private final MethodHandle[] invokers = new MethodHandle[Operation.values().length];
+
+  private FieldAtomics(VarHandle handle, Field field) {
+    this.handle = handle;
+    this.type = field.getType();
+    this.isStatic = Modifier.isStatic(field.getModifiers());
+  }
+
+  static FieldAtomics of(Field field) {
+    try {
+      MethodHandles.Lookup lookup =
+          MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+      return new FieldAtomics(lookup.unreflectVarHandle(field), field);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  Object getVolatile(@Nullable Object instance) throws Throwable {
+    return invoker(Operation.GET_VOLATILE).invokeExact(checkInstance(instance));
+  }
+
+  void setVolatile(@Nullable Object instance, @Nullable Object value) throws Throwable {
+    invoker(Operation.SET_VOLATILE).invokeExact(checkInstance(instance), value);
+  }
+
+  Object getAcquire(@Nullable Object instance) throws Throwable {
+    return invoker(Operation.GET_ACQUIRE).invokeExact(checkInstance(instance));
+  }
+
+  void setRelease(@Nullable Object instance, @Nullable Object value) throws Throwable {
+    invoker(Operation.SET_RELEASE).invokeExact(checkInstance(instance), value);
+  }
+
+  boolean compareAndSet(@Nullable Object instance, @Nullable Object expected,
+      @Nullable Object value) throws Throwable {
+    return (boolean) invoker(Operation.COMPARE_AND_SET)
+        .invokeExact(checkInstance(instance), expected, value);
+  }
+
+  Object getAndSet(@Nullable Object instance, @Nullable Object value) throws Throwable {
+    return invoker(Operation.GET_AND_SET).invokeExact(checkInstance(instance), value);
+  }
+
+  boolean compareAndSetInt(@Nullable Object instance, int expected, int value)
+      throws Throwable {
+    checkType(int.class);
+    return (boolean) invoker(Operation.COMPARE_AND_SET_INT)
+        .invokeExact(checkInstance(instance), expected, value);
+  }
+
+  int getAndAddInt(@Nullable Object instance, int delta) throws Throwable {
+    checkType(int.class);
+    return (int) invoker(Operation.GET_AND_ADD_INT).invokeExact(checkInstance(instance), delta);
+  }
+
+  int getAndSetInt(@Nullable Object instance, int value) throws Throwable {
+    checkType(int.class);
+    return (int) invoker(Operation.GET_AND_SET_INT).invokeExact(checkInstance(instance), value);
+  }
+
+  boolean compareAndSetLong(@Nullable Object instance, long expected, long value)
+      throws Throwable {
+    checkType(long.class);
+    return (boolean) invoker(Operation.COMPARE_AND_SET_LONG)
+        .invokeExact(checkInstance(instance), expected, value);
+  }
+
+  long getAndAddLong(@Nullable Object instance, long delta) throws Throwable {
+    checkType(long.class);
+    return (long) invoker(Operation.GET_AND_ADD_LONG).invokeExact(checkInstance(instance), delta);
+  }
+
+  long getAndSetLong(@Nullable Object instance, long value) throws Throwable {
+    checkType(long.class);
+    return (long) invoker(Operation.GET_AND_SET_LONG).invokeExact(checkInstance(instance), value);
+  }
+
+  /**
+   * Gets the access mode of the operation, static fields ignore the leading instance argument.
+   */
+  private MethodHandle invoker(Operation operation) {
+    MethodHandle invoker = invokers[operation.ordinal()];
+    if (invoker == null) {
+      invoker = handle.toMethodHandle(operation.mode);
+      if (isStatic) {
+        invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+      }
+      invoker = invoker.asType(operation.type);
+      invokers[operation.ordinal()] = invoker;
+    }
+    return invoker;
+  }
+
+  private @Nullable Object checkInstance(@Nullable Object instance) {
+    return isStatic ? instance : Preconditions.checkNotNull(instance, "Instance cannot be null");
+  }
+
+  private void checkType(Class<?> expected) {
+    Preconditions.checkArgument(type == expected, "Field type must be %s", expected);
+  }
+
+  private enum Operation {
+    GET_VOLATILE(AccessMode.GET_VOLATILE, Object.class),
+    SET_VOLATILE(AccessMode.SET_VOLATILE, void.class, Object.class),
+    GET_ACQUIRE(AccessMode.GET_ACQUIRE, Object.class),
+    SET_RELEASE(AccessMode.SET_RELEASE, void.class, Object.class),
+    COMPARE_AND_SET(AccessMode.COMPARE_AND_SET, boolean.class, Object.class, Object.class),
+    GET_AND_SET(AccessMode.GET_AND_SET, Object.class, Object.class),
+    COMPARE_AND_SET_INT(AccessMode.COMPARE_AND_SET, boolean.class, int.class, int.class),
+    GET_AND_ADD_INT(AccessMode.GET_AND_ADD, int.class, int.class),
+    GET_AND_SET_INT(AccessMode.GET_AND_SET, int.class, int.class),
+    COMPARE_AND_SET_LONG(AccessMode.COMPARE_AND_SET, boolean.class, long.class, long.class),
+    GET_AND_ADD_LONG(AccessMode.GET_AND_ADD, long.class, long.class),
+    GET_AND_SET_LONG(AccessMode.GET_AND_SET, long.class, long.class);
+
+    private final AccessMode mode;
+    private final MethodType type;
+
+    Operation(AccessMode mode, Class<?> returnType, Class<?>... paramTypes) {
+      this.mode = mode;
+      this.type = MethodType.methodType(returnType, Object.class, paramTypes);
+    }
+  }
+}
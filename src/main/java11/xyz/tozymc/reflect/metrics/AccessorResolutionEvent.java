@@ -0,0 +1,33 @@
+package xyz.tozymc.reflect.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of the resolution of an accessor that was not cached.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+@Name("xyz.tozymc.reflect.AccessorResolution")
+@Label("Accessor Resolution")
+@Category("TReflections")
+@Description("Resolution of an accessor that was not cached")
+final class AccessorResolutionEvent extends Event {
+
+  @Label("Query")
+  String query;
+
+  @Label("Class")
+  String className;
+
+  @Label("Backend")
+  @Description("Backend of the resolved accessor")
+  String backend;
+
+  @Label("Outcome")
+  String outcome;
+}
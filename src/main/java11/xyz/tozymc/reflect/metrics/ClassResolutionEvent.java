@@ -0,0 +1,26 @@
+package xyz.tozymc.reflect.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of the resolution of a class that was not cached by a class resolver.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+@Name("xyz.tozymc.reflect.ClassResolution")
+@Label("Class Resolution")
+@Category("TReflections")
+@Description("Loading of a class that was not cached by a class resolver")
+final class ClassResolutionEvent extends Event {
+
+  @Label("Class")
+  String className;
+
+  @Label("Outcome")
+  String outcome;
+}
@@ -0,0 +1,178 @@
+package xyz.tozymc.reflect.metrics;
+
+import java.lang.reflect.Member;
+import java.util.Arrays;
+import jdk.jfr.EventType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import xyz.tozymc.reflect.accessor.Accessor;
+import xyz.tozymc.reflect.accessor.Accessor.Query;
+import xyz.tozymc.reflect.accessor.AccessorBackend;
+import xyz.tozymc.reflect.accessor.generator.AccessorGenerator;
+
+/**
+ * Emits JDK Flight Recorder events of resolutions and slow invocations.
+ *
+ * <p>This is the implementation of the multi-release jar for Java 11 and later. Events are only
+ * created while a recording enables them, so this class costs a check of the event type otherwise.
+ *
+ * <p>Events are emitted for:
+ *
+ * <ul>
+ *   <li>Resolutions of accessors that are not cached yet, with the query, the backend of the
+ *   accessor and the outcome.</li>
+ *   <li>Resolutions of classes that are not cached yet, with the class name and the outcome.</li>
+ *   <li>Invocations through accessors taking at least {@value #INVOCATION_THRESHOLD_PROPERTY}
+ *   nanoseconds, one millisecond by default, with the member and the backend.</li>
+ * </ul>
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+public final class Events {
+
+  /**
+   * The system property of the minimum duration of invocation events, in nanoseconds.
+   */
+  public static final String INVOCATION_THRESHOLD_PROPERTY = "treflections.jfr.invocationThreshold";
+
+  private static final long INVOCATION_THRESHOLD =
+      Long.getLong(INVOCATION_THRESHOLD_PROPERTY, 1_000_000L);
+  private static final EventType INVOCATION_TYPE = EventType.getEventType(InvocationEvent.class);
+
+  private Events() {}
+
+  /**
+   * Begins the event of an accessor resolution.
+   *
+   * @return The event, or {@code null} if the event is disabled.
+   */
+  public static @Nullable Object beginAccessorResolution() {
+    AccessorResolutionEvent event = new AccessorResolutionEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends and commits the event of an accessor resolution.
+   *
+   * @param event    The event from {@link #beginAccessorResolution()}.
+   * @param query    The query resolved.
+   * @param accessor The accessor resolved, or {@code null} if no member was found.
+   */
+  public static void endAccessorResolution(@Nullable Object event, @NotNull Query query,
+      @Nullable Accessor accessor) {
+    if (event != null) {
+      commit((AccessorResolutionEvent) event, query.toString(), query.clazz(), accessor);
+    }
+  }
+
+  /**
+   * Ends and commits the event of an accessor resolution from fallback queries.
+   *
+   * @param event    The event from {@link #beginAccessorResolution()}.
+   * @param queries  The queries resolved.
+   * @param accessor The accessor resolved, or {@code null} if no member was found.
+   */
+  public static void endAccessorResolution(@Nullable Object event, Query @NotNull [] queries,
+      @Nullable Accessor accessor) {
+    if (event != null) {
+      Class<?> clazz = Arrays.stream(queries)
+          .filter(query -> query != null)
+          .findFirst()
+          .map(Query::clazz)
+          .orElse(null);
+      commit((AccessorResolutionEvent) event, Arrays.toString(queries), clazz, accessor);
+    }
+  }
+
+  /**
+   * Begins the event of a class resolution.
+   *
+   * @return The event, or {@code null} if the event is disabled.
+   */
+  public static @Nullable Object beginClassResolution() {
+    ClassResolutionEvent event = new ClassResolutionEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends and commits the event of a class resolution.
+   *
+   * @param event The event from {@link #beginClassResolution()}.
+   * @param name  Qualified name of the class.
+   * @param clazz The class resolved, or {@code null} if the class was not found.
+   */
+  public static void endClassResolution(@Nullable Object event, @NotNull String name,
+      @Nullable Class<?> clazz) {
+    if (event == null) {
+      return;
+    }
+    ClassResolutionEvent resolution = (ClassResolutionEvent) event;
+    resolution.end();
+    if (resolution.shouldCommit()) {
+      resolution.className = name;
+      resolution.outcome = clazz == null ? "not found" : "resolved";
+      resolution.commit();
+    }
+  }
+
+  /**
+   * Checks if invocation events are enabled, so invocations must be timed.
+   *
+   * @return True if invocation events are enabled.
+   */
+  public static boolean isInvocationEnabled() {
+    return INVOCATION_TYPE.isEnabled();
+  }
+
+  /**
+   * Commits the event of an invocation, if it took at least the threshold.
+   *
+   * @param member   The member invoked.
+   * @param accessor The accessor used.
+   * @param nanos    Duration of the invocation, in nanoseconds.
+   */
+  public static void invocation(@NotNull Member member, @NotNull Accessor accessor, long nanos) {
+    if (nanos < INVOCATION_THRESHOLD) {
+      return;
+    }
+    InvocationEvent event = new InvocationEvent();
+    if (event.shouldCommit()) {
+      event.className = member.getDeclaringClass().getName();
+      event.member = member.getName();
+      event.backend = backend(accessor);
+      event.invocationTime = nanos;
+      event.commit();
+    }
+  }
+
+  private static void commit(AccessorResolutionEvent event, String query, Class<?> clazz,
+      Accessor accessor) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.query = query;
+      event.className = clazz == null ? null : clazz.getName();
+      event.backend = accessor == null ? null : backend(accessor);
+      event.outcome = accessor == null ? "not found" : "resolved";
+      event.commit();
+    }
+  }
+
+  private static String backend(Accessor accessor) {
+    AccessorBackend backend = accessor.backend();
+    if (backend != null) {
+      return backend.name();
+    }
+    // Constructed directly rather than by a backend.
+    return AccessorGenerator.isGenerated(accessor.getClass()) ? AccessorBackend.GENERATED.name()
+        : AccessorBackend.METHOD_HANDLE.name();
+  }
+}
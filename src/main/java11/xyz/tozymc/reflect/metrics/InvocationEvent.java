@@ -0,0 +1,38 @@
+package xyz.tozymc.reflect.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of an invocation through an accessor that took at least the threshold.
+ *
+ * <p>The invocation is timed by the accessor, the event is committed after it returns, so its
+ * duration is in {@link #invocationTime}.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+@Name("xyz.tozymc.reflect.Invocation")
+@Label("Slow Accessor Invocation")
+@Category("TReflections")
+@Description("Invocation through an accessor that took at least the threshold")
+final class InvocationEvent extends Event {
+
+  @Label("Class")
+  String className;
+
+  @Label("Member")
+  String member;
+
+  @Label("Backend")
+  @Description("Backend of the accessor")
+  String backend;
+
+  @Label("Invocation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long invocationTime;
+}
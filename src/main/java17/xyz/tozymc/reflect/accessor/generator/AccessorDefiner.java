@@ -0,0 +1,94 @@
+package xyz.tozymc.reflect.accessor.generator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defines generated accessor classes.
+ *
+ * <p>This is the implementation of the multi-release jar for Java 17 and later, which defines
+ * hidden classes in the package of this class. A hidden class needs no class loader of its own, is
+ * not discoverable by name and is unloaded as soon as its accessor is unreachable.
+ *
+ * <p>Hidden classes link against the class loader of this library. If that loader cannot see one
+ * of the classes the member refers to, such as a class of another plugin, the class is defined in
+ * its own {@link AccessorClassLoader} instead.
+ *
+ * @author TozyMC
+ * @since 1.1
+ */
+final class AccessorDefiner {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private AccessorDefiner() {}
+
+  /**
+   * Gets the internal name of the package of generated classes, with the trailing slash.
+   *
+   * <p>Not a constant, so callers are not compiled against the package of one tier.
+   *
+   * @return The internal name of the package.
+   */
+  static String packageName() {
+    return "xyz/tozymc/reflect/accessor/generator/";
+  }
+
+  /**
+   * Defines the generated accessor class of the member.
+   *
+   * @param member         The member the class accesses.
+   * @param name           Internal name of the class.
+   * @param bytes          The class file.
+   * @param libraryClasses The accessor classes of this library, by binary name.
+   * @return The defined class.
+   * @throws IllegalAccessException If the hidden class cannot be defined.
+   */
+  static Class<?> define(Member member, String name, byte[] bytes,
+      Map<String, Class<?>> libraryClasses) throws IllegalAccessException {
+    if (!isLinkable(member)) {
+      AccessorClassLoader loader =
+          new AccessorClassLoader(member.getDeclaringClass().getClassLoader(), libraryClasses);
+      return loader.define(name.replace('/', '.'), bytes);
+    }
+    return LOOKUP.defineHiddenClass(bytes, false).lookupClass();
+  }
+
+  private static boolean isLinkable(Member member) {
+    List<Class<?>> types = new ArrayList<>();
+    types.add(member.getDeclaringClass());
+    if (member instanceof Field) {
+      types.add(((Field) member).getType());
+    } else if (member instanceof Method) {
+      types.add(((Method) member).getReturnType());
+      types.addAll(Arrays.asList(((Method) member).getParameterTypes()));
+    } else {
+      types.addAll(Arrays.asList(((Constructor<?>) member).getParameterTypes()));
+    }
+
+    ClassLoader loader = AccessorDefiner.class.getClassLoader();
+    for (Class<?> type : types) {
+      while (type.isArray()) {
+        type = type.getComponentType();
+      }
+      if (type.isPrimitive() || type.getClassLoader() == null) {
+        continue;
+      }
+      try {
+        if (Class.forName(type.getName(), false, loader) != type) {
+          return false;
+        }
+      } catch (ClassNotFoundException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,124 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class AccessorExceptionsTest {
+
+  private static final AccessorBackend[] BACKENDS = {AccessorBackend.REFLECTION,
+      AccessorBackend.METHOD_HANDLE, AccessorBackend.GENERATED};
+
+  @Test
+  void methodExceptionsAreWrappedInInvocationTargetException() throws Exception {
+    Method fail = Target.class.getMethod("fail", String.class);
+    for (AccessorBackend backend : BACKENDS) {
+      MethodAccessor accessor = method(backend, fail);
+      Target target = new Target("value");
+
+      assertTargetException(backend, () -> accessor.invoke(target, "bad"));
+      assertTargetException(backend, () -> accessor.invoke1(target, "bad"));
+    }
+  }
+
+  @Test
+  void constructorExceptionsAreWrappedInInvocationTargetException() throws Exception {
+    Constructor<Target> constructor = Target.class.getConstructor(String.class);
+    for (AccessorBackend backend : BACKENDS) {
+      ConstructorAccessor<Target> accessor = constructor(backend, constructor);
+
+      assertEquals("value", accessor.newInstance1("value").value, backend.name());
+      assertTargetException(backend, () -> accessor.newInstance("bad"));
+      assertTargetException(backend, () -> accessor.newInstance1("bad"));
+    }
+  }
+
+  @Test
+  void invalidArgumentsAreThrownUnwrapped() throws Exception {
+    Method fail = Target.class.getMethod("fail", String.class);
+    Method twice = Target.class.getMethod("twice", int.class);
+    Constructor<Target> constructor = Target.class.getConstructor(String.class);
+    for (AccessorBackend backend : BACKENDS) {
+      MethodAccessor failAccessor = method(backend, fail);
+      MethodAccessor twiceAccessor = method(backend, twice);
+      ConstructorAccessor<Target> constructorAccessor = constructor(backend, constructor);
+      Target target = new Target("value");
+
+      assertThrows(IllegalArgumentException.class, () -> failAccessor.invoke(target, 1));
+      assertThrows(IllegalArgumentException.class, () -> failAccessor.invoke1(target, 5));
+      assertThrows(IllegalArgumentException.class, () -> failAccessor.invoke(target));
+      assertThrows(IllegalArgumentException.class, () -> failAccessor.invoke(target, "a", "b"));
+      assertThrows(IllegalArgumentException.class, () -> failAccessor.invoke(new Object(), "a"));
+      assertThrows(NullPointerException.class, () -> failAccessor.invoke(null, "a"));
+      assertThrows(IllegalArgumentException.class, () -> twiceAccessor.invoke1(target, "a"));
+      assertThrows(IllegalArgumentException.class, () -> twiceAccessor.invoke1(target, 1L));
+      assertThrows(IllegalArgumentException.class, () -> constructorAccessor.newInstance(1));
+      assertThrows(IllegalArgumentException.class, () -> constructorAccessor.newInstance1(5));
+      assertThrows(IllegalArgumentException.class, constructorAccessor::newInstance0);
+      assertThrows(IllegalArgumentException.class, () -> constructorAccessor.newInstance("a", 1));
+    }
+  }
+
+  @Test
+  void invalidFieldAccessesAreThrownUnwrapped() throws Exception {
+    for (AccessorBackend backend : BACKENDS) {
+      FieldAccessor value = backend.field(Target.class.getField("value"));
+      FieldAccessor count = backend.field(Target.class.getField("count"));
+      assertNotNull(value, backend.name());
+      assertNotNull(count, backend.name());
+
+      assertThrows(NullPointerException.class, () -> value.get(null));
+      assertThrows(IllegalArgumentException.class, () -> value.get(new Object()));
+      assertThrows(IllegalArgumentException.class, () -> count.set(new Target("value"), "a"));
+    }
+  }
+
+  private static void assertTargetException(AccessorBackend backend, Executable executable) {
+    RuntimeException e = assertThrows(RuntimeException.class, executable);
+    assertTrue(e.getCause() instanceof InvocationTargetException,
+        backend.name() + " wraps " + e.getCause());
+    assertTrue(e.getCause().getCause() instanceof IllegalStateException,
+        backend.name() + " throws " + e.getCause().getCause());
+  }
+
+  private static MethodAccessor method(AccessorBackend backend, Method method) {
+    MethodAccessor accessor = backend.method(method);
+    assertNotNull(accessor, backend.name());
+    return accessor;
+  }
+
+  private static ConstructorAccessor<Target> constructor(AccessorBackend backend,
+      Constructor<Target> constructor) {
+    ConstructorAccessor<Target> accessor = backend.constructor(constructor);
+    assertNotNull(accessor, backend.name());
+    return accessor;
+  }
+
+  public static class Target {
+
+    public final String value;
+    public int count;
+
+    public Target(String value) {
+      if (value.equals("bad")) {
+        throw new IllegalStateException(value);
+      }
+      this.value = value;
+    }
+
+    public String fail(String message) {
+      throw new IllegalStateException(message);
+    }
+
+    public int twice(int x) {
+      return 2 * x;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+
+class AccessorsAllocationTest {
+
+  private static final int LOOKUPS = 200_000;
+  private static final Class<?>[] NO_PARAM_TYPES = {};
+  private static final Class<?>[] INT_PARAM_TYPES = {int.class};
+
+  @Test
+  void cachedLookupsDoNotAllocate() {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counters are not supported");
+
+    FieldAccessor field = Accessors.accessField(Target.class, "value");
+    MethodAccessor method = Accessors.accessMethod(Target.class, "add", INT_PARAM_TYPES);
+    ConstructorAccessor<?> constructor = Accessors.accessConstructor(Target.class, NO_PARAM_TYPES);
+    // Warm up, so the lookups are compiled and the counters read steady state.
+    lookup(LOOKUPS);
+
+    long threadId = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    lookup(LOOKUPS);
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+    assertEquals(0, allocated / LOOKUPS, "Bytes allocated per lookup");
+    assertSame(field, Accessors.accessField(Target.class, "value"));
+    assertSame(method, Accessors.accessMethod(Target.class, "add", INT_PARAM_TYPES));
+    assertSame(constructor, Accessors.accessConstructor(Target.class, NO_PARAM_TYPES));
+  }
+
+  private static void lookup(int times) {
+    for (int i = 0; i < times; i++) {
+      Accessors.accessField(Target.class, "value");
+      Accessors.accessMethod(Target.class, "add", INT_PARAM_TYPES);
+      Accessors.accessConstructor(Target.class, NO_PARAM_TYPES);
+    }
+  }
+
+  private static final class Target {
+
+    private int value;
+
+    private Target() {}
+
+    private int add(int amount) {
+      return value += amount;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import xyz.tozymc.reflect.accessor.Accessor.Query;
+import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+
+class AccessorsResolutionTest {
+
+  private static final int THREADS = 8;
+  private static final Query INITIALIZING_QUERY = QueryBuilder.builder(Initializing.class)
+      .type(Accessor.Type.FIELD)
+      .name("value")
+      .backend(AccessorBackend.FIELD_OFFSET)
+      .build();
+
+  @Test
+  void classInitializersCanAccessTheMemberBeingResolved() {
+    // Offset accessors of static fields run the initializer of the class while they are created.
+    FieldAccessor accessor = Accessors.accessField(INITIALIZING_QUERY);
+
+    assertNotNull(Initializing.accessor);
+    assertEquals(7, (int) Initializing.accessor.get(null));
+    assertEquals(7, (int) accessor.get(null));
+    assertSame(accessor, Accessors.accessField(INITIALIZING_QUERY));
+  }
+
+  @Test
+  void concurrentResolutionsShareTheAccessor() throws Exception {
+    Query query = QueryBuilder.builder(Target.class)
+        .type(Accessor.Type.METHOD)
+        .name("twice")
+        .paramTypes(int.class)
+        .build();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<MethodAccessor>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return Accessors.accessMethod(query);
+        }));
+      }
+      start.countDown();
+
+      MethodAccessor accessor = futures.get(0).get();
+      for (Future<MethodAccessor> future : futures) {
+        assertSame(accessor, future.get());
+      }
+      assertEquals(4, (int) accessor.invoke(new Target(), 2));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public static class Initializing {
+
+    public static int value = 7;
+    static final FieldAccessor accessor = Accessors.accessField(INITIALIZING_QUERY);
+  }
+
+  public static class Target {
+
+    public int twice(int x) {
+      return 2 * x;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BulkOperationsTest {
+
+  @Test
+  void iterablesLongerThanTheOutputAreRejected() throws Exception {
+    List<Target> targets = Arrays.asList(new Target(1), new Target(2), new Target(3));
+    // Not a collection, so the size is only known while iterating.
+    Iterable<Target> instances = targets::iterator;
+    FieldAccessor field = FieldAccessor.of(Target.class.getField("value"));
+    MethodAccessor method = new MethodAccessor(Target.class.getMethod("increment"));
+    Object[] out = new Object[2];
+
+    assertThrows(IllegalArgumentException.class, () -> field.getAll(instances, out));
+    assertArrayEquals(new Object[]{1, 2}, out);
+    assertThrows(IllegalArgumentException.class, () -> method.invokeAll(instances, out));
+    assertArrayEquals(new Object[]{2, 3}, out);
+    assertEquals(3, targets.get(2).value, "Instances beyond the output are not invoked");
+  }
+
+  @Test
+  void iterablesThatFitTheOutputAreWritten() throws Exception {
+    Iterable<Target> instances = Arrays.asList(new Target(1), new Target(2))::iterator;
+    FieldAccessor field = FieldAccessor.of(Target.class.getField("value"));
+    MethodAccessor method = new MethodAccessor(Target.class.getMethod("increment"));
+    Object[] out = new Object[3];
+
+    assertEquals(2, field.getAll(instances, out));
+    assertArrayEquals(new Object[]{1, 2, null}, out);
+    assertEquals(2, method.invokeAll(instances, null));
+  }
+
+  public static class Target {
+
+    public int value;
+
+    Target(int value) {
+      this.value = value;
+    }
+
+    public int increment() {
+      return ++value;
+    }
+  }
+}
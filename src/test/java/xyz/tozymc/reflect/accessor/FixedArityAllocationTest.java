@@ -0,0 +1,141 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import xyz.tozymc.reflect.accessor.generator.AccessorGenerator;
+
+class FixedArityAllocationTest {
+
+  private static final int CALLS = 200_000;
+
+  private static volatile Object sink;
+
+  @Test
+  void methodHandleInvocationsDoNotAllocate() throws Exception {
+    assertInvocationsDoNotAllocate(new MethodAccessor(hidden("twice", int.class)),
+        new MethodAccessor(hidden("pick", Object.class, int.class)),
+        new MethodAccessor(hidden("sum", double.class, double.class, double.class)));
+  }
+
+  @Test
+  void generatedInvocationsDoNotAllocate() throws Exception {
+    MethodAccessor twice = AccessorGenerator.generate(Target.class.getMethod("twice", int.class));
+    MethodAccessor pick =
+        AccessorGenerator.generate(Target.class.getMethod("pick", Object.class, int.class));
+    MethodAccessor sum = AccessorGenerator.generate(
+        Target.class.getMethod("sum", double.class, double.class, double.class));
+    assertNotNull(twice);
+    assertNotNull(pick);
+    assertNotNull(sum);
+    assertInvocationsDoNotAllocate(twice, pick, sum);
+  }
+
+  @Test
+  void instantiationsOnlyAllocateTheInstance() throws Exception {
+    ThreadMXBean threads = threads();
+    ConstructorAccessor<Target> handle =
+        new ConstructorAccessor<>(Target.class.getConstructor(int.class));
+    ConstructorAccessor<Target> generated =
+        AccessorGenerator.generate(Target.class.getConstructor(int.class));
+    assertNotNull(generated);
+
+    for (int i = 0; i < CALLS; i++) {
+      sink = new Target(i);
+      sink = handle.newInstance1(i);
+      sink = generated.newInstance1(i);
+    }
+
+    long threadId = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < CALLS; i++) {
+      sink = new Target(i);
+    }
+    long direct = threads.getThreadAllocatedBytes(threadId) - before;
+
+    before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < CALLS; i++) {
+      sink = handle.newInstance1(i);
+      sink = generated.newInstance1(i);
+    }
+    long accessed = threads.getThreadAllocatedBytes(threadId) - before;
+
+    assertEquals(2 * direct / CALLS, accessed / CALLS, "Bytes allocated per instantiation");
+  }
+
+  private static void assertInvocationsDoNotAllocate(MethodAccessor twice, MethodAccessor pick,
+      MethodAccessor sum) {
+    ThreadMXBean threads = threads();
+    Target target = new Target(1);
+    invoke(twice, pick, sum, target);
+
+    long threadId = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    invoke(twice, pick, sum, target);
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+    assertEquals(0, allocated / CALLS, "Bytes allocated per invocation");
+  }
+
+  private static void invoke(MethodAccessor twice, MethodAccessor pick, MethodAccessor sum,
+      Target target) {
+    for (int i = 0; i < CALLS; i++) {
+      // Results stay within the Integer cache, so boxing them does not allocate either.
+      sink = twice.invoke1(target, i & 31);
+      sink = pick.invoke2(target, target, i & 31);
+      sink = sum.invoke3(target, 1.0, 2.0, i & 31);
+    }
+  }
+
+  private static ThreadMXBean threads() {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counters are not supported");
+    return threads;
+  }
+
+  private static Method hidden(String name, Class<?>... paramTypes)
+      throws NoSuchMethodException {
+    return Hidden.class.getDeclaredMethod(name, paramTypes);
+  }
+
+  public static class Target {
+
+    public final int value;
+
+    public Target(int value) {
+      this.value = value;
+    }
+
+    public int twice(int x) {
+      return 2 * x;
+    }
+
+    public Object pick(Object value, int index) {
+      return index < 0 ? value : this;
+    }
+
+    public int sum(double a, double b, double c) {
+      return (int) (a + b + c);
+    }
+  }
+
+  private static final class Hidden {
+
+    private static int twice(int x) {
+      return 2 * x;
+    }
+
+    private static Object pick(Object value, int index) {
+      return index < 0 ? null : value;
+    }
+
+    private static int sum(double a, double b, double c) {
+      return (int) (a + b + c);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PromotionTest {
+
+  private static final int THREADS = 8;
+  private static final int CALLS = 10_000;
+
+  @Test
+  void promotesOnceTheThresholdIsCrossed() throws Exception {
+    Method method = Counter.class.getMethod("increment");
+    MethodAccessor cold = AccessorBackend.REFLECTION.method(method);
+    MethodAccessor hot = AccessorBackend.METHOD_HANDLE.method(method);
+    AtomicInteger promotions = new AtomicInteger();
+    Promotion<MethodAccessor> promotion = new Promotion<>(cold, () -> {
+      promotions.incrementAndGet();
+      return hot;
+    }, 3);
+
+    for (int i = 0; i < 3; i++) {
+      assertSame(cold, promotion.next());
+    }
+    assertFalse(promotion.isPromoted());
+    assertSame(hot, promotion.next());
+    assertSame(hot, promotion.next());
+    assertSame(hot, promotion.current());
+    assertTrue(promotion.isPromoted());
+    assertEquals(1, promotions.get());
+  }
+
+  @Test
+  void failedPromotionsStayColdWithoutRetrying() throws Exception {
+    MethodAccessor cold = AccessorBackend.REFLECTION.method(Counter.class.getMethod("increment"));
+    AtomicInteger promotions = new AtomicInteger();
+    Promotion<MethodAccessor> promotion = new Promotion<>(cold, () -> {
+      promotions.incrementAndGet();
+      throw new IllegalStateException("Not supported");
+    }, 0);
+
+    for (int i = 0; i < 100; i++) {
+      assertSame(cold, promotion.next());
+    }
+    assertFalse(promotion.isPromoted());
+    assertEquals(1, promotions.get());
+  }
+
+  @Test
+  void concurrentPromotionsLoseNoCalls() throws Exception {
+    Method method = Counter.class.getMethod("increment");
+    AtomicInteger promotions = new AtomicInteger();
+    Promotion<MethodAccessor> promotion =
+        new Promotion<>(AccessorBackend.REFLECTION.method(method), () -> {
+          promotions.incrementAndGet();
+          return AccessorBackend.GENERATED.method(method);
+        }, 100);
+    Counter counter = new Counter();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < CALLS; j++) {
+            promotion.next().invoke(counter);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(THREADS * CALLS, counter.count.get());
+    assertTrue(promotion.isPromoted());
+    assertEquals(1, promotions.get());
+  }
+
+  public static class Counter {
+
+    final AtomicInteger count = new AtomicInteger();
+
+    public int increment() {
+      return count.incrementAndGet();
+    }
+  }
+}
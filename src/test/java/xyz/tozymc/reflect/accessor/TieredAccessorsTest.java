@@ -0,0 +1,134 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class TieredAccessorsTest {
+
+  private static final int THRESHOLD = 5;
+  private static final int THREADS = 8;
+  private static final int CALLS = 10_000;
+  private static final BackendPolicy POLICY =
+      BackendPolicy.builder().promotionThreshold(THRESHOLD).build();
+
+  @Test
+  void methodAccessorsArePromotedAfterTheThreshold() throws Exception {
+    MethodAccessor accessor = POLICY.newMethod(Target.class.getMethod("twice", int.class), null);
+    Target target = new Target();
+
+    for (int i = 0; i < THRESHOLD; i++) {
+      assertSame(AccessorBackend.REFLECTION, accessor.backend());
+      assertEquals(2 * i, (int) accessor.invoke1(target, i));
+    }
+    assertEquals(2, (int) accessor.invoke(target, 1));
+    assertSame(AccessorBackend.GENERATED, accessor.backend());
+    assertEquals(6, (int) accessor.invoke1(target, 3));
+  }
+
+  @Test
+  void fieldAccessorsArePromotedAfterTheThreshold() throws Exception {
+    FieldAccessor count = POLICY.newField(Target.class.getField("count"), null);
+    FieldAccessor name = POLICY.newField(Target.class.getField("name"), null);
+    Target target = new Target();
+
+    assertTrue(count instanceof IntFieldAccessor);
+    for (int i = 0; i <= THRESHOLD; i++) {
+      assertSame(AccessorBackend.REFLECTION, count.backend());
+      count.setInt(target, i);
+      name.set(target, "name" + i);
+    }
+    assertSame(AccessorBackend.GENERATED, count.backend());
+    assertSame(AccessorBackend.GENERATED, name.backend());
+    assertEquals(THRESHOLD, count.getInt(target));
+    assertEquals("name" + THRESHOLD, name.get(target));
+    count.set(target, 42);
+    assertEquals(42, target.count);
+  }
+
+  @Test
+  void errorsAreTheSameBeforeAndAfterPromotion() throws Exception {
+    Method fail = Target.class.getMethod("fail");
+    Method twice = Target.class.getMethod("twice", int.class);
+    MethodAccessor failAccessor = POLICY.newMethod(fail, null);
+    MethodAccessor twiceAccessor = POLICY.newMethod(twice, null);
+    FieldAccessor count = POLICY.newField(Target.class.getField("count"), null);
+    Target target = new Target();
+
+    for (int i = 0; i <= THRESHOLD + 1; i++) {
+      RuntimeException e = assertThrows(RuntimeException.class, () -> failAccessor.invoke(target));
+      assertTrue(e.getCause() instanceof InvocationTargetException);
+      assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+      assertThrows(IllegalArgumentException.class, () -> twiceAccessor.invoke1(target, "a"));
+      assertThrows(NullPointerException.class, () -> twiceAccessor.invoke1(null, 1));
+      assertThrows(IllegalArgumentException.class, () -> count.getInt(new Object()));
+      assertThrows(IllegalArgumentException.class, () -> count.set(target, "a"));
+    }
+    assertSame(AccessorBackend.GENERATED, failAccessor.backend());
+    assertSame(AccessorBackend.GENERATED, twiceAccessor.backend());
+    assertSame(AccessorBackend.GENERATED, count.backend());
+  }
+
+  @Test
+  void concurrentInvocationsLoseNoCallsWhilePromoted() throws Exception {
+    MethodAccessor accessor = POLICY.newMethod(Target.class.getMethod("increment"), null);
+    Target target = new Target();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < CALLS; j++) {
+            accessor.invoke(target);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(THREADS * CALLS, target.increments());
+    assertSame(AccessorBackend.GENERATED, accessor.backend());
+  }
+
+  public static class Target {
+
+    public int count;
+    public String name;
+    private int increments;
+
+    public int twice(int x) {
+      return 2 * x;
+    }
+
+    public void fail() {
+      throw new IllegalStateException("fail");
+    }
+
+    public synchronized void increment() {
+      increments++;
+    }
+
+    synchronized int increments() {
+      return increments;
+    }
+  }
+}
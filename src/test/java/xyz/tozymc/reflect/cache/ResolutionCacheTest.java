@@ -0,0 +1,134 @@
+package xyz.tozymc.reflect.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class ResolutionCacheTest {
+
+  private static final String VERSION = "v1_17_R1";
+  private static final String MISSING_CLASS = "net.minecraft.server.Missing";
+
+  @Test
+  void resolutionsSurviveRoundTrip() throws Exception {
+    Path file = tempFile();
+    Path jar = testClasses();
+    try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+      cache.recordMissingClass(MISSING_CLASS);
+      assertNull(cache.field(Child.class, "missing"));
+      assertEquals(Parent.class.getField("inherited"), cache.field(Child.class, "inherited"));
+      assertEquals(Constant.class.getField("CONSTANT"), cache.field(Child.class, "CONSTANT"));
+      assertEquals(Parent.class.getMethod("parentMethod", int.class),
+          cache.method(Child.class, "parentMethod", new Class<?>[]{int.class}));
+      cache.recordFallbackIndex(Child.class, "chain", 2);
+    }
+    String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+    assertTrue(content.contains(Parent.class.getName()), "Stores the declaring class");
+    assertTrue(content.contains(Constant.class.getName()), "Stores the declaring interface");
+
+    try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+      assertTrue(cache.isMissingClass(MISSING_CLASS));
+      assertNull(cache.field(Child.class, "missing"));
+      assertEquals(Parent.class.getField("inherited"), cache.field(Child.class, "inherited"));
+      assertEquals(Constant.class.getField("CONSTANT"), cache.field(Child.class, "CONSTANT"));
+      Method method = cache.method(Child.class, "parentMethod", new Class<?>[]{int.class});
+      assertEquals(Parent.class.getMethod("parentMethod", int.class), method);
+      assertEquals(2, cache.fallbackIndex("chain"));
+      assertEquals(-1, cache.fallbackIndex("unknown"));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void resolutionsOfAnotherJarAreIgnored() throws Exception {
+    Path file = tempFile();
+    Path jar = Files.createTempFile("treflections", ".jar");
+    try {
+      Files.write(jar, new byte[]{1});
+      try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+        cache.recordMissingClass(MISSING_CLASS);
+      }
+      try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+        assertTrue(cache.isMissingClass(MISSING_CLASS));
+      }
+      try (ResolutionCache cache = ResolutionCache.open(file, "v1_16_R3", jar)) {
+        assertFalse(cache.isMissingClass(MISSING_CLASS), "Written for another version");
+      }
+
+      Files.write(jar, new byte[]{1, 2});
+      try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+        assertFalse(cache.isMissingClass(MISSING_CLASS), "Written for another jar");
+      }
+    } finally {
+      Files.delete(file);
+      Files.delete(jar);
+    }
+  }
+
+  @Test
+  void truncatedFilesAreIgnored() throws Exception {
+    Path file = tempFile();
+    Path jar = testClasses();
+    try {
+      try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+        cache.recordMissingClass(MISSING_CLASS);
+        cache.field(Child.class, "inherited");
+      }
+      byte[] bytes = Files.readAllBytes(file);
+      // Magic, format version, fingerprint, version and slot count.
+      int header = 4 + 4 + 8 + 2 + VERSION.length() + 4;
+      for (int length : new int[]{bytes.length - 3, header + 8, header, 10, 0}) {
+        Files.write(file, Arrays.copyOf(bytes, length));
+        try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+          if (length <= header) {
+            assertFalse(cache.isMissingClass(MISSING_CLASS), "Reads " + length + " bytes");
+          }
+          assertEquals(Parent.class.getField("inherited"), cache.field(Child.class, "inherited"));
+          assertEquals(-1, cache.fallbackIndex("chain"));
+        }
+        try (ResolutionCache cache = ResolutionCache.open(file, VERSION, jar)) {
+          assertEquals(Parent.class.getField("inherited"), cache.field(Child.class, "inherited"));
+        }
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static Path tempFile() throws IOException {
+    Path file = Files.createTempFile("treflections", ".cache");
+    Files.delete(file);
+    return file;
+  }
+
+  private static Path testClasses() throws URISyntaxException {
+    return Paths.get(ResolutionCacheTest.class.getProtectionDomain().getCodeSource().getLocation()
+        .toURI());
+  }
+
+  public interface Constant {
+
+    int CONSTANT = 1;
+  }
+
+  public static class Parent {
+
+    public int inherited;
+
+    public void parentMethod(int value) {}
+  }
+
+  public static class Child extends Parent implements Constant {}
+}
@@ -0,0 +1,162 @@
+package xyz.tozymc.reflect.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class MappingIndexTest {
+
+  private static final String PREFIX = "xyz/tozymc/reflect/mapping/MappingIndexTest$";
+  private static final String ENTITY = "net.minecraft.world.entity.Entity";
+
+  private static final String[] PRO_GUARD = {
+      "# compiler: R8",
+      ENTITY + " -> a:",
+      "    int health -> a",
+      "    java.lang.String[] names -> b",
+      "    1:5:void tick() -> c",
+      "    void move(double,int[][]," + ENTITY + "):10:12 -> d",
+      "    boolean[] flags(long,java.lang.String[]) -> e",
+      "    7:7:void <init>() -> <init>",
+      "net.minecraft.world.entity.player.Player -> b:",
+      "    void jump(" + ENTITY + "[]) -> a",
+      "net.minecraft.world.Nameable -> c:",
+      "    int NAME_LENGTH -> a",
+      "    java.lang.String getName() -> b",
+      "net.minecraft.world.Unmapped -> d:"
+  };
+  private static final String[] CLASSES_CSRG = {
+      "# Spigot class names",
+      "a " + PREFIX + "Entity",
+      "b " + PREFIX + "Player",
+      "c " + PREFIX + "Nameable"
+  };
+  private static final String[] MEMBERS_CSRG = {
+      PREFIX + "Entity a health",
+      PREFIX + "Entity d (D[[IL" + PREFIX + "Entity;)V move",
+      PREFIX + "Player a ([L" + PREFIX + "Entity;)V jump"
+  };
+
+  @Test
+  void classesAreMappedThroughBothFormats() throws Exception {
+    Path dir = Files.createTempDirectory("treflections");
+    try (MappingIndex index = open(dir)) {
+      assertEquals(Entity.class.getName(), index.mapClass(ENTITY));
+      assertEquals(Nameable.class.getName(), index.mapClass("net.minecraft.world.Nameable"));
+      assertEquals("d", index.mapClass("net.minecraft.world.Unmapped"));
+      assertEquals("java.lang.String", index.mapClass("java.lang.String"));
+    } finally {
+      delete(dir);
+    }
+  }
+
+  @Test
+  void membersAreMappedByDescriptor() throws Exception {
+    Path dir = Files.createTempDirectory("treflections");
+    try (MappingIndex index = open(dir)) {
+      assertEquals("health", index.mapField(Entity.class, "health"));
+      assertEquals("b", index.mapField(Entity.class, "names"));
+      assertEquals("c", index.mapMethod(Entity.class, "tick", new Class<?>[0]));
+      assertEquals("move", index.mapMethod(Entity.class, "move",
+          new Class<?>[]{double.class, int[][].class, Entity.class}));
+      assertEquals("e", index.mapMethod(Entity.class, "flags",
+          new Class<?>[]{long.class, String[].class}));
+      assertEquals("jump", index.mapMethod(Player.class, "jump",
+          new Class<?>[]{Entity[].class}));
+
+      assertEquals("tick", index.mapMethod(Entity.class, "tick", new Class<?>[]{int.class}));
+      assertEquals("move", index.mapMethod(Entity.class, "move", new Class<?>[0]));
+      assertEquals("<init>", index.mapMethod(Entity.class, "<init>", new Class<?>[0]));
+      assertEquals("unknown", index.mapField(Entity.class, "unknown"));
+    } finally {
+      delete(dir);
+    }
+  }
+
+  @Test
+  void inheritedMembersAreMappedBySupertypes() throws Exception {
+    Path dir = Files.createTempDirectory("treflections");
+    try (MappingIndex index = open(dir)) {
+      assertEquals("b", index.mapField(Player.class, "names"));
+      assertEquals("c", index.mapMethod(Player.class, "tick", new Class<?>[0]));
+      assertEquals("a", index.mapField(Player.class, "NAME_LENGTH"));
+      assertEquals("b", index.mapMethod(Player.class, "getName", new Class<?>[0]));
+      assertEquals("b", index.mapMethod(Nameable.class, "getName", new Class<?>[0]));
+    } finally {
+      delete(dir);
+    }
+  }
+
+  @Test
+  void compiledIndexHasHeader() throws Exception {
+    Path dir = Files.createTempDirectory("treflections");
+    try {
+      Path index = dir.resolve("mappings.bin");
+      MappingIndex.compile(index, write(dir, "server.txt", PRO_GUARD),
+          write(dir, "bukkit-cl.csrg", CLASSES_CSRG),
+          write(dir, "bukkit-members.csrg", MEMBERS_CSRG));
+
+      ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(index));
+      assertEquals(MappingIndex.MAGIC, header.getInt(0));
+      assertEquals(MappingIndex.FORMAT_VERSION, header.getInt(4));
+      int slotCount = header.getInt(16);
+      assertEquals(1, Integer.bitCount(slotCount));
+      assertTrue(slotCount >= MappingIndex.MIN_SLOTS, "Slot count " + slotCount);
+      assertTrue(header.getInt(20) > 0, "Entry count " + header.getInt(20));
+
+      // Without mapping files, the compiled index is used as it is.
+      try (MappingIndex opened = MappingIndex.open(index)) {
+        assertEquals(Entity.class.getName(), opened.mapClass(ENTITY));
+      }
+    } finally {
+      delete(dir);
+    }
+  }
+
+  @Test
+  void malformedMappingsAreRejected() throws Exception {
+    Path dir = Files.createTempDirectory("treflections");
+    try {
+      Path mapping = write(dir, "server.txt", "    int health -> a", ENTITY + " -> a:");
+      assertThrows(UncheckedIOException.class,
+          () -> MappingIndex.compile(dir.resolve("mappings.bin"), mapping));
+    } finally {
+      delete(dir);
+    }
+  }
+
+  private static MappingIndex open(Path dir) throws IOException {
+    return MappingIndex.open(dir.resolve("mappings.bin"), write(dir, "server.txt", PRO_GUARD),
+        write(dir, "bukkit-cl.csrg", CLASSES_CSRG),
+        write(dir, "bukkit-members.csrg", MEMBERS_CSRG));
+  }
+
+  private static Path write(Path dir, String name, String... lines) throws IOException {
+    return Files.write(dir.resolve(name), Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+  private static void delete(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(dir);
+  }
+
+  public interface Nameable {}
+
+  public static class Entity implements Nameable {}
+
+  public static class Player extends Entity {}
+}
@@ -0,0 +1,113 @@
+package xyz.tozymc.reflect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+
+class MemberIndexTest {
+
+  private static final Class<?>[] NO_PARAMS = new Class<?>[0];
+
+  @Test
+  void inheritedMembersAreFound() throws Exception {
+    MemberIndex index = MemberIndex.of(Child.class);
+
+    assertNull(index.field("secret"));
+    assertEquals(Base.class.getDeclaredField("secret"), index.findField("secret"));
+    assertNull(index.method("hidden", NO_PARAMS));
+    assertEquals(Base.class.getDeclaredMethod("hidden"), index.findMethod("hidden", NO_PARAMS));
+    assertEquals(Object.class.getDeclaredMethod("hashCode"),
+        index.findMethod("hashCode", NO_PARAMS));
+    assertNull(index.findField("missing"));
+    assertNull(index.findMethod("hidden", new Class<?>[]{int.class}));
+  }
+
+  @Test
+  void interfaceFieldsShadowSuperclassFields() throws Exception {
+    assertEquals(Shadow.class.getField("SHADOWED"),
+        MemberIndex.of(Child.class).findField("SHADOWED"));
+    assertEquals(Base.class.getField("SHADOWED"),
+        MemberIndex.of(Base.class).findField("SHADOWED"));
+    assertEquals(Child.class.getDeclaredField("own"), MemberIndex.of(Child.class).findField("own"));
+  }
+
+  @Test
+  void superclassMethodsShadowInterfaceMethods() throws Exception {
+    MemberIndex index = MemberIndex.of(Child.class);
+
+    assertEquals(Base.class.getMethod("greet"), index.findMethod("greet", NO_PARAMS));
+    assertEquals(Greeter.class.getMethod("wave"), index.findMethod("wave", NO_PARAMS));
+    assertEquals(Child.class.getDeclaredMethod("toString"),
+        index.findMethod("toString", NO_PARAMS));
+  }
+
+  @Test
+  void inheritedOverloadsAreMerged() throws Exception {
+    MemberIndex index = MemberIndex.of(Child.class);
+    Method own = Child.class.getDeclaredMethod("greet", int.class);
+
+    assertEquals(own, index.findMethod("greet", new Class<?>[]{int.class}));
+    assertEquals(Base.class.getMethod("greet"), index.findMethod("greet", NO_PARAMS));
+    assertEquals(own, index.resolveMethod("greet", new Object[]{1}));
+    assertEquals(Base.class.getMethod("greet"), index.resolveMethod("greet", new Object[0]));
+    assertEquals(Greeter.class.getMethod("greet", String.class),
+        index.resolveMethod("greet", new Object[]{"name"}));
+  }
+
+  @Test
+  void indexIsSharedPerClass() {
+    assertSame(MemberIndex.of(Child.class), MemberIndex.of(Child.class));
+    assertSame(MemberIndex.of(Child.class).findField("secret"),
+        MemberIndex.of(Child.class).findField("secret"));
+  }
+
+  public interface Shadow {
+
+    int SHADOWED = 1;
+  }
+
+  public interface Greeter {
+
+    default String greet() {
+      return "interface";
+    }
+
+    default String greet(String name) {
+      return name;
+    }
+
+    default String wave() {
+      return "wave";
+    }
+  }
+
+  public static class Base {
+
+    public static int SHADOWED = 2;
+
+    private int secret;
+
+    public String greet() {
+      return "superclass";
+    }
+
+    private void hidden() {}
+  }
+
+  public static class Child extends Base implements Shadow, Greeter {
+
+    private int own;
+
+    public String greet(int times) {
+      return "child";
+    }
+
+    @Override
+    public String toString() {
+      return "child";
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package xyz.tozymc.reflect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class OverloadsTest {
+
+  @Test
+  void mostSpecificOverloadIsResolved() throws Exception {
+    Method object = method("take", Object.class);
+    Method charSequence = method("take", CharSequence.class);
+    Method string = method("take", String.class);
+    Overloads<Method> overloads = overloads(object, charSequence, string);
+
+    assertEquals(string, overloads.resolve(new Object[]{"a"}));
+    assertEquals(charSequence, overloads.resolve(new Object[]{new StringBuilder()}));
+    assertEquals(object, overloads.resolve(new Object[]{1}));
+    assertNull(overloads.resolve(new Object[0]));
+    assertNull(overloads.resolve(new Object[]{"a", "b"}));
+  }
+
+  @Test
+  void firstOverloadIsResolvedIfNoneIsMoreSpecific() throws Exception {
+    Method objectString = method("pair", Object.class, String.class);
+    Method stringObject = method("pair", String.class, Object.class);
+
+    assertEquals(objectString,
+        overloads(objectString, stringObject).resolve(new Object[]{"a", "b"}));
+    assertEquals(stringObject,
+        overloads(stringObject, objectString).resolve(new Object[]{"a", "b"}));
+  }
+
+  @Test
+  void subtypingIsPreferredToUnboxing() throws Exception {
+    Method primitive = method("num", long.class);
+    Method number = method("num", Number.class);
+
+    assertEquals(number, overloads(primitive, number).resolve(new Object[]{5}));
+    assertEquals(primitive, overloads(primitive).resolve(new Object[]{5}));
+    assertEquals(primitive, overloads(primitive).resolve(new Object[]{(byte) 5}));
+    assertNull(overloads(primitive).resolve(new Object[]{5.0}));
+    assertNull(overloads(primitive).resolve(new Object[]{true}));
+  }
+
+  @Test
+  void unboxedArgumentsResolveMostSpecificWidening() throws Exception {
+    Method wideDouble = method("wide", double.class);
+    Method wideLong = method("wide", long.class);
+    Overloads<Method> overloads = overloads(wideDouble, wideLong);
+
+    assertEquals(wideLong, overloads.resolve(new Object[]{5}));
+    assertEquals(wideLong, overloads.resolve(new Object[]{'c'}));
+    assertEquals(wideDouble, overloads.resolve(new Object[]{5f}));
+  }
+
+  @Test
+  void nullArgumentsMatchReferenceParameters() throws Exception {
+    Method object = method("take", Object.class);
+    Method string = method("take", String.class);
+    Method primitive = method("num", long.class);
+
+    assertEquals(string, overloads(object, string).resolve(new Object[]{null}));
+    assertNull(overloads(primitive).resolve(new Object[]{null}));
+  }
+
+  @Test
+  void bridgedMethodIsPreferredToBridge() throws Exception {
+    Method bridged = Covariant.class.getDeclaredMethod("get");
+    Method bridge = null;
+    for (Method method : Covariant.class.getDeclaredMethods()) {
+      if (method.isBridge()) {
+        bridge = method;
+      }
+    }
+    assertTrue(bridge != null && bridge.getReturnType() == Object.class, "Bridge " + bridge);
+    assertTrue(!bridged.isBridge() && bridged.getReturnType() == String.class, "Bridged");
+
+    assertEquals(bridged, overloads(bridge, bridged).resolve(new Object[0]));
+    assertEquals(bridged, overloads(bridged, bridge).resolve(new Object[0]));
+  }
+
+  @Test
+  void inlineCacheKeepsLastShapes() throws Exception {
+    Method object = method("take", Object.class);
+    Method charSequence = method("take", CharSequence.class);
+    Overloads<Method> overloads = overloads(object, charSequence);
+    Object[] args = {"a", 1, 1L, 1.0, 'c', new Object(), new StringBuilder(), new ArrayList<>(),
+        new int[0], null};
+
+    for (int round = 0; round < 2; round++) {
+      for (Object arg : args) {
+        Method expected = arg instanceof CharSequence || arg == null ? charSequence : object;
+        assertEquals(expected, overloads.resolve(new Object[]{arg}), "Resolves " + arg);
+      }
+      assertEquals(8, shapeCount(overloads), "Cached shapes");
+    }
+    // The shape of the string was evicted by later shapes
+    assertEquals(charSequence, overloads.resolve(new Object[]{"a"}));
+    assertEquals(object, overloads.resolve(new Object[]{1}));
+  }
+
+  @Test
+  void exactParameterTypesAreFound() throws Exception {
+    Method object = method("take", Object.class);
+    Method string = method("take", String.class);
+    Overloads<Method> overloads = overloads(object, string);
+
+    assertEquals(object, overloads.find(new Class<?>[]{Object.class}));
+    assertEquals(string, overloads.find(new Class<?>[]{String.class}));
+    assertNull(overloads.find(new Class<?>[]{CharSequence.class}));
+  }
+
+  private static Method method(String name, Class<?>... paramTypes) throws NoSuchMethodException {
+    return Target.class.getDeclaredMethod(name, paramTypes);
+  }
+
+  private static Overloads<Method> overloads(Method... methods) {
+    List<Class<?>[]> paramTypes = new ArrayList<>();
+    for (Method method : methods) {
+      paramTypes.add(method.getParameterTypes());
+    }
+    return Overloads.of(Arrays.asList(methods), paramTypes);
+  }
+
+  private static int shapeCount(Overloads<?> overloads) throws Exception {
+    Field shapes = Overloads.class.getDeclaredField("shapes");
+    shapes.setAccessible(true);
+    return ((Object[]) shapes.get(overloads)).length;
+  }
+
+  static class Target {
+
+    void take(Object value) {}
+
+    void take(CharSequence value) {}
+
+    void take(String value) {}
+
+    void pair(Object first, String second) {}
+
+    void pair(String first, Object second) {}
+
+    void num(long value) {}
+
+    void num(Number value) {}
+
+    void wide(double value) {}
+
+    void wide(long value) {}
+  }
+
+  static class Covariant implements Supplier<Object> {
+
+    @Override
+    public String get() {
+      return "value";
+    }
+  }
+}
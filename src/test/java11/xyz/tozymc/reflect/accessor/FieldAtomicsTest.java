@@ -0,0 +1,88 @@
+package xyz.tozymc.reflect.accessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FieldAtomicsTest {
+
+  @Test
+  void updatesIntAndLongFields() throws Exception {
+    Target target = new Target();
+    FieldAccessor count = new FieldAccessor(Target.class.getDeclaredField("count"));
+    FieldAccessor total = new FieldAccessor(Target.class.getDeclaredField("total"));
+
+    assertEquals(0, count.getAndAddInt(target, 5));
+    assertTrue(count.compareAndSetInt(target, 5, 7));
+    assertFalse(count.compareAndSetInt(target, 5, 9));
+    assertEquals(7, count.getAndSetInt(target, 1));
+    assertEquals(1, target.count);
+
+    assertEquals(0L, total.getAndAddLong(target, 3L));
+    assertTrue(total.compareAndSetLong(target, 3L, 4L));
+    assertEquals(4L, total.getAndSetLong(target, 8L));
+    assertEquals(8L, target.total);
+  }
+
+  @Test
+  void updatesFieldsUnsupportedByUnsafe() throws Exception {
+    Target target = new Target();
+    FieldAccessor ratio = new FieldAccessor(Target.class.getDeclaredField("ratio"));
+    FieldAccessor flag = new FieldAccessor(Target.class.getDeclaredField("flag"));
+
+    assertTrue(ratio.compareAndSet(target, 0.0, 1.5));
+    assertEquals(1.5, (double) ratio.getVolatile(target));
+    assertEquals(false, flag.getAndSet(target, true));
+    assertEquals(true, flag.getAcquire(target));
+  }
+
+  @Test
+  void orderedAccessesReadAndWriteTheField() throws Exception {
+    Target target = new Target();
+    FieldAccessor name = new FieldAccessor(Target.class.getDeclaredField("name"));
+
+    name.setRelease(target, "released");
+    assertEquals("released", name.getAcquire(target));
+    name.setVolatile(target, "volatile");
+    assertEquals("volatile", target.name);
+    assertTrue(name.compareAndSet(target, "volatile", "swapped"));
+    assertEquals("swapped", name.getAndSet(target, null));
+  }
+
+  @Test
+  void readsStaticFieldsOfUninitializedClasses() throws Exception {
+    Class<?> late = Class.forName(Late.class.getName(), false, Late.class.getClassLoader());
+    FieldAccessor value = new FieldAccessor(late.getDeclaredField("value"));
+
+    assertEquals(42, value.getAndAddInt(null, 1));
+    assertEquals(43, (int) value.getVolatile(null));
+  }
+
+  @Test
+  void rejectsWritesToFinalFieldsAndForeignInstances() throws Exception {
+    FieldAccessor constant = new FieldAccessor(Target.class.getDeclaredField("constant"));
+    FieldAccessor count = new FieldAccessor(Target.class.getDeclaredField("count"));
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> constant.setVolatile(new Target(), "changed"));
+    assertThrows(ClassCastException.class, () -> count.getAndAddInt(new Object(), 1));
+  }
+
+  private static final class Target {
+
+    private final String constant = "constant";
+    private int count;
+    private long total;
+    private double ratio;
+    private boolean flag;
+    private String name;
+  }
+
+  private static final class Late {
+
+    private static int value = 42;
+  }
+}
@@ -0,0 +1,102 @@
+package xyz.tozymc.reflect.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import xyz.tozymc.reflect.accessor.Accessor.QueryBuilder;
+import xyz.tozymc.reflect.accessor.Accessor.Type;
+import xyz.tozymc.reflect.accessor.AccessorBackend;
+import xyz.tozymc.reflect.accessor.Accessors;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+import xyz.tozymc.reflect.resolver.ClassResolver;
+
+class EventsTest {
+
+  private static final String ACCESSOR_RESOLUTION = "xyz.tozymc.reflect.AccessorResolution";
+  private static final String CLASS_RESOLUTION = "xyz.tozymc.reflect.ClassResolution";
+  private static final String INVOCATION = "xyz.tozymc.reflect.Invocation";
+
+  @Test
+  void recordsResolutionsAndSlowInvocations() throws Exception {
+    String missingName = Target.class.getName() + "Missing";
+    List<RecordedEvent> events = record(() -> {
+      ClassResolver.resolver().resolve(Target.class.getName());
+      assertThrows(RuntimeException.class, () -> ClassResolver.resolver().resolve(missingName));
+      MethodAccessor slow = Accessors.accessMethod(
+          QueryBuilder.builder(Target.class).type(Type.METHOD).name("slow")
+              .backend(AccessorBackend.REFLECTION).build());
+      slow.invoke(null);
+      slow.invoke(null);
+    });
+
+    RecordedEvent resolved = find(events, CLASS_RESOLUTION, "className", Target.class.getName());
+    assertEquals("resolved", resolved.getString("outcome"));
+    RecordedEvent missing = find(events, CLASS_RESOLUTION, "className", missingName);
+    assertEquals("not found", missing.getString("outcome"));
+
+    RecordedEvent accessor =
+        find(events, ACCESSOR_RESOLUTION, "className", Target.class.getName());
+    assertEquals("resolved", accessor.getString("outcome"));
+    assertTrue(accessor.getString("query").contains("slow"));
+    assertEquals("REFLECTION", accessor.getString("backend"));
+
+    RecordedEvent invocation = find(events, INVOCATION, "member", "slow");
+    assertEquals(Target.class.getName(), invocation.getString("className"));
+    assertEquals("REFLECTION", invocation.getString("backend"));
+    assertTrue(invocation.getLong("invocationTime") >= 1_000_000L);
+    assertEquals(2, events.stream().filter(event -> isType(event, INVOCATION)).count());
+  }
+
+  private static List<RecordedEvent> record(Action action) throws Exception {
+    Path file = Files.createTempFile("treflections", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable(ACCESSOR_RESOLUTION);
+        recording.enable(CLASS_RESOLUTION);
+        recording.enable(INVOCATION);
+        recording.start();
+        action.run();
+        recording.stop();
+        recording.dump(file);
+      }
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static RecordedEvent find(List<RecordedEvent> events, String type, String field,
+      String value) {
+    Optional<RecordedEvent> found = events.stream()
+        .filter(event -> isType(event, type) && value.equals(event.getString(field)))
+        .findFirst();
+    assertTrue(found.isPresent(), "No " + type + " event with " + field + " " + value);
+    return found.get();
+  }
+
+  private static boolean isType(RecordedEvent event, String type) {
+    return event.getEventType().getName().equals(type);
+  }
+
+  @FunctionalInterface
+  private interface Action {
+
+    void run() throws Exception;
+  }
+
+  public static final class Target {
+
+    public static void slow() throws InterruptedException {
+      Thread.sleep(5);
+    }
+  }
+}
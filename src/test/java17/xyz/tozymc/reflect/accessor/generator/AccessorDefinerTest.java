@@ -0,0 +1,83 @@
+package xyz.tozymc.reflect.accessor.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+import xyz.tozymc.reflect.accessor.MethodAccessor;
+
+class AccessorDefinerTest {
+
+  @Test
+  void definesHiddenClassesForLinkableMembers() throws Exception {
+    MethodAccessor accessor = AccessorGenerator.generate(Plugin.class.getMethod("twice", int.class));
+
+    assertNotNull(accessor);
+    assertTrue(accessor.getClass().isHidden(), "Accessor class is hidden");
+    assertEquals(8, (int) accessor.invoke1(new Plugin(), 4));
+  }
+
+  @Test
+  void fallsBackToClassLoaderForForeignMembers() throws Exception {
+    Class<?> foreign = new ChildFirstLoader().loadClass(Plugin.class.getName());
+    assertNotSame(Plugin.class, foreign);
+
+    MethodAccessor accessor = AccessorGenerator.generate(foreign.getMethod("twice", int.class));
+
+    assertNotNull(accessor);
+    assertFalse(accessor.getClass().isHidden(), "Accessor class is hidden");
+    assertTrue(accessor.getClass().getClassLoader() instanceof AccessorClassLoader,
+        "Accessor class is defined by an AccessorClassLoader");
+    assertEquals(8, (int) accessor.invoke1(foreign.getConstructor().newInstance(), 4));
+  }
+
+  public static class Plugin {
+
+    public Plugin() {}
+
+    public int twice(int x) {
+      return 2 * x;
+    }
+  }
+
+  /**
+   * Defines its own copy of {@link Plugin}, like the class loader of another plugin would.
+   */
+  private static final class ChildFirstLoader extends ClassLoader {
+
+    ChildFirstLoader() {
+      super(AccessorDefinerTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!name.equals(Plugin.class.getName())) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> type = findLoadedClass(name);
+        if (type == null) {
+          byte[] bytes = read(name.replace('.', '/') + ".class");
+          type = defineClass(name, bytes, 0, bytes.length);
+        }
+        return type;
+      }
+    }
+
+    private byte[] read(String resource) throws ClassNotFoundException {
+      try (InputStream in = getParent().getResourceAsStream(resource)) {
+        if (in == null) {
+          throw new ClassNotFoundException(resource);
+        }
+        return in.readAllBytes();
+      } catch (IOException e) {
+        throw new ClassNotFoundException(resource, e);
+      }
+    }
+  }
+}